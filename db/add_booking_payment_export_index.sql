@@ -0,0 +1,6 @@
+-- Index for the streamed CSV payment exports
+-- (/api/owner/hotels/{id}/payments/export, /api/admin/payments/export) - rows are read
+-- newest first by booking date, optionally limited to a date range
+
+CREATE INDEX idx_bookings_hotel_booking_date ON bookings(hotel_id, booking_date, id);
+CREATE INDEX idx_bookings_booking_date ON bookings(booking_date, id);
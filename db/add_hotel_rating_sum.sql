@@ -0,0 +1,24 @@
+-- Running star total per hotel
+-- A new or deleted review now adjusts rating / rating_count / rating_sum with one UPDATE
+-- instead of re-running AVG + COUNT over the hotel's reviews
+
+ALTER TABLE hotels ADD COLUMN rating_sum BIGINT DEFAULT 0;
+
+-- Seed the running totals from the reviews that already exist
+UPDATE hotels h
+LEFT JOIN (
+    SELECT hotel_id, SUM(rating) AS total, COUNT(*) AS cnt
+    FROM reviews
+    GROUP BY hotel_id
+) r ON r.hotel_id = h.id
+SET h.rating_sum = COALESCE(r.total, 0),
+    h.rating_count = COALESCE(r.cnt, 0),
+    h.rating = CASE WHEN COALESCE(r.cnt, 0) > 0 THEN r.total / r.cnt ELSE 0 END,
+    h.rating_text = CASE
+        WHEN COALESCE(r.cnt, 0) = 0 THEN 'Not Rated'
+        WHEN r.total / r.cnt >= 4.5 THEN 'Excellent'
+        WHEN r.total / r.cnt >= 4.0 THEN 'Very Good'
+        WHEN r.total / r.cnt >= 3.5 THEN 'Good'
+        WHEN r.total / r.cnt >= 3.0 THEN 'Average'
+        ELSE 'Below Average'
+    END;
@@ -0,0 +1,27 @@
+-- Per-hotel review histogram + review feed index
+-- hotel_review_stats is kept in step with reviews by HotelRatingService, so the owner's
+-- review stats no longer load every review; the index backs the keyset-paginated feeds
+-- (/api/reviews/hotel/{id}/feed, /api/owner/hotels/{id}/reviews/feed) and the
+-- last-7/30-day counts
+
+CREATE TABLE IF NOT EXISTS hotel_review_stats (
+    hotel_id BIGINT PRIMARY KEY,
+    star1 BIGINT NOT NULL DEFAULT 0,
+    star2 BIGINT NOT NULL DEFAULT 0,
+    star3 BIGINT NOT NULL DEFAULT 0,
+    star4 BIGINT NOT NULL DEFAULT 0,
+    star5 BIGINT NOT NULL DEFAULT 0,
+
+    FOREIGN KEY (hotel_id) REFERENCES hotels(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Seed from existing reviews
+INSERT INTO hotel_review_stats (hotel_id, star1, star2, star3, star4, star5)
+SELECT hotel_id,
+       SUM(rating = 1), SUM(rating = 2), SUM(rating = 3), SUM(rating = 4), SUM(rating = 5)
+FROM reviews
+GROUP BY hotel_id
+ON DUPLICATE KEY UPDATE star1 = VALUES(star1), star2 = VALUES(star2), star3 = VALUES(star3),
+                        star4 = VALUES(star4), star5 = VALUES(star5);
+
+CREATE INDEX idx_reviews_hotel_created ON reviews(hotel_id, created_at, id);
@@ -0,0 +1,18 @@
+-- Location hotel counters + indexes
+-- locations.hotel_count is maintained on hotel create / move / delete; NULL means "not
+-- counted yet" and is filled in by a single GROUP BY city query the next time locations
+-- are listed. createLocationIfNotExists relies on city being unique.
+
+ALTER TABLE locations ADD COLUMN hotel_count BIGINT NULL;
+
+-- Drop duplicate cities before adding the unique key (keep the oldest row)
+DELETE l1 FROM locations l1
+JOIN locations l2 ON l1.city = l2.city AND l1.id > l2.id;
+
+ALTER TABLE locations ADD CONSTRAINT uk_locations_city UNIQUE (city);
+
+CREATE INDEX idx_hotels_city_status ON hotels(city, status);
+
+-- Seed the counters
+UPDATE locations l
+SET l.hotel_count = (SELECT COUNT(*) FROM hotels h WHERE h.city = l.city);
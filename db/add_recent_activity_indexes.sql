@@ -0,0 +1,5 @@
+-- Indexes for the admin dashboard "recent" widgets
+-- newest customers: WHERE user_role = ? ORDER BY user_id DESC LIMIT 5
+-- (recent hotels use the primary key; recent bookings use idx_bookings_booking_date)
+
+CREATE INDEX idx_users_role_id ON users(user_role, user_id);
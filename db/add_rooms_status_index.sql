@@ -0,0 +1,4 @@
+-- Index for the owner's filtered room list (/api/owner/hotels/{id}/room-list/page?status=)
+-- hotel + room type filtering is already covered by idx_rooms_hotel_type_active
+
+CREATE INDEX idx_rooms_hotel_status ON rooms(hotel_id, status, room_number);
@@ -0,0 +1,29 @@
+-- Move user avatars out of the users table
+-- Loading a User (login, JWT filter, bookings, reviews) no longer drags the blob along;
+-- avatars are streamed from user_images via GET /api/users/{id}/image
+
+CREATE TABLE IF NOT EXISTS user_images (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    content_type VARCHAR(100) NOT NULL,
+    size_bytes BIGINT NOT NULL,
+    data LONGBLOB NOT NULL,
+    created_on DATE,
+    last_updated DATETIME(6),
+    is_deleted BIT(1) DEFAULT 0,
+    deleted_at DATETIME(6),
+
+    CONSTRAINT uk_user_images_user UNIQUE (user_id),
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Copy existing avatars (content type was never stored, assume JPEG)
+INSERT INTO user_images (user_id, content_type, size_bytes, data, created_on, last_updated, is_deleted)
+SELECT u.user_id, 'image/jpeg', LENGTH(u.image), u.image, CURDATE(), NOW(6), 0
+FROM users u
+WHERE u.image IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM user_images ui WHERE ui.user_id = u.user_id);
+
+ALTER TABLE users DROP COLUMN image;
+
+SELECT 'User images moved to user_images' AS message;
@@ -119,6 +119,18 @@ const Cart = () => {
     setDateAvailability({});
   };
 
+  // Stay price from the nightly quotes loaded in startEdit (priced for item.rooms);
+  // nights outside the loaded range fall back to the base price
+  const quoteStay = (item, checkIn, checkOut, rooms) => {
+    const quotedFor = item.rooms || 1;
+    let perRoom = 0;
+    for (let d = new Date(checkIn); d < new Date(checkOut); d.setDate(d.getDate() + 1)) {
+      const quoted = dateAvailability[d.toISOString().split('T')[0]]?.quotedPrice;
+      perRoom += quoted != null ? quoted / quotedFor : item.basePrice;
+    }
+    return perRoom * rooms;
+  };
+
   // Save edited item
   const saveEdit = (index) => {
     const item = cartItems[index];
@@ -133,7 +145,7 @@ const Cart = () => {
           checkIn: editForm.checkIn,
           checkOut: editForm.checkOut,
           nights: nights,
-          price: item.basePrice * editForm.rooms * nights
+          price: quoteStay(item, editForm.checkIn, editForm.checkOut, editForm.rooms)
         };
       }
       return cartItem;
@@ -156,7 +168,8 @@ const Cart = () => {
         return {
           ...cartItem,
           rooms: newRooms,
-          price: item.basePrice * newRooms * nights
+          // Same nights, so the per-room stay price carries over
+          price: nights > 0 && item.price ? (item.price / (item.rooms || 1)) * newRooms : item.basePrice * newRooms * nights
         };
       }
       return cartItem;
@@ -1,4 +1,4 @@
-import { useState, useEffect } from "react";
+import { useState, useEffect, useRef } from "react";
 import { Link, useNavigate } from "react-router-dom";
 import {
   CreditCardIcon,
@@ -23,6 +23,12 @@ const Checkout = () => {
   const [cartItems, setCartItems] = useState([]);
   const [step, setStep] = useState(1); // 1: Details, 2: Payment, 3: Confirmation
   const [loading, setLoading] = useState(false);
+  // One Idempotency-Key per cart item, reused if "Pay" is retried so no booking is created twice
+  const idempotencyKeys = useRef({});
+  // Rooms held per cart item while the guest pays, so they cannot be taken in the meantime
+  const holdReferences = useRef({});
+  // Bookings already created per cart item, so retrying after a partial failure only books the rest
+  const bookedItems = useRef({});
   const [orderComplete, setOrderComplete] = useState(false);
 
   // Form state
@@ -53,13 +59,56 @@ const Checkout = () => {
     setCartItems(cart);
   }, [navigate]);
 
+  // Gives held rooms back; an expired or already booked hold is simply left as it is by the server
+  const releaseHolds = (indexes = Object.keys(holdReferences.current)) => {
+    indexes.forEach((index) => {
+      const reference = holdReferences.current[index];
+      if (!reference) return;
+      delete holdReferences.current[index];
+      api.delete(`/bookings/holds/${reference}`).catch(() => {});
+    });
+  };
+
+  // Leaving checkout before paying frees the rooms instead of blocking them until the hold expires
+  useEffect(() => () => releaseHolds(), []);
+
+  // Holds every cart item that has no hold yet; if any item cannot be held, none stay held
+  const placeHolds = async () => {
+    const results = await Promise.allSettled(cartItems.map(async (item, index) => {
+      if (holdReferences.current[index] || bookedItems.current[index]) return;
+      const response = await api.post('/bookings/holds', {
+        hotelId: item.hotelId,
+        roomTypeId: item.roomTypeId,
+        checkInDate: item.checkIn,
+        checkOutDate: item.checkOut,
+        rooms: item.rooms || 1
+      });
+      holdReferences.current[index] = response.holdReference;
+    }));
+    const failed = results.find((result) => result.status === 'rejected');
+    if (failed) {
+      releaseHolds();
+      throw failed.reason;
+    }
+  };
+
   const subtotal = cartItems.reduce((sum, item) => sum + (item.price || 0), 0);
   const taxes = subtotal * 0.18;
   const total = subtotal + taxes;
 
-  const handleGuestSubmit = (e) => {
+  const handleGuestSubmit = async (e) => {
     e.preventDefault();
-    setStep(2);
+    idempotencyKeys.current = {}; // guest details may have changed - new requests, new keys
+    setLoading(true);
+    try {
+      await placeHolds();
+      setStep(2);
+    } catch (error) {
+      console.error("Hold Error:", error);
+      toast.error(error.message || "Some rooms in your cart are no longer available");
+    } finally {
+      setLoading(false);
+    }
   };
 
   const handlePaymentSubmit = async (e) => {
@@ -67,8 +116,13 @@ const Checkout = () => {
     setLoading(true);
 
     try {
+      // Holds dropped after an earlier failed attempt are taken again first
+      await placeHolds();
+
       // Create bookings for each cart item
-      const bookingPromises = cartItems.map(item => {
+      const bookingPromises = cartItems.map(async (item, index) => {
+        if (bookedItems.current[index]) return bookedItems.current[index];
+
         // Validate required fields - don't use fallbacks that will cause backend errors
         if (!item.hotelId || !item.roomTypeId) {
           throw new Error(`Invalid booking: Missing hotel or room type for ${item.hotel}. Please re-add this item to your cart.`);
@@ -86,13 +140,26 @@ const Checkout = () => {
           guestFirstName: guestDetails.firstName,
           guestLastName: guestDetails.lastName,
           guestEmail: guestDetails.email,
-          guestPhone: guestDetails.phone
+          guestPhone: guestDetails.phone,
+          holdReference: holdReferences.current[index]
         };
-        return api.post('/bookings', bookingData);
+        idempotencyKeys.current[index] ??= crypto.randomUUID();
+        bookedItems.current[index] = await api.post('/bookings', bookingData, {
+          headers: { 'Idempotency-Key': idempotencyKeys.current[index] }
+        });
+        return bookedItems.current[index];
       });
 
-      const responses = await Promise.all(bookingPromises);
+      const results = await Promise.allSettled(bookingPromises);
+      const failed = results.flatMap((result, index) => result.status === 'rejected' ? [index] : []);
+      if (failed.length > 0) {
+        // The failed items' holds may have expired - drop them so the next "Pay" holds those rooms afresh
+        releaseHolds(failed.map(String));
+        throw results[failed[0]].reason;
+      }
+      const responses = results.map((result) => result.value);
       console.log('Bookings created:', responses);
+      holdReferences.current = {}; // converted into bookings - nothing left to release
 
       // Save to local booking history (optional, or rely on backend)
       const existingBookings = JSON.parse(localStorage.getItem("bookings") || "[]");
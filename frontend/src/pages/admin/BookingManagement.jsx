@@ -131,6 +131,11 @@ const BookingManagement = () => {
                 text: 'text-white',
                 border: 'border-blue-400',
             },
+            NO_SHOW: {
+                bg: 'bg-orange-500/90',
+                text: 'text-white',
+                border: 'border-orange-400',
+            },
         };
 
         const style = config[status] || { bg: 'bg-gray-500/90', text: 'text-white', border: 'border-gray-400' };
@@ -208,6 +213,7 @@ const BookingManagement = () => {
                                     <option value="PENDING">Pending</option>
                                     <option value="CANCELLED">Cancelled</option>
                                     <option value="COMPLETED">Completed</option>
+                                    <option value="NO_SHOW">No-show</option>
                                 </select>
                             </div>
                         </div>
@@ -309,7 +315,18 @@ const BookingManagement = () => {
                                                                 Complete
                                                             </button>
                                                         )}
-                                                        {booking.status !== 'CANCELLED' && booking.status !== 'COMPLETED' && (
+                                                        {/* Stays are completed automatically after check-out, so a no-show can still be marked then */}
+                                                        {(booking.status === 'CONFIRMED' || booking.status === 'COMPLETED') && (
+                                                            <button
+                                                                onClick={() => handleStatusUpdate(booking.id, 'NO_SHOW')}
+                                                                className="flex items-center gap-1 px-3 py-2 border-2 border-orange-500 text-orange-600 rounded-lg hover:bg-orange-50 dark:hover:bg-orange-900/20 transition text-sm font-medium"
+                                                                title="Guest did not arrive"
+                                                            >
+                                                                <FaTimesCircle className="h-4 w-4" />
+                                                                No-show
+                                                            </button>
+                                                        )}
+                                                        {(booking.status === 'PENDING' || booking.status === 'CONFIRMED') && (
                                                             <button
                                                                 onClick={() => handleStatusUpdate(booking.id, 'CANCELLED')}
                                                                 className="flex items-center gap-1 px-3 py-2 border-2 border-red-500 text-red-600 rounded-lg hover:bg-red-50 dark:hover:bg-red-900/20 transition text-sm font-medium"
@@ -226,8 +226,8 @@ const HotelOwnerCRUD = () => {
                                     <img
                                         src={(() => {
                                             try {
-                                                const imgs = JSON.parse(hotel.images);
-                                                return Array.isArray(imgs) ? imgs[0] : hotel.images;
+                                                const imgs = typeof hotel.images === 'string' ? JSON.parse(hotel.images) : hotel.images;
+                                                return (Array.isArray(imgs) ? imgs[0] : imgs) || 'https://images.unsplash.com/photo-1566073771259-6a8506099945?w=800&q=60';
                                             } catch (e) { return hotel.images || 'https://images.unsplash.com/photo-1566073771259-6a8506099945?w=800&q=60'; }
                                         })()}
                                         alt={hotel.name}
@@ -121,6 +121,11 @@ const HotelProfileManagement = () => {
         if (!files || files.length === 0) return;
 
         files.forEach(file => {
+            // base64 grows the file by 4/3; the backend caps each image at 4.5M characters
+            if (file.size > 3 * 1024 * 1024) {
+                showToast(`${file.name} is too large (max 3 MB)`, 'error');
+                return;
+            }
             const reader = new FileReader();
             reader.onload = (e) => {
                 // In real app, upload to server and get URL. Here we define logic.
@@ -14,14 +14,26 @@ class ApiService {
     if (token && token.trim().length > 0 && token.includes('.')) {
       headers.Authorization = `Bearer ${token.trim()}`;
     }
+
+    // Echo the read-your-writes token from our last write so reads right after it
+    // are served from the primary database, not a replica that may be behind
+    const readYourWrites = sessionStorage.getItem('readYourWrites');
+    if (readYourWrites) {
+      headers['X-Read-Your-Writes'] = readYourWrites;
+    }
     
+    // headers last - options.headers is already merged in above and must not drop Authorization
     const config = {
-      headers,
       ...options,
+      headers,
     };
 
     try {
       const response = await fetch(url, config);
+      const writeToken = response.headers.get('X-Read-Your-Writes');
+      if (writeToken) {
+        sessionStorage.setItem('readYourWrites', writeToken);
+      }
       
       if (!response.ok) {
         const errorText = await response.text();
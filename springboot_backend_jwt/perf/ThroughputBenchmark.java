@@ -0,0 +1,99 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load generator for comparing the platform-thread and
+ * virtual-thread request modes. Not part of the application build; run it
+ * with the JDK's single-file launcher against a running backend:
+ *
+ *   java perf/ThroughputBenchmark.java [concurrency] [seconds] [url...]
+ *
+ * e.g. start the backend once with the default profile and once with
+ * --spring.profiles.active=vthreads, then run
+ *
+ *   java perf/ThroughputBenchmark.java 800 60 \
+ *       http://localhost:8080/api/hotels \
+ *       "http://localhost:8080/api/availability/hotel/1/room-type/1/batch?startDate=2026-11-01&endDate=2026-11-30"
+ *
+ * Each client sends its next request as soon as the previous one finishes.
+ * Prints requests/s, error count and p50/p95/p99/max latency. Use the same
+ * concurrency for both runs and pick one well above server.tomcat.threads.max
+ * (200 by default) to see the difference.
+ */
+public class ThroughputBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+        List<URI> urls = args.length > 2
+                ? Arrays.stream(args, 2, args.length).map(URI::create).toList()
+                : List.of(URI.create("http://localhost:8080/api/hotels"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        ConcurrentLinkedQueue<long[]> samples = new ConcurrentLinkedQueue<>();
+        AtomicLong errors = new AtomicLong();
+        long warmupEnd = System.nanoTime() + Duration.ofSeconds(Math.min(10, seconds / 5)).toNanos();
+        long end = warmupEnd + Duration.ofSeconds(seconds).toNanos();
+
+        System.out.printf("%d clients, %ds (+ warm-up), %s%n", concurrency, seconds, urls);
+        try (var clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < concurrency; c++) {
+                int offset = c;
+                clients.submit(() -> {
+                    long[] latencies = new long[1 << 16];
+                    int count = 0;
+                    for (int i = offset; System.nanoTime() < end; i++) {
+                        HttpRequest request = HttpRequest.newBuilder(urls.get(i % urls.size()))
+                                .timeout(Duration.ofSeconds(60)).GET().build();
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        if (start >= warmupEnd) {
+                            if (count == latencies.length) {
+                                latencies = Arrays.copyOf(latencies, count * 2);
+                            }
+                            latencies[count++] = System.nanoTime() - start;
+                        }
+                    }
+                    samples.add(Arrays.copyOf(latencies, count));
+                    return null;
+                });
+            }
+        }
+
+        List<long[]> parts = new ArrayList<>(samples);
+        long[] all = parts.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        if (all.length == 0) {
+            System.out.println("No samples recorded");
+            return;
+        }
+        System.out.printf("requests: %d  throughput: %.1f req/s  errors: %d%n",
+                all.length, all.length / (double) seconds, errors.get());
+        System.out.printf("latency ms  p50 %.1f  p95 %.1f  p99 %.1f  max %.1f%n",
+                percentile(all, 50), percentile(all, 95), percentile(all, 99), all[all.length - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
@@ -17,8 +17,6 @@ public class Application {
 		log.info("Server started on port 8080");
 	}
 
-	// ModelMapper bean is now configured in ModelMapperConfig.java
-
 	// centralized method to config password encoder
 	@Bean
 	public PasswordEncoder passwordEncoder() {
@@ -20,6 +20,7 @@ import com.hotel.repository.HotelRepository;
 import com.hotel.repository.RoomRepository;
 import com.hotel.repository.RoomTypeRepository;
 import com.hotel.repository.UserRepository;
+import com.hotel.service.RoomNumberPattern;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -165,8 +166,8 @@ public class DataLoader implements CommandLineRunner {
         hotel1.setStatus("APPROVED");
         hotel1.setPriceRange("15,000 - 50,000");
         hotel1.setOwner(owner);
-        hotel1.setImages(
-                "[\"https://images.unsplash.com/photo-1542314831-068cd1dbfeeb?w=800&q=60\",\"https://images.unsplash.com/photo-1566073771259-6a8506099945?w=800&q=60\"]");
+        hotel1.setImages(List.of("https://images.unsplash.com/photo-1542314831-068cd1dbfeeb?w=800&q=60",
+                "https://images.unsplash.com/photo-1566073771259-6a8506099945?w=800&q=60"));
         hotel1.setWifi(true);
         hotel1.setParking(true);
         hotel1.setGym(true);
@@ -186,8 +187,8 @@ public class DataLoader implements CommandLineRunner {
         hotel2.setStatus("APPROVED");
         hotel2.setPriceRange("30,000 - 80,000");
         hotel2.setOwner(owner);
-        hotel2.setImages(
-                "[\"https://images.unsplash.com/photo-1551882547-ff40c63fe5fa?w=800&q=60\",\"https://images.unsplash.com/photo-1582719478250-c89cae4dc85b?w=800&q=60\"]");
+        hotel2.setImages(List.of("https://images.unsplash.com/photo-1551882547-ff40c63fe5fa?w=800&q=60",
+                "https://images.unsplash.com/photo-1582719478250-c89cae4dc85b?w=800&q=60"));
         hotel2.setWifi(true);
         hotel2.setParking(true);
         hotel2.setRestaurant(true);
@@ -223,12 +224,12 @@ public class DataLoader implements CommandLineRunner {
         for (RoomType roomType : roomTypes) {
             int totalRooms = roomType.getTotalRooms();
 
-            for (int i = 1; i <= totalRooms; i++) {
+            // Room number format: RT{roomTypeId}-{sequential number}
+            for (String roomNumber : RoomNumberPattern.expand("RT" + roomType.getId() + "-{n:3}", 1, totalRooms)) {
                 Room room = new Room();
                 room.setHotel(roomType.getHotel());
                 room.setRoomType(roomType);
-                // Room number format: RT{roomTypeId}-{sequential number}
-                room.setRoomNumber(String.format("RT%d-%03d", roomType.getId(), i));
+                room.setRoomNumber(roomNumber);
                 room.setIsActive(true);
                 room.setStatus("AVAILABLE");
 
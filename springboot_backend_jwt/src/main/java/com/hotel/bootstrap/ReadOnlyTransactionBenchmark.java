@@ -0,0 +1,100 @@
+package com.hotel.bootstrap;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hotel.service.AdminService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compares a large listing call inside a read-write transaction with the
+ * same call inside a read-only one (Hibernate read-only session, FlushMode.MANUAL,
+ * no dirty-checking snapshots). Runs once at startup with the bench profile
+ * against whatever data is in the configured database:
+ *
+ * mvn spring-boot:run -Dspring-boot.run.profiles=bench
+ *
+ * getAllPayments is itself readOnly, but a nested call joins the outer
+ * transaction, so the outer template decides which mode is measured.
+ */
+@Component
+@Profile("bench")
+@RequiredArgsConstructor
+@Slf4j
+public class ReadOnlyTransactionBenchmark implements CommandLineRunner {
+
+    private final AdminService adminService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${hotel.bench.warmup:5}")
+    private int warmup;
+
+    @Value("${hotel.bench.iterations:20}")
+    private int iterations;
+
+    private record Result(double cpuMs, double wallMs, double allocatedMb, int rows) {
+    }
+
+    @Override
+    public void run(String... args) {
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        Supplier<Integer> call = () -> adminService.getAllPayments().size();
+
+        // Alternate the modes during warm-up so both paths get JIT-compiled
+        for (int i = 0; i < warmup; i++) {
+            readWrite.execute(status -> call.get());
+            readOnly.execute(status -> call.get());
+        }
+
+        Result rw = measure(() -> readWrite.execute(status -> call.get()));
+        Result ro = measure(() -> readOnly.execute(status -> call.get()));
+
+        log.info("getAllPayments benchmark: {} rows, {} iterations (per call averages)", ro.rows(), iterations);
+        log.info("  read-write: cpu {} ms, wall {} ms, allocated {} MB", fmt(rw.cpuMs()), fmt(rw.wallMs()),
+                fmt(rw.allocatedMb()));
+        log.info("  read-only : cpu {} ms, wall {} ms, allocated {} MB", fmt(ro.cpuMs()), fmt(ro.wallMs()),
+                fmt(ro.allocatedMb()));
+        if (rw.cpuMs() > 0 && rw.allocatedMb() > 0) {
+            log.info("  saved     : cpu {}%, allocated {}%",
+                    fmt(100 * (rw.cpuMs() - ro.cpuMs()) / rw.cpuMs()),
+                    fmt(100 * (rw.allocatedMb() - ro.allocatedMb()) / rw.allocatedMb()));
+        }
+    }
+
+    private Result measure(Supplier<Integer> body) {
+        // HotSpot exposes per-thread allocation; everything here runs on the calling thread
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        int rows = 0;
+        long cpuStart = threads.getCurrentThreadCpuTime();
+        long allocStart = threads.getThreadAllocatedBytes(threadId);
+        long wallStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            rows = body.get();
+        }
+        long wall = System.nanoTime() - wallStart;
+        long alloc = threads.getThreadAllocatedBytes(threadId) - allocStart;
+        long cpu = threads.getCurrentThreadCpuTime() - cpuStart;
+
+        return new Result(cpu / 1e6 / iterations, wall / 1e6 / iterations,
+                alloc / (1024.0 * 1024.0) / iterations, rows);
+    }
+
+    private static String fmt(double value) {
+        return String.format("%.2f", value);
+    }
+}
@@ -0,0 +1,85 @@
+package com.hotel.config;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Executors for the post-commit booking stages (see BookingPipelineListener).
+ * One small bounded pool per stage so a slow invoice service cannot starve the
+ * cheap stages, and a backlog shows up per stage in /actuator/metrics
+ * (executor.queued, executor.active, executor.execution with name=booking.<stage>).
+ *
+ * When a queue is full: invoices run on the committing thread instead
+ * (slower response, but the customer still gets the email); analytics and
+ * recently-viewed signals are dropped and counted in hotel.booking.stage.rejected.
+ */
+@Configuration
+@EnableAsync
+@Slf4j
+public class BookingPipelineConfig {
+
+    public static final String INVOICE_EXECUTOR = "bookingInvoiceExecutor";
+    public static final String ANALYTICS_EXECUTOR = "bookingAnalyticsExecutor";
+    public static final String SIGNALS_EXECUTOR = "bookingSignalsExecutor";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public BookingPipelineConfig(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean(name = INVOICE_EXECUTOR, destroyMethod = "shutdown")
+    ExecutorService bookingInvoiceExecutor(
+            @Value("${hotel.booking.pipeline.invoice.threads:4}") int threads,
+            @Value("${hotel.booking.pipeline.invoice.queue:500}") int queue) {
+        return stageExecutor("invoice", threads, queue, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Bean(name = ANALYTICS_EXECUTOR, destroyMethod = "shutdown")
+    ExecutorService bookingAnalyticsExecutor(
+            @Value("${hotel.booking.pipeline.analytics.threads:1}") int threads,
+            @Value("${hotel.booking.pipeline.analytics.queue:1000}") int queue) {
+        return stageExecutor("analytics", threads, queue, dropAndCount("analytics"));
+    }
+
+    @Bean(name = SIGNALS_EXECUTOR, destroyMethod = "shutdown")
+    ExecutorService bookingSignalsExecutor(
+            @Value("${hotel.booking.pipeline.signals.threads:2}") int threads,
+            @Value("${hotel.booking.pipeline.signals.queue:1000}") int queue) {
+        return stageExecutor("signals", threads, queue, dropAndCount("signals"));
+    }
+
+    private ExecutorService stageExecutor(String stage, int threads, int queue, RejectedExecutionHandler onFull) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queue), new CustomizableThreadFactory("booking-" + stage + "-"), onFull);
+        executor.allowCoreThreadTimeOut(true);
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        return registry == null ? executor
+                : ExecutorServiceMetrics.monitor(registry, executor, "booking." + stage);
+    }
+
+    private RejectedExecutionHandler dropAndCount(String stage) {
+        return (task, executor) -> {
+            log.warn("Booking {} stage queue full, dropping task", stage);
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry != null) {
+                registry.counter("hotel.booking.stage.rejected", "stage", stage).increment();
+            }
+        };
+    }
+}
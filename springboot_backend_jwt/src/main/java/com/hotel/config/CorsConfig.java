@@ -35,8 +35,10 @@ public class CorsConfig {
         // Allow credentials (for JWT tokens)
         configuration.setAllowCredentials(true);
 
-        // Expose Authorization header
-        configuration.setExposedHeaders(Arrays.asList("Authorization"));
+        // Expose Authorization header, the conditional-GET validators, the idempotent replay flag
+        // and the read-your-writes token
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "ETag", "Last-Modified", "Idempotent-Replayed",
+                "X-Read-Your-Writes"));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -0,0 +1,147 @@
+package com.hotel.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Optional datasource tuning, switched on by the "perf" profile
+ * (application-perf.properties):
+ *
+ * hotel.datasource.pool-size-from-cores - sizes the Hikari pool as
+ * (cores * 2) + 1 instead of the fixed default of 10.
+ *
+ * hotel.datasource.hold-metrics.enabled - records how long each borrowed
+ * connection is held, as the "hotel.db.connection.hold" timer tagged with the
+ * request's URI pattern, and logs holds above warn-ms. Long transactions
+ * (a booking waiting on the invoice service, say) show up per endpoint.
+ */
+@Configuration
+@Slf4j
+public class DataSourceTuningConfig {
+
+    @Bean
+    static BeanPostProcessor dataSourceTuningPostProcessor(Environment env,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // Only physical pools - not the replica routing / lazy proxies layered on top of them
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionHoldTimingDataSource
+                        || bean instanceof org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy) {
+                    return bean;
+                }
+                if (env.getProperty("hotel.datasource.pool-size-from-cores", Boolean.class, false)) {
+                    HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class);
+                    if (hikari != null) {
+                        int size = Runtime.getRuntime().availableProcessors() * 2 + 1;
+                        hikari.setMaximumPoolSize(size);
+                        log.info("Hikari pool '{}' sized to {} from {} cores", hikari.getPoolName(), size,
+                                Runtime.getRuntime().availableProcessors());
+                    }
+                }
+                if (env.getProperty("hotel.datasource.hold-metrics.enabled", Boolean.class, false)) {
+                    long warnMs = env.getProperty("hotel.datasource.hold-metrics.warn-ms", Long.class, 1000L);
+                    return new ConnectionHoldTimingDataSource(dataSource, beanName, meterRegistry, warnMs);
+                }
+                return bean;
+            }
+        };
+    }
+
+    static class ConnectionHoldTimingDataSource extends DelegatingDataSource {
+
+        private final String pool;
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+        private final long warnMs;
+
+        ConnectionHoldTimingDataSource(DataSource target, String pool, ObjectProvider<MeterRegistry> meterRegistry,
+                long warnMs) {
+            super(target);
+            this.pool = pool;
+            this.meterRegistry = meterRegistry;
+            this.warnMs = warnMs;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return timed(obtainTargetDataSource().getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return timed(obtainTargetDataSource().getConnection(username, password));
+        }
+
+        private Connection timed(Connection target) {
+            long start = System.nanoTime();
+            String uri = currentUri();
+            AtomicBoolean closed = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                        if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+                            record(uri, System.nanoTime() - start);
+                        }
+                        try {
+                            return method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+
+        private void record(String uri, long nanos) {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry != null) {
+                Timer.builder("hotel.db.connection.hold")
+                        .description("Time a JDBC connection is held between borrow and close")
+                        .tag("uri", uri)
+                        .tag("pool", pool)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofMillis(1))
+                        .maximumExpectedValue(Duration.ofSeconds(30))
+                        .register(registry)
+                        .record(nanos, TimeUnit.NANOSECONDS);
+            }
+            long ms = TimeUnit.NANOSECONDS.toMillis(nanos);
+            if (ms >= warnMs) {
+                log.warn("Connection from {} held for {} ms by {}", pool, ms, uri);
+            }
+        }
+
+        // URI pattern of the current request, "none" outside a request (schedulers, async streams)
+        private static String currentUri() {
+            RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+            if (!(attrs instanceof ServletRequestAttributes servletAttrs)) {
+                return "none";
+            }
+            Object pattern = servletAttrs.getRequest().getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            // Before handler mapping (e.g. the JWT filter loading the user) there is no pattern yet
+            return pattern != null ? servletAttrs.getRequest().getMethod() + " " + pattern : "filter";
+        }
+    }
+}
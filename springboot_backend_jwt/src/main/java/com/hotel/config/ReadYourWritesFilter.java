@@ -0,0 +1,77 @@
+package com.hotel.config;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Read-your-writes on top of the replica split. Every write response carries
+ * X-Read-Your-Writes: the time (epoch ms) until which the replica may not have
+ * the write yet. The frontend sends the value back on its following requests,
+ * and until then those requests read from the primary - so a new booking
+ * shows up in "my bookings" straight after checkout, whichever instance
+ * serves the next request. The token is stateless; the server keeps nothing.
+ *
+ * Does nothing unless ReplicaRoutingConfig is active.
+ */
+@Component
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Read-Your-Writes";
+
+    private final ObjectProvider<ReplicaLagMonitor> replicaLagMonitor;
+
+    public ReadYourWritesFilter(ObjectProvider<ReplicaLagMonitor> replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ReplicaLagMonitor monitor = replicaLagMonitor.getIfAvailable();
+        if (monitor == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long window = monitor.staleWindowMillis();
+        if (isWrite(request.getMethod())) {
+            // Set before the handler runs - the response may be committed by the time it returns
+            response.setHeader(HEADER, Long.toString(now + window));
+            ReplicaRouting.pinToPrimary();
+        } else {
+            long until = parse(request.getHeader(HEADER));
+            // A value further out than one window was not issued by us - ignore it
+            if (until > now && until <= now + window) {
+                ReplicaRouting.pinToPrimary();
+            }
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRouting.clear();
+        }
+    }
+
+    private static boolean isWrite(String method) {
+        return !("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method));
+    }
+
+    private static long parse(String value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.hotel.config;
+
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Polls the replica's replication status and decides whether read-only
+ * traffic may use it. The replica is taken out of rotation while it is more
+ * than maxLagSeconds behind, while replication is stopped, or while it
+ * cannot be reached. A blank lag query turns the check off (two independent
+ * local databases, for instance).
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replica;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+    private final long checkIntervalMillis;
+
+    private volatile boolean replicaUsable = true;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, long maxLagSeconds,
+            long checkIntervalMillis) {
+        this.replica = new JdbcTemplate(replicaDataSource);
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+        this.checkIntervalMillis = checkIntervalMillis;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * How long after a commit the replica may still be missing it while in
+     * rotation: the lag limit, plus one check interval in which a growing lag
+     * has not been noticed yet.
+     */
+    public long staleWindowMillis() {
+        return maxLagSeconds * 1000 + checkIntervalMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${hotel.datasource.replica.lag-check-ms:5000}")
+    public void checkLag() {
+        boolean usable;
+        try {
+            if (lagQuery == null || lagQuery.isBlank()) {
+                replica.queryForObject("SELECT 1", Integer.class);
+                usable = true;
+            } else {
+                usable = withinLag(replica.queryForList(lagQuery));
+            }
+        } catch (Exception e) {
+            log.warn("Replica health check failed: {}", e.getMessage());
+            usable = false;
+        }
+        if (usable != replicaUsable) {
+            log.warn(usable ? "Replica back in rotation for read-only transactions"
+                    : "Replica out of rotation - read-only transactions use the primary");
+        }
+        replicaUsable = usable;
+    }
+
+    private boolean withinLag(List<Map<String, Object>> status) {
+        if (status.isEmpty()) {
+            // Not configured as a replica - nothing to lag behind
+            return true;
+        }
+        Map<String, Object> row = status.get(0);
+        Object lag = row.containsKey("Seconds_Behind_Source") ? row.get("Seconds_Behind_Source")
+                : row.get("Seconds_Behind_Master");
+        if (lag == null) {
+            log.warn("Replica reports no lag value - replication is not running");
+            return false;
+        }
+        long seconds = ((Number) lag).longValue();
+        if (seconds > maxLagSeconds) {
+            log.warn("Replica is {}s behind (limit {}s)", seconds, maxLagSeconds);
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,30 @@
+package com.hotel.config;
+
+/**
+ * Per-request override of the replica routing in {@link ReplicaRoutingConfig}:
+ * once a request is pinned, its read-only transactions use the primary too.
+ * Requests are pinned when they follow a write by the same client
+ * ({@link ReadYourWritesFilter}) or read catalog data that changed too
+ * recently for the replica to be trusted with it (CatalogVersionService).
+ *
+ * The pin is cleared by ReadYourWritesFilter when the request ends.
+ */
+public final class ReplicaRouting {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReplicaRouting() {
+    }
+
+    public static void pinToPrimary() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    static boolean isPinnedToPrimary() {
+        return PINNED.get() != null;
+    }
+
+    static void clear() {
+        PINNED.remove();
+    }
+}
@@ -0,0 +1,103 @@
+package com.hotel.config;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Primary / read-replica split, active only when hotel.datasource.replica.url
+ * is set (see application-replica-local.properties).
+ *
+ * Connections are handed out lazily, so by the time a statement runs Spring
+ * knows whether the transaction is @Transactional(readOnly = true). Read-only
+ * work goes to the replica pool, everything else to the primary. While
+ * {@link ReplicaLagMonitor} reports the replica as lagging or unreachable,
+ * read-only work falls back to the primary, and so does the read-only work
+ * of requests pinned through {@link ReplicaRouting}: reads following the
+ * client's own write, and catalog reads whose ETag is newer than the replica
+ * can be trusted to be.
+ */
+@Configuration
+@ConditionalOnProperty(name = "hotel.datasource.replica.url")
+@EnableConfigurationProperties(DataSourceProperties.class)
+@Slf4j
+public class ReplicaRoutingConfig {
+
+    enum Target {
+        PRIMARY, REPLICA
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("hotel-primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("hotel.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(Environment env, DataSourceProperties primary) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("hotel-replica");
+        dataSource.setJdbcUrl(env.getRequiredProperty("hotel.datasource.replica.url"));
+        dataSource.setUsername(env.getProperty("hotel.datasource.replica.username", primary.getUsername()));
+        dataSource.setPassword(env.getProperty("hotel.datasource.replica.password", primary.getPassword()));
+        dataSource.setDriverClassName(primary.determineDriverClassName());
+        dataSource.setReadOnly(true);
+        // Same driver options as the primary (batching, statement caching)
+        Map<String, String> driverProps = Binder.get(env)
+                .bind("spring.datasource.hikari.data-source-properties", Bindable.mapOf(String.class, String.class))
+                .orElse(Map.of());
+        driverProps.forEach(dataSource::addDataSourceProperty);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+            Environment env) {
+        return new ReplicaLagMonitor(replicaDataSource,
+                env.getProperty("hotel.datasource.replica.lag-query", "SHOW REPLICA STATUS"),
+                env.getProperty("hotel.datasource.replica.max-lag-seconds", Long.class, 5L),
+                env.getProperty("hotel.datasource.replica.lag-check-ms", Long.class, 5000L));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource, ReplicaLagMonitor replicaLagMonitor) {
+        AbstractRoutingDataSource readOnlyRouting = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return !ReplicaRouting.isPinnedToPrimary() && replicaLagMonitor.isReplicaUsable() ? Target.REPLICA
+                        : Target.PRIMARY;
+            }
+        };
+        readOnlyRouting.setTargetDataSources(Map.of(Target.PRIMARY, primaryDataSource, Target.REPLICA, replicaDataSource));
+        readOnlyRouting.setDefaultTargetDataSource(primaryDataSource);
+        readOnlyRouting.afterPropertiesSet();
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(readOnlyRouting);
+        log.info("Read-only transactions routed to replica pool");
+        return dataSource;
+    }
+}
@@ -0,0 +1,10 @@
+package com.hotel.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Turns on @Scheduled jobs (expired occupancies, rating reconciliation)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
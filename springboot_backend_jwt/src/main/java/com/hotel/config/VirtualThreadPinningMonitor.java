@@ -0,0 +1,86 @@
+package com.hotel.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reports virtual threads that get pinned to their carrier (blocking inside
+ * a synchronized block or a native frame) while spring.threads.virtual.enabled
+ * is on. Listens to the JFR jdk.VirtualThreadPinned event in-process, logs
+ * the offending frames and counts them in hotel.vthread.pinned, so a pinning
+ * regression shows up in the logs and /actuator/metrics rather than as a
+ * throughput cliff under load.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "hotel.threads.pinning-monitor.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 6;
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Value("${hotel.threads.pinning-monitor.threshold-ms:20}")
+    private long thresholdMs;
+
+    private RecordingStream stream;
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMs)).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started (threshold {} ms)", thresholdMs);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            registry.counter("hotel.vthread.pinned").increment();
+        }
+        log.warn("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), frames(event));
+    }
+
+    // Application frames first - the JDK frames at the top of the stack are rarely the culprit
+    private static String frames(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "<no stack>";
+        }
+        List<RecordedFrame> all = event.getStackTrace().getFrames();
+        List<RecordedFrame> app = all.stream()
+                .filter(f -> f.isJavaFrame() && f.getMethod().getType().getName().startsWith("com.hotel."))
+                .toList();
+        return (app.isEmpty() ? all : app).stream()
+                .limit(LOGGED_FRAMES)
+                .map(f -> f.getMethod().getType().getName() + "." + f.getMethod().getName() + ":" + f.getLineNumber())
+                .collect(Collectors.joining(" <- "));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
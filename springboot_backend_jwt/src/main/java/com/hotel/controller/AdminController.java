@@ -40,6 +40,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 public class AdminController {
 
     private final AdminService adminService;
+    private final com.hotel.service.PaymentReportService paymentReportService;
 
     // Hotel Approval Management
     @GetMapping("/hotels")
@@ -49,6 +50,14 @@ public class AdminController {
         return ResponseEntity.ok(adminService.getAllHotels());
     }
 
+    @GetMapping("/hotels/summary")
+    @Operation(summary = "Get hotel summaries", description = "Lightweight hotel list for admin tables, optionally filtered by status")
+    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Hotel summaries retrieved successfully")
+    public ResponseEntity<List<com.hotel.dtos.HotelSummaryDTO>> getHotelSummaries(
+            @RequestParam(required = false) String status) {
+        return ResponseEntity.ok(adminService.getHotelSummaries(status));
+    }
+
     @GetMapping("/hotels/pending")
     @Operation(summary = "Get pending hotels", description = "Retrieves all hotels awaiting admin approval")
     @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Pending hotels retrieved successfully")
@@ -92,6 +101,17 @@ public class AdminController {
         return ResponseEntity.ok(adminService.getAllPayments());
     }
 
+    @GetMapping("/payments/export")
+    @Operation(summary = "Export all payments as CSV", description = "Streams payments across all hotels as CSV (newest first). Optional booking-date range and gzip.")
+    public ResponseEntity<org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody> exportPayments(
+            @RequestParam(required = false) @org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE) java.time.LocalDate from,
+            @RequestParam(required = false) @org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE) java.time.LocalDate to,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        log.info("Exporting payments from {} to {}", from, to);
+        return PaymentReportResponses.csvAttachment("payments-all", gzip,
+                out -> paymentReportService.writeAllPaymentsReport(from, to, gzip, out));
+    }
+
     @GetMapping("/payments/pending")
     public ResponseEntity<List<BookingResponseDTO>> getPendingPayments() {
         return ResponseEntity.ok(adminService.getPendingPayments());
@@ -14,7 +14,6 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.hotel.dtos.AvailabilityDTO;
-import com.hotel.repository.RoomOccupancyRepository;
 import com.hotel.repository.RoomRepository;
 import com.hotel.service.RoomOccupancyService;
 
@@ -35,7 +34,8 @@ public class AvailabilityController {
 
         private final RoomOccupancyService roomOccupancyService;
         private final RoomRepository roomRepository;
-        private final RoomOccupancyRepository roomOccupancyRepository;
+        private final com.hotel.repository.RoomTypeRepository roomTypeRepository;
+        private final com.hotel.service.RateCalendarService rateCalendarService;
 
         @GetMapping("/hotel/{hotelId}/room-type/{roomTypeId}")
         @Operation(summary = "Check room availability", description = "Checks room availability for a specific hotel and room type across given dates")
@@ -51,21 +51,21 @@ public class AvailabilityController {
                                 hotelId, roomTypeId, checkIn, checkOut, rooms);
 
                 try {
-                        // Check if room type is available for the requested count
-                        boolean available = roomOccupancyService.isRoomTypeAvailable(
-                                        hotelId, roomTypeId, checkIn, checkOut, rooms);
-
-                        // Get total and occupied rooms
                         Long totalRooms = roomRepository.countAvailableRooms(hotelId, roomTypeId);
-                        Long occupiedRooms = roomOccupancyRepository.countOccupiedRoomsByType(
-                                        hotelId, roomTypeId, checkIn, checkOut);
-
-                        Long availableRoomsCount = totalRooms - occupiedRooms;
+                        // Includes any overbooking allowance, so it can exceed the physical rooms free
+                        Long availableRoomsCount = roomOccupancyService.countSellableRooms(hotelId, roomTypeId,
+                                        checkIn, checkOut, null);
+                        boolean available = availableRoomsCount >= rooms;
 
                         AvailabilityDTO response = new AvailabilityDTO(
                                         available,
                                         availableRoomsCount,
                                         totalRooms);
+                        roomTypeRepository.findById(roomTypeId)
+                                        .filter(rt -> rt.getHotel().getId().equals(hotelId))
+                                        .ifPresent(rt -> response.setQuotedPrice(rateCalendarService
+                                                        .quote(rt, checkIn, checkOut)
+                                                        .multiply(java.math.BigDecimal.valueOf(rooms))));
 
                         log.info("Availability check result: {} rooms available out of {}", availableRoomsCount,
                                         totalRooms);
@@ -74,7 +74,7 @@ public class AvailabilityController {
                 } catch (Exception e) {
                         log.error("Error checking availability", e);
                         // Return unavailable on error
-                        return ResponseEntity.ok(new AvailabilityDTO(false, 0L, 0L, "Error checking availability"));
+                        return ResponseEntity.ok(new AvailabilityDTO(false, 0L, 0L, "Error checking availability", null));
                 }
         }
 
@@ -94,14 +94,10 @@ public class AvailabilityController {
                 Map<String, Boolean> availability = new java.util.HashMap<>();
 
                 try {
-                        LocalDate current = startDate;
-                        while (!current.isAfter(endDate)) {
-                                LocalDate nextDay = current.plusDays(1);
-                                boolean available = roomOccupancyService.isRoomTypeAvailable(
-                                                hotelId, roomTypeId, current, nextDay, rooms);
-
-                                availability.put(current.toString(), available);
-                                current = current.plusDays(1);
+                        long[] sellable = roomOccupancyService.countSellableRoomsByNight(hotelId, roomTypeId,
+                                        startDate, endDate.plusDays(1));
+                        for (int night = 0; night < sellable.length; night++) {
+                                availability.put(startDate.plusDays(night).toString(), sellable[night] >= rooms);
                         }
 
                         log.info("Batch availability check completed for {} dates", availability.size());
@@ -128,26 +124,29 @@ public class AvailabilityController {
                 Map<String, AvailabilityDTO> availability = new java.util.HashMap<>();
 
                 try {
-                        LocalDate current = startDate;
-                        while (!current.isAfter(endDate)) {
-                                LocalDate nextDay = current.plusDays(1);
+                        // Per-night rates for the whole range in one pass over the calendar
+                        Map<LocalDate, java.math.BigDecimal> rates = roomTypeRepository.findById(roomTypeId)
+                                        .filter(rt -> rt.getHotel().getId().equals(hotelId))
+                                        .map(rt -> rateCalendarService.nightlyRates(rt, startDate, endDate.plusDays(1)))
+                                        .orElse(Map.of());
 
-                                // Get detailed availability info
-                                boolean available = roomOccupancyService.isRoomTypeAvailable(
-                                                hotelId, roomTypeId, current, nextDay, rooms);
-
-                                Long totalRooms = roomRepository.countAvailableRooms(hotelId, roomTypeId);
-                                Long occupiedRooms = roomOccupancyRepository.countOccupiedRoomsByType(
-                                                hotelId, roomTypeId, current, nextDay);
-                                Long availableRoomsCount = totalRooms - occupiedRooms;
+                        // Totals once, sellable rooms for every night from the same few queries
+                        Long totalRooms = roomRepository.countAvailableRooms(hotelId, roomTypeId);
+                        long[] sellable = roomOccupancyService.countSellableRoomsByNight(hotelId, roomTypeId,
+                                        startDate, endDate.plusDays(1));
 
+                        for (int night = 0; night < sellable.length; night++) {
+                                LocalDate current = startDate.plusDays(night);
                                 AvailabilityDTO dayAvailability = new AvailabilityDTO(
-                                                available,
-                                                availableRoomsCount,
+                                                sellable[night] >= rooms,
+                                                sellable[night],
                                                 totalRooms);
+                                java.math.BigDecimal rate = rates.get(current);
+                                if (rate != null) {
+                                        dayAvailability.setQuotedPrice(rate.multiply(java.math.BigDecimal.valueOf(rooms)));
+                                }
 
                                 availability.put(current.toString(), dayAvailability);
-                                current = current.plusDays(1);
                         }
 
                         log.info("Detailed batch availability check completed for {} dates", availability.size());
@@ -12,12 +12,17 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.hotel.dtos.BookingDTO;
 import com.hotel.dtos.BookingResponseDTO;
+import com.hotel.dtos.RoomHoldDTO;
+import com.hotel.dtos.RoomHoldResponseDTO;
 import com.hotel.service.BookingService;
+import com.hotel.service.IdempotencyService;
+import com.hotel.service.RoomHoldService;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -36,6 +41,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 public class BookingController {
 
     private final BookingService bookingService;
+    private final IdempotencyService idempotencyService;
+    private final RoomHoldService roomHoldService;
     private final com.hotel.service.InvoiceService invoiceService;
     private final com.hotel.repository.BookingRepository bookingRepository;
 
@@ -44,11 +51,43 @@ public class BookingController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Booking created successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid booking data"),
-            @ApiResponse(responseCode = "401", description = "Not authenticated")
+            @ApiResponse(responseCode = "401", description = "Not authenticated"),
+            @ApiResponse(responseCode = "409", description = "Idempotency-Key in use by a running request, or reused with a different body")
     })
     public ResponseEntity<BookingResponseDTO> createBooking(@RequestBody @Valid BookingDTO bookingDTO,
+            @Parameter(description = "Client-generated key; retries with the same key return the original booking instead of creating another")
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
             Principal principal) {
-        return ResponseEntity.ok(bookingService.createBooking(bookingDTO, principal.getName()));
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return ResponseEntity.ok(bookingService.createBooking(bookingDTO, principal.getName()));
+        }
+        IdempotencyService.Result<BookingResponseDTO> result = idempotencyService.execute(
+                "booking:" + principal.getName(), idempotencyKey, bookingDTO, BookingResponseDTO.class,
+                () -> bookingService.createBooking(bookingDTO, principal.getName()));
+        return ResponseEntity.ok()
+                .header("Idempotent-Replayed", String.valueOf(result.replayed()))
+                .body(result.body());
+    }
+
+    @PostMapping("/holds")
+    @Operation(summary = "Hold rooms", description = "Holds rooms of a room type for the given dates for a few minutes while the guest completes checkout. Pass the returned holdReference when creating the booking.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Rooms held"),
+            @ApiResponse(responseCode = "400", description = "Invalid hold data"),
+            @ApiResponse(responseCode = "404", description = "Room type not found")
+    })
+    public ResponseEntity<RoomHoldResponseDTO> createHold(@RequestBody @Valid RoomHoldDTO holdDTO,
+            Principal principal) {
+        return ResponseEntity.ok(roomHoldService.createHold(holdDTO, principal.getName()));
+    }
+
+    @DeleteMapping("/holds/{holdReference}")
+    @Operation(summary = "Release hold", description = "Gives held rooms back before the hold expires, e.g. when the guest leaves checkout")
+    @ApiResponse(responseCode = "200", description = "Hold released")
+    public ResponseEntity<com.hotel.dtos.ApiResponse> releaseHold(
+            @Parameter(description = "Hold reference", example = "RH-1A2B3C4D5E6F") @PathVariable String holdReference,
+            Principal principal) {
+        return ResponseEntity.ok(roomHoldService.releaseHold(holdReference, principal.getName()));
     }
 
     @GetMapping("/my-bookings")
@@ -36,6 +36,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 public class ComplaintController {
 
     private final ComplaintService complaintService;
+    private final com.hotel.mapping.ComplaintMapper complaintMapper;
 
     @PostMapping
     @Operation(summary = "Raise complaint", description = "Submit a complaint regarding a hotel or booking")
@@ -43,26 +44,7 @@ public class ComplaintController {
     public ResponseEntity<ComplaintResponseDTO> raiseComplaint(@RequestBody @jakarta.validation.Valid ComplaintDTO dto,
             Principal principal) {
         Complaint complaint = complaintService.raiseComplaint(dto, principal.getName());
-        return ResponseEntity.ok(convertToResponseDTO(complaint));
-    }
-
-    private ComplaintResponseDTO convertToResponseDTO(Complaint complaint) {
-        ComplaintResponseDTO responseDTO = new ComplaintResponseDTO();
-        responseDTO.setId(complaint.getId());
-        responseDTO.setHotelId(complaint.getHotel() != null ? complaint.getHotel().getId() : null);
-        responseDTO.setHotelName(complaint.getHotel() != null ? complaint.getHotel().getName() : null);
-        responseDTO.setBookingId(complaint.getBooking() != null ? complaint.getBooking().getId() : null);
-        responseDTO.setBookingReference(
-                complaint.getBooking() != null ? complaint.getBooking().getBookingReference() : null);
-        responseDTO.setGuestName(complaint.getGuestName());
-        responseDTO.setGuestEmail(complaint.getGuestEmail());
-        responseDTO.setSubject(complaint.getSubject());
-        responseDTO.setDescription(complaint.getDescription());
-        responseDTO.setStatus(complaint.getStatus() != null ? complaint.getStatus().name() : null);
-        responseDTO.setCreatedAt(complaint.getCreatedAt());
-        responseDTO.setResolvedAt(complaint.getResolvedAt());
-        responseDTO.setResolution(complaint.getResolution());
-        return responseDTO;
+        return ResponseEntity.ok(complaintMapper.toResponse(complaint));
     }
 
     @GetMapping("/my-complaints")
@@ -15,12 +15,14 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.hotel.dtos.HotelDTO;
 import com.hotel.dtos.HotelRegistrationDTO;
 import com.hotel.dtos.RoomTypeDTO;
 import com.hotel.entities.Hotel;
 import com.hotel.entities.RoomType;
+import com.hotel.service.CatalogVersionService;
 import com.hotel.service.HotelService;
 
 import jakarta.validation.Valid;
@@ -40,12 +42,31 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 public class HotelController {
 
     private final HotelService hotelService;
+    private final CatalogVersionService catalogVersionService;
 
     @GetMapping
     @Operation(summary = "Get all hotels", description = "Retrieves a complete list of all hotels in the system")
     @ApiResponse(responseCode = "200", description = "Hotels retrieved successfully")
-    public ResponseEntity<List<Hotel>> getAllHotels() {
-        return ResponseEntity.ok(hotelService.getAllHotels());
+    public ResponseEntity<List<Hotel>> getAllHotels(WebRequest webRequest) {
+        // 304 before hitting the DB if the client already has this catalog version
+        if (catalogVersionService.isCatalogNotModified(webRequest)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CatalogVersionService.HOTEL_LIST_CACHE)
+                .body(hotelService.getAllHotels());
+    }
+
+    @GetMapping("/summary")
+    @Operation(summary = "Get hotel summaries", description = "Lightweight list of approved hotels (id, name, city, rating, price range, first image) for list views")
+    @ApiResponse(responseCode = "200", description = "Hotel summaries retrieved successfully")
+    public ResponseEntity<List<com.hotel.dtos.HotelSummaryDTO>> getHotelSummaries(WebRequest webRequest) {
+        if (catalogVersionService.isCatalogNotModified(webRequest)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CatalogVersionService.HOTEL_LIST_CACHE)
+                .body(hotelService.getHotelSummaries());
     }
 
     @GetMapping("/status/{status}")
@@ -62,8 +83,9 @@ public class HotelController {
     public ResponseEntity<List<Hotel>> searchHotels(
             @Parameter(description = "City name", example = "Mumbai") @RequestParam(required = false) String city,
             @Parameter(description = "State name", example = "Maharashtra") @RequestParam(required = false) String state,
-            @Parameter(description = "Destination name", example = "Gateway of India") @RequestParam(required = false) String destination) {
-        return ResponseEntity.ok(hotelService.searchHotels(city, state, destination));
+            @Parameter(description = "Destination name", example = "Gateway of India") @RequestParam(required = false) String destination,
+            @Parameter(description = "Required room amenities, comma separated", example = "WiFi,AC") @RequestParam(required = false) String amenities) {
+        return ResponseEntity.ok(hotelService.searchHotels(city, state, destination, amenities));
     }
 
     @GetMapping("/{id}")
@@ -73,16 +95,28 @@ public class HotelController {
             @ApiResponse(responseCode = "404", description = "Hotel not found")
     })
     public ResponseEntity<Hotel> getHotelDetails(
-            @Parameter(description = "Hotel ID", example = "1") @PathVariable Long id) {
-        return ResponseEntity.ok(hotelService.getHotelDetails(id));
+            @Parameter(description = "Hotel ID", example = "1") @PathVariable Long id, WebRequest webRequest) {
+        if (catalogVersionService.isHotelNotModified(webRequest, id)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CatalogVersionService.HOTEL_DETAIL_CACHE)
+                .body(hotelService.getHotelDetails(id));
     }
 
     @GetMapping("/{id}/rooms")
     @Operation(summary = "Get hotel room types", description = "Retrieves all room types available at a specific hotel")
     @ApiResponse(responseCode = "200", description = "Room types retrieved successfully")
     public ResponseEntity<List<RoomType>> getHotelRooms(
-            @Parameter(description = "Hotel ID") @PathVariable Long id) {
-        return ResponseEntity.ok(hotelService.getHotelRooms(id));
+            @Parameter(description = "Hotel ID") @PathVariable Long id,
+            @Parameter(description = "Required amenities, comma separated", example = "WiFi,Balcony") @RequestParam(required = false) String amenities,
+            WebRequest webRequest) {
+        if (catalogVersionService.isHotelNotModified(webRequest, id)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CatalogVersionService.ROOM_TYPES_CACHE)
+                .body(hotelService.getHotelRooms(id, amenities));
     }
 
     @GetMapping("/{hotelId}/rooms/{roomTypeId}/availability")
@@ -97,6 +131,17 @@ public class HotelController {
         return ResponseEntity.ok(hotelService.checkRoomAvailability(hotelId, roomTypeId, checkIn, checkOut, rooms));
     }
 
+    @GetMapping("/{hotelId}/rooms/{roomTypeId}/rates")
+    @Operation(summary = "Get nightly rates", description = "Price of one room for each night from 'from' up to (not including) 'to', with seasonal, weekend and demand pricing applied")
+    @ApiResponse(responseCode = "200", description = "Nightly rates retrieved")
+    public ResponseEntity<java.util.Map<java.time.LocalDate, java.math.BigDecimal>> getNightlyRates(
+            @Parameter(description = "Hotel ID") @PathVariable Long hotelId,
+            @Parameter(description = "Room Type ID") @PathVariable Long roomTypeId,
+            @Parameter(description = "First night", example = "2024-12-01") @RequestParam @org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE) java.time.LocalDate from,
+            @Parameter(description = "Check-out date", example = "2024-12-05") @RequestParam @org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE) java.time.LocalDate to) {
+        return ResponseEntity.ok(hotelService.getNightlyRates(hotelId, roomTypeId, from, to));
+    }
+
     @PostMapping("/register")
     @PreAuthorize("hasAuthority('ROLE_HOTEL_MANAGER') or hasAuthority('ROLE_ADMIN')")
     @Operation(summary = "Register hotel (authenticated)", description = "Registers a new hotel by an authenticated hotel manager or admin")
@@ -138,7 +183,13 @@ public class HotelController {
     @Operation(summary = "Get popular destinations", description = "Retrieves a list of popular destinations based on hotel locations. Type can be 'city' or 'state'.")
     @ApiResponse(responseCode = "200", description = "Destinations retrieved successfully")
     public ResponseEntity<List<com.hotel.dtos.DestinationDTO>> getPopularDestinations(
-            @Parameter(description = "Destination type", example = "city") @RequestParam(defaultValue = "city") String type) {
-        return ResponseEntity.ok(hotelService.getPopularDestinations(type));
+            @Parameter(description = "Destination type", example = "city") @RequestParam(defaultValue = "city") String type,
+            WebRequest webRequest) {
+        if (catalogVersionService.isCatalogNotModified(webRequest)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CatalogVersionService.DESTINATIONS_CACHE)
+                .body(hotelService.getPopularDestinations(type));
     }
 }
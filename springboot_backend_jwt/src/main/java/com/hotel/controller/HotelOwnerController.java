@@ -45,6 +45,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 public class HotelOwnerController {
 
     private final HotelOwnerService hotelOwnerService;
+    private final com.hotel.service.PaymentReportService paymentReportService;
+    private final com.hotel.service.RoomProvisioningService roomProvisioningService;
+    private final com.hotel.service.RoomStatusBoardService roomStatusBoardService;
 
     // Hotel Management
     @GetMapping("/hotels")
@@ -110,6 +113,61 @@ public class HotelOwnerController {
         return ResponseEntity.ok(hotelOwnerService.deleteRoomType(hotelId, roomId, principal.getName()));
     }
 
+    // Seasonal pricing
+    @GetMapping("/hotels/{hotelId}/rooms/{roomTypeId}/seasons")
+    public ResponseEntity<List<com.hotel.entities.RateSeason>> getRateSeasons(@PathVariable Long hotelId,
+            @PathVariable Long roomTypeId, Principal principal) {
+        return ResponseEntity.ok(hotelOwnerService.getRateSeasons(hotelId, roomTypeId, principal.getName()));
+    }
+
+    @PostMapping("/hotels/{hotelId}/rooms/{roomTypeId}/seasons")
+    @Operation(summary = "Add pricing season", description = "Multiplies the room type's nightly price between two dates (inclusive); the rate calendar is rebuilt before the response")
+    public ResponseEntity<com.hotel.entities.RateSeason> addRateSeason(@PathVariable Long hotelId,
+            @PathVariable Long roomTypeId, @RequestBody @Valid com.hotel.dtos.RateSeasonDTO seasonDTO,
+            Principal principal) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(hotelOwnerService.addRateSeason(hotelId, roomTypeId, seasonDTO, principal.getName()));
+    }
+
+    @DeleteMapping("/hotels/{hotelId}/rooms/{roomTypeId}/seasons/{seasonId}")
+    public ResponseEntity<ApiResponse> deleteRateSeason(@PathVariable Long hotelId, @PathVariable Long roomTypeId,
+            @PathVariable Long seasonId, Principal principal) {
+        return ResponseEntity.ok(hotelOwnerService.deleteRateSeason(hotelId, roomTypeId, seasonId, principal.getName()));
+    }
+
+    // Overbooking
+    @GetMapping("/hotels/{hotelId}/rooms/{roomTypeId}/overbooking")
+    public ResponseEntity<List<com.hotel.entities.OverbookingAllowance>> getOverbookingAllowances(
+            @PathVariable Long hotelId, @PathVariable Long roomTypeId, Principal principal) {
+        return ResponseEntity.ok(hotelOwnerService.getOverbookingAllowances(hotelId, roomTypeId, principal.getName()));
+    }
+
+    @PostMapping("/hotels/{hotelId}/rooms/{roomTypeId}/overbooking")
+    @Operation(summary = "Add overbooking allowance", description = "Allows up to maxRooms bookings per night beyond the physical rooms between two dates (inclusive)")
+    public ResponseEntity<com.hotel.entities.OverbookingAllowance> addOverbookingAllowance(@PathVariable Long hotelId,
+            @PathVariable Long roomTypeId, @RequestBody @Valid com.hotel.dtos.OverbookingAllowanceDTO allowanceDTO,
+            Principal principal) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(hotelOwnerService.addOverbookingAllowance(hotelId, roomTypeId, allowanceDTO,
+                        principal.getName()));
+    }
+
+    @DeleteMapping("/hotels/{hotelId}/rooms/{roomTypeId}/overbooking/{allowanceId}")
+    public ResponseEntity<ApiResponse> deleteOverbookingAllowance(@PathVariable Long hotelId,
+            @PathVariable Long roomTypeId, @PathVariable Long allowanceId, Principal principal) {
+        return ResponseEntity.ok(hotelOwnerService.deleteOverbookingAllowance(hotelId, roomTypeId, allowanceId,
+                principal.getName()));
+    }
+
+    @GetMapping("/hotels/{hotelId}/overbooking/report")
+    @Operation(summary = "Overbooking report", description = "Per room type: no-show forecast, suggested allowance and the nights on which sold rooms exceeded physical rooms (walk-outs for past nights)")
+    public ResponseEntity<List<com.hotel.dtos.OverbookingReportDTO>> getOverbookingReport(@PathVariable Long hotelId,
+            @org.springframework.web.bind.annotation.RequestParam @org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE) java.time.LocalDate from,
+            @org.springframework.web.bind.annotation.RequestParam @org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE) java.time.LocalDate to,
+            Principal principal) {
+        return ResponseEntity.ok(hotelOwnerService.getOverbookingReport(hotelId, from, to, principal.getName()));
+    }
+
     // Individual Room Management
     @GetMapping("/hotels/{hotelId}/room-list")
     public ResponseEntity<List<com.hotel.dtos.RoomResponseDTO>> getHotelRoomsList(@PathVariable Long hotelId,
@@ -117,6 +175,26 @@ public class HotelOwnerController {
         return ResponseEntity.ok(hotelOwnerService.getHotelRoomsList(hotelId, principal.getName()));
     }
 
+    @GetMapping(value = "/hotels/{hotelId}/room-list/live", produces = org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Live room-status board", description = "Server-sent events: a 'snapshot' event with every room and the stats, then 'room' and 'stats' events as rooms and occupancies change")
+    public org.springframework.web.servlet.mvc.method.annotation.SseEmitter streamRoomBoard(@PathVariable Long hotelId,
+            Principal principal) {
+        hotelOwnerService.getOwnerHotelDetails(hotelId, principal.getName()); // Verify ownership
+        return roomStatusBoardService.subscribe(hotelId);
+    }
+
+    @GetMapping("/hotels/{hotelId}/room-list/page")
+    @Operation(summary = "Get rooms page", description = "Paginated room list, optionally filtered by status and room type")
+    public ResponseEntity<com.hotel.dtos.RoomPageDTO> getHotelRoomsPage(@PathVariable Long hotelId,
+            @Parameter(description = "AVAILABLE, OCCUPIED, MAINTENANCE or RESERVED") @org.springframework.web.bind.annotation.RequestParam(required = false) String status,
+            @org.springframework.web.bind.annotation.RequestParam(required = false) Long roomTypeId,
+            @org.springframework.web.bind.annotation.RequestParam(defaultValue = "0") int page,
+            @org.springframework.web.bind.annotation.RequestParam(defaultValue = "50") int size,
+            Principal principal) {
+        return ResponseEntity.ok(
+                hotelOwnerService.getHotelRoomsPage(hotelId, status, roomTypeId, page, size, principal.getName()));
+    }
+
     @PostMapping("/hotels/{hotelId}/room-list")
     public ResponseEntity<com.hotel.entities.Room> addRoom(@PathVariable Long hotelId,
             @RequestBody @Valid com.hotel.dtos.RoomDTO roomDTO, Principal principal) {
@@ -124,6 +202,28 @@ public class HotelOwnerController {
                 .body(hotelOwnerService.addRoom(hotelId, roomDTO, principal.getName()));
     }
 
+    @PostMapping("/hotels/{hotelId}/room-list/bulk")
+    @Operation(summary = "Bulk create or update rooms", description = "Creates or updates (matched by room number) a list of rooms in one transaction")
+    public ResponseEntity<com.hotel.dtos.BulkRoomResultDTO> bulkUpsertRooms(@PathVariable Long hotelId,
+            @RequestBody List<com.hotel.dtos.RoomDTO> rooms, Principal principal) {
+        return ResponseEntity.ok(roomProvisioningService.upsertRooms(hotelId, rooms, principal.getName()));
+    }
+
+    @PostMapping("/hotels/{hotelId}/room-list/bulk/pattern")
+    @Operation(summary = "Bulk create rooms from a pattern", description = "Generates room numbers from a pattern such as 1{n:2} (101, 102, ...)")
+    public ResponseEntity<com.hotel.dtos.BulkRoomResultDTO> bulkCreateRoomsFromPattern(@PathVariable Long hotelId,
+            @RequestBody com.hotel.dtos.BulkRoomDTO request, Principal principal) {
+        return ResponseEntity.ok(roomProvisioningService.createFromPattern(hotelId, request, principal.getName()));
+    }
+
+    @PostMapping(value = "/hotels/{hotelId}/room-list/bulk/csv", consumes = org.springframework.http.MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Bulk import rooms from CSV", description = "CSV columns: roomNumber,roomTypeId[,isActive][,status]")
+    public ResponseEntity<com.hotel.dtos.BulkRoomResultDTO> bulkImportRooms(@PathVariable Long hotelId,
+            @org.springframework.web.bind.annotation.RequestParam("file") org.springframework.web.multipart.MultipartFile file,
+            Principal principal) {
+        return ResponseEntity.ok(roomProvisioningService.importCsv(hotelId, file, principal.getName()));
+    }
+
     @PutMapping("/hotels/{hotelId}/room-list/{roomId}")
     public ResponseEntity<com.hotel.entities.Room> updateRoom(@PathVariable Long hotelId, @PathVariable Long roomId,
             @RequestBody @Valid com.hotel.dtos.RoomDTO roomDTO, Principal principal) {
@@ -177,6 +277,15 @@ public class HotelOwnerController {
         return ResponseEntity.ok(hotelOwnerService.getHotelReviews(hotelId, principal.getName()));
     }
 
+    @GetMapping("/hotels/{hotelId}/reviews/feed")
+    @Operation(summary = "Get hotel reviews page", description = "Keyset-paginated reviews, newest first. Pass nextCursor back as cursor for the next page.")
+    public ResponseEntity<com.hotel.dtos.ReviewPageDTO> getHotelReviewPage(@PathVariable Long hotelId,
+            @org.springframework.web.bind.annotation.RequestParam(required = false) String cursor,
+            @org.springframework.web.bind.annotation.RequestParam(required = false) Integer size,
+            Principal principal) {
+        return ResponseEntity.ok(hotelOwnerService.getHotelReviewPage(hotelId, cursor, size, principal.getName()));
+    }
+
     @GetMapping("/hotels/{hotelId}/reviews/stats")
     public ResponseEntity<Map<String, Object>> getReviewStats(@PathVariable Long hotelId, Principal principal) {
         return ResponseEntity.ok(hotelOwnerService.getReviewStats(hotelId, principal.getName()));
@@ -203,6 +312,20 @@ public class HotelOwnerController {
         return ResponseEntity.ok(hotelOwnerService.getPaymentHistory(hotelId, principal.getName()));
     }
 
+    @GetMapping("/hotels/{hotelId}/payments/export")
+    @Operation(summary = "Export payments as CSV", description = "Streams the hotel's payments as CSV (newest first). Optional booking-date range and gzip.")
+    public ResponseEntity<org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody> exportPayments(
+            @PathVariable Long hotelId,
+            @org.springframework.web.bind.annotation.RequestParam(required = false) @org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE) java.time.LocalDate from,
+            @org.springframework.web.bind.annotation.RequestParam(required = false) @org.springframework.format.annotation.DateTimeFormat(iso = org.springframework.format.annotation.DateTimeFormat.ISO.DATE) java.time.LocalDate to,
+            @org.springframework.web.bind.annotation.RequestParam(defaultValue = "false") boolean gzip,
+            Principal principal) {
+        // Ownership is checked up front - errors after streaming starts can't change the status code
+        hotelOwnerService.getOwnerHotelDetails(hotelId, principal.getName());
+        return PaymentReportResponses.csvAttachment("payments-hotel-" + hotelId, gzip,
+                out -> paymentReportService.writeHotelPaymentReport(hotelId, from, to, gzip, out));
+    }
+
     @GetMapping("/hotels/{hotelId}/payments/stats")
     public ResponseEntity<Map<String, Object>> getPaymentStats(@PathVariable Long hotelId, Principal principal) {
         return ResponseEntity.ok(hotelOwnerService.getPaymentStats(hotelId, principal.getName()));
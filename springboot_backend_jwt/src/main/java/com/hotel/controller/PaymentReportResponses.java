@@ -0,0 +1,25 @@
+package com.hotel.controller;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+// Shared response wrapper for the owner and admin CSV payment exports
+final class PaymentReportResponses {
+
+    private PaymentReportResponses() {
+    }
+
+    static ResponseEntity<StreamingResponseBody> csvAttachment(String baseName, boolean gzip,
+            StreamingResponseBody body) {
+        String fileName = baseName + (gzip ? ".csv.gz" : ".csv");
+        return ResponseEntity.ok()
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip")
+                        : new MediaType("text", "csv", java.nio.charset.StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+}
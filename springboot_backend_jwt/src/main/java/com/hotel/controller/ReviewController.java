@@ -10,10 +10,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.hotel.dtos.ReviewDTO;
+import com.hotel.dtos.ReviewPageDTO;
 import com.hotel.entities.Review;
+import com.hotel.service.CatalogVersionService;
 import com.hotel.service.ReviewService;
 
 import jakarta.validation.Valid;
@@ -32,6 +36,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 public class ReviewController {
 
     private final ReviewService reviewService;
+    private final CatalogVersionService catalogVersionService;
 
     @PostMapping
     @Operation(summary = "Create review", description = "Submit a review for a hotel. User must be authenticated.")
@@ -44,8 +49,32 @@ public class ReviewController {
     @Operation(summary = "Get hotel reviews", description = "Retrieves all reviews for a specific hotel")
     @ApiResponse(responseCode = "200", description = "Reviews retrieved successfully")
     public ResponseEntity<List<Review>> getHotelReviews(
-            @Parameter(description = "Hotel ID") @PathVariable Long hotelId) {
-        return ResponseEntity.ok(reviewService.getHotelReviews(hotelId));
+            @Parameter(description = "Hotel ID") @PathVariable Long hotelId, WebRequest webRequest) {
+        if (catalogVersionService.isHotelNotModified(webRequest, hotelId)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CatalogVersionService.REVIEWS_CACHE)
+                .body(reviewService.getHotelReviews(hotelId));
+    }
+
+    @GetMapping("/hotel/{hotelId}/feed")
+    @Operation(summary = "Get hotel reviews page", description = "Keyset-paginated reviews for a hotel, newest first. Pass nextCursor back as cursor for the next page.")
+    @ApiResponse(responseCode = "200", description = "Reviews page retrieved successfully")
+    public ResponseEntity<ReviewPageDTO> getHotelReviewPage(
+            @Parameter(description = "Hotel ID") @PathVariable Long hotelId,
+            @Parameter(description = "Cursor from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam(required = false) Integer size,
+            WebRequest webRequest) {
+        if (catalogVersionService.isHotelNotModified(webRequest, hotelId)) {
+            return null;
+        }
+        ReviewPageDTO page = reviewService.getHotelReviewPage(hotelId, cursor, size);
+        // Public feed - guest emails are for the owner's view only
+        page.getReviews().forEach(r -> r.setGuestEmail(null));
+        return ResponseEntity.ok()
+                .cacheControl(CatalogVersionService.REVIEWS_CACHE)
+                .body(page);
     }
 
     @GetMapping("/my-reviews")
@@ -3,7 +3,10 @@ package com.hotel.controller;
 import java.security.Principal;
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -15,17 +18,24 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.hotel.dtos.AuthRequest;
 import com.hotel.dtos.AuthResp;
 import com.hotel.dtos.UserDTO;
+import com.hotel.dtos.UserImageMetaDTO;
 import com.hotel.dtos.UserRegDTO;
 import com.hotel.entities.User;
 import com.hotel.repository.UserRepository;
+import com.hotel.service.UserImageService;
 import com.hotel.service.UserService;
 import com.hotel.custom_exceptions.ResourceNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.modelmapper.ModelMapper;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -51,9 +61,10 @@ import lombok.extern.slf4j.Slf4j;
 public class UserController {
 
     private final UserService userService;
+    private final UserImageService userImageService;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final ModelMapper modelMapper;
+    private final com.hotel.mapping.UserMapper userMapper;
 
     @GetMapping
     @Operation(summary = "Get all users", description = "Retrieves a list of all registered users in the system. Returns 204 No Content if no users exist.")
@@ -82,6 +93,93 @@ public class UserController {
         return ResponseEntity.ok(userService.getUserDetails(userId));
     }
 
+    @GetMapping("/{userId}/image")
+    @Operation(summary = "Get user image", description = "Streams the user's profile image. Supports single byte-range requests (Range: bytes=start-end) and conditional GET via ETag.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Full image streamed"),
+            @ApiResponse(responseCode = "206", description = "Requested byte range streamed"),
+            @ApiResponse(responseCode = "304", description = "Image not modified"),
+            @ApiResponse(responseCode = "404", description = "User has no image"),
+            @ApiResponse(responseCode = "416", description = "Requested range not satisfiable")
+    })
+    public ResponseEntity<StreamingResponseBody> getUserImage(@PathVariable Long userId,
+            @RequestHeader HttpHeaders requestHeaders, WebRequest webRequest) {
+        UserImageMetaDTO meta = userImageService.getImageMeta(userId);
+        long size = meta.getSizeBytes();
+
+        String etag = "\"img-" + userId + "-" + size + "-"
+                + meta.getLastUpdated().toEpochSecond(java.time.ZoneOffset.UTC) + "."
+                + meta.getLastUpdated().getNano() + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        List<HttpRange> ranges;
+        try {
+            ranges = requestHeaders.getRange();
+        } catch (IllegalArgumentException e) {
+            ranges = List.of();
+        }
+
+        // Only single ranges are honoured; multi-range requests get the full body
+        if (ranges.size() != 1) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(meta.getContentType()))
+                    .contentLength(size)
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .eTag(etag)
+                    .body(out -> userImageService.streamImage(meta, 0, size, out));
+        }
+
+        HttpRange range = ranges.get(0);
+        long start;
+        long end;
+        try {
+            start = range.getRangeStart(size);
+            end = range.getRangeEnd(size);
+            if (start >= size || end < start) {
+                throw new IllegalArgumentException("Range outside image");
+            }
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                    .build();
+        }
+        long length = end - start + 1;
+
+        return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                .contentType(MediaType.parseMediaType(meta.getContentType()))
+                .contentLength(length)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size)
+                .eTag(etag)
+                .body(out -> userImageService.streamImage(meta, start, length, out));
+    }
+
+    @PutMapping(value = "/{userId}/image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Upload user image", description = "Replaces the authenticated user's profile image")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Image stored"),
+            @ApiResponse(responseCode = "400", description = "Missing or non-image file"),
+            @ApiResponse(responseCode = "403", description = "Not the requester's own profile")
+    })
+    public ResponseEntity<?> uploadUserImage(@PathVariable Long userId, @RequestParam("file") MultipartFile file,
+            Principal principal) {
+        log.info("Uploading image for user ID: {}", userId);
+        return ResponseEntity.ok(userImageService.saveImage(userId, file, principal.getName()));
+    }
+
+    @DeleteMapping("/{userId}/image")
+    @Operation(summary = "Delete user image", description = "Removes the authenticated user's profile image")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Image removed"),
+            @ApiResponse(responseCode = "403", description = "Not the requester's own profile"),
+            @ApiResponse(responseCode = "404", description = "User has no image")
+    })
+    public ResponseEntity<?> deleteUserImage(@PathVariable Long userId, Principal principal) {
+        return ResponseEntity.ok(userImageService.deleteImage(userId, principal.getName()));
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update user details", description = "Updates user information for a specific user ID. Requires authentication.")
     @ApiResponses({
@@ -191,7 +289,7 @@ public class UserController {
         try {
             User user = userRepository.findByEmail(principal.getName())
                     .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-            return ResponseEntity.ok(modelMapper.map(user, UserDTO.class));
+            return ResponseEntity.ok(userMapper.toDto(user));
         } catch (Exception e) {
             log.error("Error getting user profile", e);
             return ResponseEntity.badRequest().body("Error: " + e.getMessage());
@@ -0,0 +1,9 @@
+package com.hotel.custom_exceptions;
+
+// Idempotency-Key still in use by another request, or reused with a different body (HTTP 409)
+@SuppressWarnings("serial")
+public class IdempotencyConflictException extends RuntimeException {
+    public IdempotencyConflictException(String message) {
+        super(message);
+    }
+}
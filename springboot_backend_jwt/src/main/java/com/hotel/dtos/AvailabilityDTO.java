@@ -12,6 +12,8 @@ public class AvailabilityDTO {
     private Long availableRoomsCount;
     private Long totalRoomsCount;
     private String message;
+    // Price of the requested rooms for the requested stay, from the rate calendar
+    private java.math.BigDecimal quotedPrice;
 
     public AvailabilityDTO(Boolean available, Long availableRoomsCount, Long totalRoomsCount) {
         this.available = available;
@@ -54,6 +54,9 @@ public class BookingDTO {
     private String guestEmail;
     private String guestPhone;
 
+    // From POST /api/bookings/holds - books the held rooms instead of competing for free ones
+    private String holdReference;
+
     // Payment details
     private String paymentMethod; // CREDIT_CARD, UPI, NET_BANKING
     private String paymentStatus;
@@ -0,0 +1,22 @@
+package com.hotel.dtos;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/*
+ * Pattern-based bulk room request: rooms pattern(start) .. pattern(start + count - 1)
+ * of one room type. See RoomNumberPattern for the pattern syntax.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BulkRoomDTO {
+
+    private Long roomTypeId;
+    private String pattern;
+    private Integer start = 1;
+    private Integer count;
+    private Boolean isActive = true;
+    private String status = "AVAILABLE";
+}
@@ -0,0 +1,15 @@
+package com.hotel.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkRoomResultDTO {
+    private int created;
+    private int updated;
+}
@@ -3,6 +3,7 @@ package com.hotel.dtos;
 import java.util.List;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -24,7 +25,9 @@ public class HotelDTO {
     private boolean ac;
     private boolean restaurant;
     private boolean roomService;
-    private List<String> images;
+    // Image URLs or data: URLs from the owner UI; a data: URL is ~4/3 of the file size
+    @Size(max = 20, message = "At most 20 images per hotel")
+    private List<@NotBlank @Size(max = 4_500_000, message = "Image is too large (max 3 MB)") String> images;
     private String location;
     private String distance;
     private String ratingText;
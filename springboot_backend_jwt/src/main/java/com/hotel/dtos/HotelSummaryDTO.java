@@ -0,0 +1,39 @@
+package com.hotel.dtos;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/*
+ * Slim hotel row for list views. Populated straight from a JPQL constructor
+ * expression (see HotelRepository) so list endpoints never load the owner,
+ * the description TEXT or the full images array - the image comes from the
+ * denormalised primary_image_url column.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class HotelSummaryDTO {
+    private Long id;
+    private String name;
+    private String city;
+    private String state;
+    private Double rating;
+    private Integer ratingCount;
+    private String priceRange;
+    private String status;
+    private String image; // first image of the hotel, null if none
+
+    public HotelSummaryDTO(Long id, String name, String city, String state, Double rating, Integer ratingCount,
+            String priceRange, String status, String primaryImageUrl) {
+        this.id = id;
+        this.name = name;
+        this.city = city;
+        this.state = state;
+        this.rating = rating;
+        this.ratingCount = ratingCount;
+        this.priceRange = priceRange;
+        this.status = status;
+        this.image = primaryImageUrl;
+    }
+}
@@ -0,0 +1,28 @@
+package com.hotel.dtos;
+
+import java.time.LocalDate;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+public class OverbookingAllowanceDTO {
+
+    @NotNull(message = "Start date is required")
+    private LocalDate startDate;
+
+    @NotNull(message = "End date is required")
+    private LocalDate endDate;
+
+    // Rooms that may be sold per night beyond the physical ones
+    @NotNull(message = "Max rooms is required")
+    @Min(value = 0, message = "Max rooms cannot be negative")
+    @Max(value = 50, message = "Max rooms cannot exceed 50")
+    private Integer maxRooms;
+}
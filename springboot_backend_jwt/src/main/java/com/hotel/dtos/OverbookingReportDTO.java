@@ -0,0 +1,40 @@
+package com.hotel.dtos;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Overbooking position of one room type over a date range: the no-show
+ * forecast behind the suggested allowance, and every night on which more
+ * rooms were sold than physically exist (past nights are walk-outs, future
+ * ones are still waiting for a room to free up).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OverbookingReportDTO {
+
+    private Long roomTypeId;
+    private String roomTypeName;
+    private Long physicalRooms;
+    // NO_SHOW / (NO_SHOW + COMPLETED) over the forecast window
+    private Double noShowRate;
+    private Integer suggestedAllowance;
+    private List<ShortNight> shortNights;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ShortNight {
+        private LocalDate date;
+        private Integer shortRooms;
+        private Integer bookings;
+    }
+}
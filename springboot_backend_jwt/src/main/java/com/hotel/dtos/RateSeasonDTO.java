@@ -0,0 +1,33 @@
+package com.hotel.dtos;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+public class RateSeasonDTO {
+
+    @NotBlank(message = "Season name is required")
+    private String name;
+
+    @NotNull(message = "Start date is required")
+    private LocalDate startDate;
+
+    @NotNull(message = "End date is required")
+    private LocalDate endDate;
+
+    // 1.25 = 25% above the room type's base price, 0.8 = 20% below
+    @NotNull(message = "Multiplier is required")
+    @DecimalMin(value = "0.1", message = "Multiplier must be at least 0.1")
+    @DecimalMax(value = "10.0", message = "Multiplier cannot exceed 10")
+    private BigDecimal multiplier;
+}
@@ -0,0 +1,22 @@
+package com.hotel.dtos;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/*
+ * One page of a keyset-paginated review feed. Pass nextCursor back as
+ * ?cursor= to get the following page; it is null on the last page.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewPageDTO {
+    private List<ReviewResponseDTO> reviews;
+    private String nextCursor;
+    private boolean hasMore;
+}
@@ -3,10 +3,12 @@ package com.hotel.dtos;
 import java.time.LocalDateTime;
 
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Getter
 @Setter
+@NoArgsConstructor
 public class ReviewResponseDTO {
     private Long id;
     private String guestName;
@@ -15,4 +17,16 @@ public class ReviewResponseDTO {
     private String title;
     private String comment;
     private LocalDateTime createdAt;
+
+    // Used by the JPQL constructor expressions in ReviewRepository
+    public ReviewResponseDTO(Long id, String firstName, String lastName, String guestEmail, Integer rating,
+            String title, String comment, LocalDateTime createdAt) {
+        this.id = id;
+        this.guestName = firstName + " " + lastName;
+        this.guestEmail = guestEmail;
+        this.rating = rating;
+        this.title = title;
+        this.comment = comment;
+        this.createdAt = createdAt;
+    }
 }
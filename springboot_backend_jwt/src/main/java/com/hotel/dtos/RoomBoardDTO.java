@@ -0,0 +1,16 @@
+package com.hotel.dtos;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Full state of a hotel's live room-status board, sent when a client subscribes
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomBoardDTO {
+    private RoomStatsDTO stats;
+    private List<RoomStateDTO> rooms;
+}
@@ -0,0 +1,36 @@
+package com.hotel.dtos;
+
+import java.time.LocalDate;
+
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+public class RoomHoldDTO {
+
+    @NotNull(message = "Hotel ID is required")
+    private Long hotelId;
+
+    @NotNull(message = "Room Type ID is required")
+    private Long roomTypeId;
+
+    @NotNull(message = "Check-in date is required")
+    @FutureOrPresent(message = "Check-in date must be today or in the future")
+    private LocalDate checkInDate;
+
+    @NotNull(message = "Check-out date is required")
+    @FutureOrPresent(message = "Check-out date must be today or in the future")
+    private LocalDate checkOutDate;
+
+    @NotNull(message = "Number of rooms is required")
+    @Min(value = 1, message = "At least 1 room is required")
+    @Max(value = 10, message = "Maximum 10 rooms allowed")
+    private Integer rooms = 1;
+}
@@ -0,0 +1,24 @@
+package com.hotel.dtos;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomHoldResponseDTO {
+    private String holdReference; // pass as BookingDTO.holdReference to book the held rooms
+    private Long hotelId;
+    private Long roomTypeId;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private Integer rooms;
+    private String status;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,21 @@
+package com.hotel.dtos;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// One page of the owner's room list (page is 0-based)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomPageDTO {
+    private List<RoomResponseDTO> rooms;
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+}
@@ -0,0 +1,18 @@
+package com.hotel.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One room on the live room-status board (removed = room was deleted)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomStateDTO {
+    private Long roomId;
+    private String roomNumber;
+    private Long roomTypeId;
+    private String status;
+    private Boolean isActive;
+    private boolean removed;
+}
@@ -0,0 +1,18 @@
+package com.hotel.dtos;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+ * Rooms taken by all stays with the same dates - filled by a constructor
+ * expression, spread over the nights by RoomOccupancyService.countSellableRoomsByNight
+ */
+@Getter
+@AllArgsConstructor
+public class StayRoomsDTO {
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private Long rooms;
+}
@@ -0,0 +1,22 @@
+package com.hotel.dtos;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/*
+ * Avatar metadata without the bytes - filled by a constructor expression
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImageMetaDTO {
+    private Long userId;
+    private String contentType;
+    private Long sizeBytes;
+    private LocalDateTime lastUpdated;
+}
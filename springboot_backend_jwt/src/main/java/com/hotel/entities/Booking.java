@@ -68,6 +68,10 @@ public class Booking extends BaseEntity {
     private Integer children = 0;
     private Integer rooms = 1;
 
+    // Rooms sold on the overbooking allowance that have no physical room yet
+    @Column(name = "unassigned_rooms", nullable = false)
+    private Integer unassignedRooms = 0;
+
     @Column(name = "booking_date")
     private LocalDate bookingDate;
 
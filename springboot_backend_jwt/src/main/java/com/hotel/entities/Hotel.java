@@ -3,18 +3,21 @@ package com.hotel.entities;
 import java.util.List;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
 @Entity
-@Table(name = "hotels")
+@Table(name = "hotels", indexes = @Index(name = "idx_hotels_city_status", columnList = "city, status"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -44,6 +47,10 @@ public class Hotel extends BaseEntity {
     @Column(name = "rating_count")
     private Integer ratingCount = 0;
 
+    // Running total of review stars - rating = ratingSum / ratingCount
+    @Column(name = "rating_sum")
+    private Long ratingSum = 0L;
+
     private Boolean wifi = false;
     private Boolean parking = false;
     private Boolean gym = false;
@@ -52,8 +59,13 @@ public class Hotel extends BaseEntity {
     @Column(name = "room_service")
     private Boolean roomService = false;
 
+    @Convert(converter = StringListJsonConverter.class)
     @Column(columnDefinition = "JSON")
-    private String images;
+    private List<String> images;
+    // images[0], kept in its own column so list views never read the JSON; may be a data: URL
+    @Column(name = "primary_image_url", columnDefinition = "MEDIUMTEXT")
+    @Setter(AccessLevel.NONE) // derived from images
+    private String primaryImageUrl;
 
     private String location;
 
@@ -69,10 +81,15 @@ public class Hotel extends BaseEntity {
     @Column(name = "price_range")
     private String priceRange;
 
-    // Owner relationship
-    @ManyToOne(fetch = FetchType.EAGER)
+    // Owner relationship - lazy: only ownership checks need it, and it is never serialized
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id")
     @ToString.Exclude
     @com.fasterxml.jackson.annotation.JsonIgnore
     private User owner; // Links to ROLE_HOTEL_MANAGER
+
+    public void setImages(List<String> images) {
+        this.images = StringListJsonConverter.copyOf(images);
+        this.primaryImageUrl = this.images == null || this.images.isEmpty() ? null : this.images.get(0);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.hotel.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/*
+ * Per-hotel count of reviews by star. Maintained alongside the running
+ * rating (see HotelRatingService) so review stats never scan the reviews table.
+ */
+@Entity
+@Table(name = "hotel_review_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotelReviewStats {
+
+    @Id
+    @Column(name = "hotel_id")
+    private Long hotelId;
+
+    private long star1;
+    private long star2;
+    private long star3;
+    private long star4;
+    private long star5;
+
+    public long getStar(int star) {
+        return switch (star) {
+            case 1 -> star1;
+            case 2 -> star2;
+            case 3 -> star3;
+            case 4 -> star4;
+            case 5 -> star5;
+            default -> 0L;
+        };
+    }
+}
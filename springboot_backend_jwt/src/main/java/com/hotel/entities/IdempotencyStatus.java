@@ -0,0 +1,5 @@
+package com.hotel.entities;
+
+public enum IdempotencyStatus {
+    IN_PROGRESS, COMPLETED
+}
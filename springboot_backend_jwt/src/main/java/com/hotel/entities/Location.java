@@ -2,15 +2,17 @@ package com.hotel.entities;
 
 import java.time.LocalDate;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Data;
 
 @Entity
-@Table(name = "locations")
+@Table(name = "locations", uniqueConstraints = @UniqueConstraint(name = "uk_locations_city", columnNames = "city"))
 @Data
 public class Location {
 
@@ -25,5 +27,9 @@ public class Location {
 
     private LocalDate addedDate;
 
+    // Hotels in this city (any status), kept by LocationHotelCountService; null = not counted yet
+    @Column(name = "hotel_count")
+    private Long hotelCount;
+
     // image? Optional for now.
 }
@@ -0,0 +1,47 @@
+package com.hotel.entities;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Overbooking allowance for a room type: on every night from startDate to
+ * endDate (both inclusive) up to maxRooms rooms may be sold beyond the
+ * physical ones. Where allowances overlap the highest one wins.
+ */
+@Entity
+@Table(name = "overbooking_allowances")
+@Getter
+@Setter
+@NoArgsConstructor
+public class OverbookingAllowance {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "room_type_id", nullable = false)
+    @com.fasterxml.jackson.annotation.JsonIgnore
+    private RoomType roomType;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    @Column(name = "max_rooms", nullable = false)
+    private Integer maxRooms;
+}
@@ -0,0 +1,57 @@
+package com.hotel.entities;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Seasonal price rule for a room type: every night from startDate to endDate
+ * (both inclusive) costs pricePerNight x multiplier before weekend and
+ * occupancy adjustments. Where seasons overlap the highest multiplier wins.
+ */
+@Entity
+@Table(name = "rate_seasons")
+@Getter
+@Setter
+@NoArgsConstructor
+public class RateSeason {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "room_type_id", nullable = false)
+    @ToString.Exclude
+    @com.fasterxml.jackson.annotation.JsonIgnore
+    private RoomType roomType;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    @Column(nullable = false, precision = 5, scale = 3)
+    private BigDecimal multiplier;
+
+    public boolean covers(LocalDate night) {
+        return !night.isBefore(startDate) && !night.isAfter(endDate);
+    }
+}
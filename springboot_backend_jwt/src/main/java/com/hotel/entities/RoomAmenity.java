@@ -0,0 +1,86 @@
+package com.hotel.entities;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+ * Room amenities that can be filtered on in SQL. Each constant is one bit of
+ * room_types.amenity_mask (bit = ordinal), so new amenities are only ever
+ * appended - and V3__structured_media_columns.sql shows how to backfill one.
+ * Labels are what the owner UI sends; amenities outside this list are kept
+ * in RoomType.amenities but have no bit.
+ */
+public enum RoomAmenity {
+    WIFI("WiFi"),
+    TV("TV"),
+    ROOM_SERVICE("Room Service"),
+    AC("AC"),
+    MINI_BAR("Mini Bar"),
+    BALCONY("Balcony"),
+    BATHTUB("Bathtub"),
+    WORK_DESK("Work Desk"),
+    SAFE("Safe"),
+    COFFEE_MAKER("Coffee Maker");
+
+    // "Wi-Fi", "wifi" and "WiFi" are the same amenity
+    private static final Map<String, RoomAmenity> BY_KEY = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(a -> key(a.label), Function.identity()));
+
+    private final String label;
+
+    RoomAmenity(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public long bit() {
+        return 1L << ordinal();
+    }
+
+    /** Bits of the known amenities in the list; unknown labels are ignored. */
+    public static long maskOf(Collection<String> labels) {
+        if (labels == null) {
+            return 0L;
+        }
+        long mask = 0L;
+        for (String label : labels) {
+            RoomAmenity amenity = label == null ? null : BY_KEY.get(key(label));
+            if (amenity != null) {
+                mask |= amenity.bit();
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Mask for a comma separated filter such as "WiFi,TV". Empty when the
+     * filter names an amenity no room can have, so callers can short-circuit
+     * to an empty result.
+     */
+    public static OptionalLong filterMask(String csv) {
+        long mask = 0L;
+        for (String label : csv.split(",")) {
+            if (label.isBlank()) {
+                continue;
+            }
+            RoomAmenity amenity = BY_KEY.get(key(label));
+            if (amenity == null) {
+                return OptionalLong.empty();
+            }
+            mask |= amenity.bit();
+        }
+        return OptionalLong.of(mask);
+    }
+
+    private static String key(String label) {
+        return label.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+    }
+}
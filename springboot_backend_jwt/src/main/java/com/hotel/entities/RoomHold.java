@@ -0,0 +1,79 @@
+package com.hotel.entities;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A few minutes' claim on N rooms of a room type for given dates, taken when
+ * a guest starts checkout. Counts against availability while ACTIVE and
+ * unexpired; becomes CONVERTED when the booking is made, RELEASED when the
+ * guest abandons checkout, EXPIRED otherwise.
+ */
+@Entity
+@Table(name = "room_holds")
+@Getter
+@Setter
+@NoArgsConstructor
+public class RoomHold {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "hold_reference", nullable = false, unique = true, length = 20)
+    private String holdReference;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "hotel_id", nullable = false)
+    private Hotel hotel;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "room_type_id", nullable = false)
+    private RoomType roomType;
+
+    @Column(name = "check_in_date", nullable = false)
+    private LocalDate checkInDate;
+
+    @Column(name = "check_out_date", nullable = false)
+    private LocalDate checkOutDate;
+
+    @Column(nullable = false)
+    private Integer rooms;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RoomHoldStatus status;
+
+    // Set when the hold is converted
+    @Column(name = "booking_id")
+    private Long bookingId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public boolean isLive() {
+        return status == RoomHoldStatus.ACTIVE && LocalDateTime.now().isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,5 @@
+package com.hotel.entities;
+
+public enum RoomHoldStatus {
+    ACTIVE, CONVERTED, RELEASED, EXPIRED
+}
@@ -4,11 +4,13 @@ import java.math.BigDecimal;
 import java.util.List;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -45,9 +47,26 @@ public class RoomType extends BaseEntity {
     @com.fasterxml.jackson.annotation.JsonIgnore
     private Hotel hotel;
 
+    @Convert(converter = StringListJsonConverter.class)
     @Column(columnDefinition = "JSON")
-    private String amenities;
+    private List<String> amenities;
 
+    // RoomAmenity bits of amenities, for filtering in SQL
+    @Column(name = "amenity_mask", nullable = false)
+    @com.fasterxml.jackson.annotation.JsonIgnore
+    @Setter(AccessLevel.NONE) // derived from amenities
+    private long amenityMask;
+
+    @Convert(converter = StringListJsonConverter.class)
     @Column(columnDefinition = "JSON")
-    private String images;
+    private List<String> images;
+
+    public void setAmenities(List<String> amenities) {
+        this.amenities = StringListJsonConverter.copyOf(amenities);
+        this.amenityMask = RoomAmenity.maskOf(this.amenities);
+    }
+
+    public void setImages(List<String> images) {
+        this.images = StringListJsonConverter.copyOf(images);
+    }
 }
@@ -0,0 +1,89 @@
+package com.hotel.entities;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.annotations.Immutable;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/*
+ * JSON array column <-> unmodifiable List<String> (hotel / room type images,
+ * room type amenities). Short parsed lists (amenities, image URLs) are
+ * cached by their JSON text: catalog reads load the same arrays over and
+ * over, and since the lists are unmodifiable they can be shared between
+ * entities. Longer values - images stored as data: URLs run to megabytes -
+ * are parsed every time; list views read primary_image_url instead of them
+ * anyway. @Immutable tells
+ * Hibernate the same thing, so dirty checking compares the lists directly
+ * instead of round-tripping them through JSON on every flush - entities
+ * replace the list, they never change it in place.
+ */
+@Converter
+@Immutable
+public class StringListJsonConverter implements AttributeConverter<List<String>, String> {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<List<String>> LIST_TYPE = new TypeReference<>() {
+    };
+
+    // Plenty for the catalog; cleared wholesale when full rather than tracking recency.
+    // With the size cap the cache stays within a few MB.
+    private static final int CACHE_LIMIT = 4096;
+    private static final int MAX_CACHED_LENGTH = 1024;
+    private static final ConcurrentMap<String, List<String>> PARSED = new ConcurrentHashMap<>();
+
+    @Override
+    public String convertToDatabaseColumn(List<String> values) {
+        if (values == null) {
+            return null;
+        }
+        try {
+            return MAPPER.writeValueAsString(values);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize list to JSON", e);
+        }
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(String json) {
+        if (json == null) {
+            return null;
+        }
+        if (json.length() > MAX_CACHED_LENGTH) {
+            return parse(json);
+        }
+        List<String> cached = PARSED.get(json);
+        if (cached != null) {
+            return cached;
+        }
+        List<String> parsed = parse(json);
+        if (PARSED.size() >= CACHE_LIMIT) {
+            PARSED.clear();
+        }
+        PARSED.put(json, parsed);
+        return parsed;
+    }
+
+    private static List<String> parse(String json) {
+        try {
+            List<String> values = MAPPER.readValue(json, LIST_TYPE);
+            return values == null ? List.of() : values.stream().filter(Objects::nonNull).toList();
+        } catch (JsonProcessingException e) {
+            // Very old rows hold a bare URL instead of an array
+            return json.isBlank() ? List.of() : List.of(json.trim());
+        }
+    }
+
+    /** Copy of a request-supplied list without nulls, in the form entities store it. */
+    public static List<String> copyOf(List<String> values) {
+        return values == null ? null : values.stream().filter(Objects::nonNull).toList();
+    }
+}
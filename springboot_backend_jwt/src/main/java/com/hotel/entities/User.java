@@ -8,7 +8,6 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.Lob;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -29,7 +28,7 @@ import com.fasterxml.jackson.annotation.JsonProperty.Access;
 @NoArgsConstructor
 @Getter
 @Setter
-@ToString(exclude = { "password", "image" }, callSuper = true)
+@ToString(exclude = { "password" }, callSuper = true)
 
 public class User extends BaseEntity {
 
@@ -58,9 +57,7 @@ public class User extends BaseEntity {
     private String phone;
     @Column(length = 255, nullable = false)
     private String address;
-    @Lob // column type - for Mysql : longblob
-    @com.fasterxml.jackson.annotation.JsonIgnore
-    private byte[] image;
+    // Avatar lives in user_images (see UserImage) - streamed via /api/users/{id}/image
 
     // Account management fields
     @Enumerated(EnumType.STRING)
@@ -0,0 +1,43 @@
+package com.hotel.entities;
+
+import jakarta.persistence.Basic;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Lob;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/*
+ * User avatar, kept out of the users table so that loading a User (login,
+ * JWT filter, bookings, reviews ...) never drags a multi-MB blob along.
+ * The bytes are only ever read in chunks by UserImageRepository.readChunk.
+ */
+@Entity
+@Table(name = "user_images")
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString(exclude = { "user", "data" }, callSuper = true)
+public class UserImage extends BaseEntity {
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false, unique = true)
+    private User user;
+
+    @Column(name = "content_type", length = 100, nullable = false)
+    private String contentType;
+
+    @Column(name = "size_bytes", nullable = false)
+    private Long sizeBytes;
+
+    @Lob // column type - for Mysql : longblob
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "data", nullable = false)
+    private byte[] data;
+}
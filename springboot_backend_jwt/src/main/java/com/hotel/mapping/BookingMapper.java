@@ -0,0 +1,59 @@
+package com.hotel.mapping;
+
+import org.springframework.stereotype.Component;
+
+import com.hotel.dtos.BookingResponseDTO;
+import com.hotel.entities.Booking;
+import com.hotel.entities.User;
+
+/*
+ * Booking -> BookingResponseDTO. Only touches the hotel and room type
+ * associations; toResponseWithUser also reads the booking's user, so use it
+ * only where the user is fetched with the booking (admin views).
+ * Assigned room numbers come from room_occupancy and are added by the caller.
+ */
+@Component
+public class BookingMapper {
+
+    public BookingResponseDTO toResponse(Booking booking) {
+        BookingResponseDTO dto = new BookingResponseDTO();
+        dto.setId(booking.getId());
+        dto.setBookingReference(booking.getBookingReference());
+        dto.setHotelId(booking.getHotel().getId());
+        dto.setHotelName(booking.getHotel().getName());
+        dto.setHotelCity(booking.getHotel().getCity());
+        dto.setRoomTypeName(booking.getRoomType().getName());
+        dto.setCheckInDate(booking.getCheckInDate());
+        dto.setCheckOutDate(booking.getCheckOutDate());
+        dto.setTotalPrice(booking.getTotalPrice());
+
+        // Frozen pricing fields
+        dto.setPricePerNight(booking.getPricePerNight());
+        dto.setNights(booking.getNights());
+        dto.setBaseAmount(booking.getBaseAmount());
+
+        dto.setStatus(booking.getStatus());
+        dto.setAdults(booking.getAdults());
+        dto.setChildren(booking.getChildren());
+        dto.setRooms(booking.getRooms());
+        dto.setBookingDate(booking.getBookingDate());
+        dto.setGuestFirstName(booking.getGuestFirstName());
+        dto.setGuestLastName(booking.getGuestLastName());
+        dto.setGuestEmail(booking.getGuestEmail());
+        dto.setGuestPhone(booking.getGuestPhone());
+        dto.setPaymentStatus(booking.getPaymentStatus());
+        dto.setPaymentMethod(booking.getPaymentMethod());
+        dto.setTransactionId(booking.getTransactionId());
+        return dto;
+    }
+
+    public BookingResponseDTO toResponseWithUser(Booking booking) {
+        BookingResponseDTO dto = toResponse(booking);
+        User user = booking.getUser();
+        if (user != null) {
+            dto.setUserEmail(user.getEmail());
+            dto.setUserName(user.getFirstName() + " " + user.getLastName());
+        }
+        return dto;
+    }
+}
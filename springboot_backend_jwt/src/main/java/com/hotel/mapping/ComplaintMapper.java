@@ -0,0 +1,28 @@
+package com.hotel.mapping;
+
+import org.springframework.stereotype.Component;
+
+import com.hotel.dtos.ComplaintResponseDTO;
+import com.hotel.entities.Complaint;
+
+@Component
+public class ComplaintMapper {
+
+    public ComplaintResponseDTO toResponse(Complaint complaint) {
+        ComplaintResponseDTO dto = new ComplaintResponseDTO();
+        dto.setId(complaint.getId());
+        dto.setHotelId(complaint.getHotel() != null ? complaint.getHotel().getId() : null);
+        dto.setHotelName(complaint.getHotel() != null ? complaint.getHotel().getName() : null);
+        dto.setBookingId(complaint.getBooking() != null ? complaint.getBooking().getId() : null);
+        dto.setBookingReference(complaint.getBooking() != null ? complaint.getBooking().getBookingReference() : null);
+        dto.setGuestName(complaint.getGuestName());
+        dto.setGuestEmail(complaint.getGuestEmail());
+        dto.setSubject(complaint.getSubject());
+        dto.setDescription(complaint.getDescription());
+        dto.setStatus(complaint.getStatus() != null ? complaint.getStatus().name() : null);
+        dto.setCreatedAt(complaint.getCreatedAt());
+        dto.setResolvedAt(complaint.getResolvedAt());
+        dto.setResolution(complaint.getResolution());
+        return dto;
+    }
+}
@@ -0,0 +1,43 @@
+package com.hotel.mapping;
+
+import org.springframework.stereotype.Component;
+
+import com.hotel.dtos.HotelDTO;
+import com.hotel.entities.Hotel;
+
+/*
+ * HotelDTO -> Hotel, field by field. Owner, status and the images list are
+ * always decided by the caller, so they are deliberately not copied - the
+ * reflective mapper used to guess them from ownerId / status.
+ */
+@Component
+public class HotelMapper {
+
+    public Hotel toEntity(HotelDTO dto) {
+        Hotel hotel = new Hotel();
+        hotel.setName(dto.getName());
+        hotel.setCity(dto.getCity());
+        hotel.setState(dto.getState());
+        hotel.setAddress(dto.getAddress());
+        hotel.setDescription(dto.getDescription());
+        // Keep the entity defaults (0.0 / 0) when the client sends nothing
+        if (dto.getRating() != null) {
+            hotel.setRating(dto.getRating());
+        }
+        if (dto.getRatingCount() != null) {
+            hotel.setRatingCount(dto.getRatingCount());
+        }
+        hotel.setStarRating(dto.getStarRating());
+        hotel.setWifi(dto.isWifi());
+        hotel.setParking(dto.isParking());
+        hotel.setGym(dto.isGym());
+        hotel.setAc(dto.isAc());
+        hotel.setRestaurant(dto.isRestaurant());
+        hotel.setRoomService(dto.isRoomService());
+        hotel.setLocation(dto.getLocation());
+        hotel.setDistance(dto.getDistance());
+        hotel.setRatingText(dto.getRatingText());
+        hotel.setPriceRange(dto.getPriceRange());
+        return hotel;
+    }
+}
@@ -0,0 +1,26 @@
+package com.hotel.mapping;
+
+import org.springframework.stereotype.Component;
+
+import com.hotel.dtos.ReviewResponseDTO;
+import com.hotel.entities.Review;
+
+/*
+ * Review -> ReviewResponseDTO for entities already loaded. The feeds build the
+ * same DTO straight from JPQL (see ReviewRepository).
+ */
+@Component
+public class ReviewMapper {
+
+    public ReviewResponseDTO toResponse(Review review) {
+        ReviewResponseDTO dto = new ReviewResponseDTO();
+        dto.setId(review.getId());
+        dto.setGuestName(review.getUser().getFirstName() + " " + review.getUser().getLastName());
+        dto.setGuestEmail(review.getUser().getEmail());
+        dto.setRating(review.getRating());
+        dto.setTitle(review.getTitle());
+        dto.setComment(review.getComment());
+        dto.setCreatedAt(review.getCreatedAt());
+        return dto;
+    }
+}
@@ -0,0 +1,27 @@
+package com.hotel.mapping;
+
+import org.springframework.stereotype.Component;
+
+import com.hotel.dtos.RoomTypeDTO;
+import com.hotel.entities.RoomType;
+
+/*
+ * RoomTypeDTO -> RoomType. Hotel and the amenities / images lists are set by
+ * the caller.
+ */
+@Component
+public class RoomTypeMapper {
+
+    public RoomType toEntity(RoomTypeDTO dto) {
+        RoomType roomType = new RoomType();
+        roomType.setName(dto.getName());
+        roomType.setDescription(dto.getDescription());
+        roomType.setPricePerNight(dto.getPricePerNight());
+        roomType.setCapacity(dto.getCapacity());
+        if (dto.getTotalRooms() != null) {
+            roomType.setTotalRooms(dto.getTotalRooms());
+        }
+        roomType.setBeds(dto.getBeds());
+        return roomType;
+    }
+}
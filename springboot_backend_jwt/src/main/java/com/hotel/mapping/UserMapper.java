@@ -0,0 +1,44 @@
+package com.hotel.mapping;
+
+import org.springframework.stereotype.Component;
+
+import com.hotel.dtos.UserDTO;
+import com.hotel.dtos.UserRegDTO;
+import com.hotel.entities.User;
+
+/*
+ * Registration DTO -> User and User -> UserDTO. Role, account status and the
+ * password hash are set by the caller.
+ */
+@Component
+public class UserMapper {
+
+    public User toEntity(UserRegDTO dto) {
+        User user = new User();
+        user.setFirstName(dto.getFirstName());
+        user.setLastName(dto.getLastName());
+        user.setEmail(dto.getEmail());
+        user.setPassword(dto.getPassword());
+        user.setPhone(dto.getPhone());
+        user.setDob(dto.getDob());
+        user.setAddress(dto.getAddress());
+        user.setRegAmount(dto.getRegAmount());
+        return user;
+    }
+
+    public UserDTO toDto(User user) {
+        UserDTO dto = new UserDTO();
+        dto.setId(user.getId());
+        dto.setFirstName(user.getFirstName());
+        dto.setLastName(user.getLastName());
+        dto.setEmail(user.getEmail());
+        dto.setPhone(user.getPhone());
+        dto.setAddress(user.getAddress());
+        dto.setDob(user.getDob());
+        dto.setUserRole(user.getUserRole());
+        dto.setRegAmount(user.getRegAmount() != null ? user.getRegAmount() : 0);
+        dto.setAccountStatus(user.getAccountStatus() != null ? user.getAccountStatus().name() : null);
+        dto.setCreatedAt(user.getCreatedOn());
+        return dto;
+    }
+}
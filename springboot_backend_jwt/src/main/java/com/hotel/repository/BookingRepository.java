@@ -2,13 +2,19 @@ package com.hotel.repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import com.hotel.entities.Booking;
 
+import jakarta.persistence.QueryHint;
+
 public interface BookingRepository extends JpaRepository<Booking, Long> {
     List<Booking> findByUserId(Long userId);
 
@@ -35,4 +41,82 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     @Query("SELECT b FROM Booking b WHERE b.checkInDate >= :startDate AND b.checkOutDate <= :endDate")
     List<Booking> findBookingsInDateRange(@Param("startDate") LocalDate startDate, 
                                           @Param("endDate") LocalDate endDate);
+
+    // Booking with what the invoice needs, loadable outside the creating transaction
+    @Query("SELECT b FROM Booking b JOIN FETCH b.hotel JOIN FETCH b.roomType WHERE b.id = :id")
+    java.util.Optional<Booking> findWithDetailsById(@Param("id") Long id);
+
+    // Newest bookings with everything mapToBookingResponse reads - pass PageRequest.of(0, n)
+    @Query("SELECT b FROM Booking b JOIN FETCH b.hotel JOIN FETCH b.roomType LEFT JOIN FETCH b.user " +
+           "ORDER BY b.bookingDate DESC, b.id DESC")
+    List<Booking> findRecentWithDetails(org.springframework.data.domain.Pageable limit);
+
+    /*
+     * Payment export cursors. Fetch size Integer.MIN_VALUE makes MySQL Connector/J
+     * stream rows one at a time instead of buffering the whole result set; the
+     * Stream must be consumed (and closed) inside a read-only transaction.
+     */
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("SELECT b FROM Booking b WHERE b.hotel.id = :hotelId AND b.paymentStatus IS NOT NULL " +
+           "AND (:from IS NULL OR b.bookingDate >= :from) AND (:to IS NULL OR b.bookingDate <= :to) " +
+           "ORDER BY b.bookingDate DESC, b.id DESC")
+    Stream<Booking> streamPaymentsByHotel(@Param("hotelId") Long hotelId,
+                                          @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to);
+
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("SELECT b FROM Booking b JOIN FETCH b.hotel WHERE b.paymentStatus IS NOT NULL " +
+           "AND (:from IS NULL OR b.bookingDate >= :from) AND (:to IS NULL OR b.bookingDate <= :to) " +
+           "ORDER BY b.bookingDate DESC, b.id DESC")
+    Stream<Booking> streamAllPayments(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Overbooking: rooms sold beyond the physical ones that still wait for a room during [checkIn, checkOut)
+    @Query("SELECT COALESCE(SUM(b.unassignedRooms), 0) FROM Booking b WHERE b.roomType.id = :roomTypeId " +
+           "AND b.status = 'CONFIRMED' AND b.unassignedRooms > 0 " +
+           "AND (:excludeBookingId IS NULL OR b.id <> :excludeBookingId) " +
+           "AND b.checkInDate < :checkOut AND b.checkOutDate > :checkIn")
+    Long sumUnassignedRooms(@Param("roomTypeId") Long roomTypeId,
+                            @Param("excludeBookingId") Long excludeBookingId,
+                            @Param("checkIn") LocalDate checkIn,
+                            @Param("checkOut") LocalDate checkOut);
+
+    // Overbooked rooms per stay dates overlapping [from, to)
+    @Query("SELECT new com.hotel.dtos.StayRoomsDTO(b.checkInDate, b.checkOutDate, SUM(b.unassignedRooms)) " +
+           "FROM Booking b WHERE b.roomType.id = :roomTypeId " +
+           "AND b.status = 'CONFIRMED' AND b.unassignedRooms > 0 " +
+           "AND b.checkInDate < :to AND b.checkOutDate > :from " +
+           "GROUP BY b.checkInDate, b.checkOutDate")
+    List<com.hotel.dtos.StayRoomsDTO> sumUnassignedRoomsByStay(@Param("roomTypeId") Long roomTypeId,
+                                                             @Param("from") LocalDate from,
+                                                             @Param("to") LocalDate to);
+
+    // Overbooked bookings that could take a room freed during [from, to), first arrivals first
+    @Query("SELECT b FROM Booking b WHERE b.roomType.id = :roomTypeId AND b.status = 'CONFIRMED' " +
+           "AND b.unassignedRooms > 0 AND b.checkOutDate > :today " +
+           "AND b.checkInDate < :to AND b.checkOutDate > :from ORDER BY b.checkInDate, b.id")
+    List<Booking> findWaitingForRooms(@Param("roomTypeId") Long roomTypeId,
+                                      @Param("from") LocalDate from,
+                                      @Param("to") LocalDate to,
+                                      @Param("today") LocalDate today);
+
+    // (roomTypeId, checkInDate, checkOutDate, unassignedRooms) of overbooked stays in [from, to) - walk-out report
+    @Query("SELECT b.roomType.id, b.checkInDate, b.checkOutDate, b.unassignedRooms FROM Booking b " +
+           "WHERE b.hotel.id = :hotelId AND b.status <> 'CANCELLED' AND b.unassignedRooms > 0 " +
+           "AND b.checkInDate < :to AND b.checkOutDate > :from")
+    List<Object[]> findShortStaysByHotel(@Param("hotelId") Long hotelId,
+                                         @Param("from") LocalDate from,
+                                         @Param("to") LocalDate to);
+
+    // (roomTypeId, no-shows, arrivals) since a date - no-show forecast
+    @Query("SELECT b.roomType.id, SUM(CASE WHEN b.status = 'NO_SHOW' THEN 1 ELSE 0 END), COUNT(b) " +
+           "FROM Booking b WHERE b.status IN ('NO_SHOW', 'COMPLETED') AND b.checkInDate >= :since " +
+           "GROUP BY b.roomType.id")
+    List<Object[]> countNoShowsByRoomType(@Param("since") LocalDate since);
+
+    // Confirmed stays whose check-out date has come are completed (arrivals for the no-show forecast)
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = 'COMPLETED' WHERE b.status = 'CONFIRMED' AND b.checkOutDate <= :today")
+    int completeCheckedOut(@Param("today") LocalDate today);
 }
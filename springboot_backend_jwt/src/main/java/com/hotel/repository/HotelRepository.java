@@ -3,10 +3,68 @@ package com.hotel.repository;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 
+import com.hotel.dtos.HotelSummaryDTO;
 import com.hotel.entities.Hotel;
 
 public interface HotelRepository extends JpaRepository<Hotel, Long> {
+
+    /*
+     * Average after applying the delta, written against the OLD column values.
+     * rating / ratingText are assigned before ratingSum / ratingCount because
+     * MySQL evaluates SET assignments left to right.
+     */
+    String NEW_RATING_AVG = "((COALESCE(h.ratingSum, 0) + :sumDelta) * 1.0 / (COALESCE(h.ratingCount, 0) + :countDelta))";
+
+    @Modifying(flushAutomatically = true)
+    @org.springframework.data.jpa.repository.Query("UPDATE Hotel h SET "
+            + "h.rating = CASE WHEN COALESCE(h.ratingCount, 0) + :countDelta > 0 THEN " + NEW_RATING_AVG + " ELSE 0.0 END, "
+            + "h.ratingText = CASE WHEN COALESCE(h.ratingCount, 0) + :countDelta <= 0 THEN 'Not Rated' "
+            + "WHEN " + NEW_RATING_AVG + " >= 4.5 THEN 'Excellent' "
+            + "WHEN " + NEW_RATING_AVG + " >= 4.0 THEN 'Very Good' "
+            + "WHEN " + NEW_RATING_AVG + " >= 3.5 THEN 'Good' "
+            + "WHEN " + NEW_RATING_AVG + " >= 3.0 THEN 'Average' "
+            + "ELSE 'Below Average' END, "
+            + "h.ratingSum = COALESCE(h.ratingSum, 0) + :sumDelta, "
+            + "h.ratingCount = COALESCE(h.ratingCount, 0) + :countDelta "
+            + "WHERE h.id = :hotelId")
+    int applyRatingDelta(@org.springframework.data.repository.query.Param("hotelId") Long hotelId,
+            @org.springframework.data.repository.query.Param("sumDelta") long sumDelta,
+            @org.springframework.data.repository.query.Param("countDelta") int countDelta);
+
+    /*
+     * Recomputes one hotel's totals from its reviews in a single statement: the hotel
+     * row is locked by the UPDATE and the reviews are read with shared locks, so a
+     * concurrent applyRatingDelta is either already counted or applied on top
+     * afterwards. Sum and count are assigned first so rating / rating_text see the new
+     * values; bands as in applyRatingDelta.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @org.springframework.data.jpa.repository.Query(value = "UPDATE hotels h SET "
+            + "h.rating_sum = (SELECT COALESCE(SUM(r.rating), 0) FROM reviews r WHERE r.hotel_id = h.id), "
+            + "h.rating_count = (SELECT COUNT(*) FROM reviews r WHERE r.hotel_id = h.id), "
+            + "h.rating = CASE WHEN h.rating_count > 0 THEN h.rating_sum / h.rating_count ELSE 0 END, "
+            + "h.rating_text = CASE WHEN h.rating_count = 0 THEN 'Not Rated' "
+            + "WHEN h.rating >= 4.5 THEN 'Excellent' "
+            + "WHEN h.rating >= 4.0 THEN 'Very Good' "
+            + "WHEN h.rating >= 3.5 THEN 'Good' "
+            + "WHEN h.rating >= 3.0 THEN 'Average' "
+            + "ELSE 'Below Average' END "
+            + "WHERE h.id = :hotelId", nativeQuery = true)
+    int recomputeRating(@org.springframework.data.repository.query.Param("hotelId") Long hotelId);
+
+    // Written by RateCalendarService from the rate calendars, outside any request transaction
+    @org.springframework.transaction.annotation.Transactional
+    @Modifying
+    @org.springframework.data.jpa.repository.Query("UPDATE Hotel h SET h.priceRange = :priceRange WHERE h.id = :hotelId")
+    int updatePriceRange(@org.springframework.data.repository.query.Param("hotelId") Long hotelId,
+            @org.springframework.data.repository.query.Param("priceRange") String priceRange);
+
+    // (id, ratingSum, ratingCount) for every hotel - used by the rating reconciliation job
+    @org.springframework.data.jpa.repository.Query("SELECT h.id, h.ratingSum, h.ratingCount FROM Hotel h")
+    List<Object[]> findRatingAggregates();
+
     List<Hotel> findByCityContainingIgnoreCase(String city);
 
     List<Hotel> findByCityContainingIgnoreCaseAndStatus(String city, String status);
@@ -23,6 +81,23 @@ public interface HotelRepository extends JpaRepository<Hotel, Long> {
 
     List<Hotel> findByCity(String city);
 
+    // Newest hotels - pass PageRequest.of(0, n) to read only n rows
+    List<Hotel> findAllByOrderByIdDesc(org.springframework.data.domain.Pageable limit);
+
+    // (city, hotel count) - one grouped query instead of loading hotels per city
+    @org.springframework.data.jpa.repository.Query("SELECT h.city, COUNT(h) FROM Hotel h WHERE h.city IN :cities GROUP BY h.city")
+    List<Object[]> countHotelsByCityIn(@org.springframework.data.repository.query.Param("cities") java.util.Collection<String> cities);
+
+    // Slim list projections - no owner join, no description, only the primary image
+    @org.springframework.data.jpa.repository.Query("SELECT new com.hotel.dtos.HotelSummaryDTO(h.id, h.name, h.city, h.state, "
+            + "h.rating, h.ratingCount, h.priceRange, h.status, h.primaryImageUrl) FROM Hotel h ORDER BY h.id")
+    List<HotelSummaryDTO> findAllSummaries();
+
+    @org.springframework.data.jpa.repository.Query("SELECT new com.hotel.dtos.HotelSummaryDTO(h.id, h.name, h.city, h.state, "
+            + "h.rating, h.ratingCount, h.priceRange, h.status, h.primaryImageUrl) FROM Hotel h WHERE h.status = :status ORDER BY h.id")
+    List<HotelSummaryDTO> findSummariesByStatus(
+            @org.springframework.data.repository.query.Param("status") String status);
+
     // Case-insensitive hotel name search
     List<Hotel> findByNameContainingIgnoreCaseAndStatus(String name, String status);
 
@@ -0,0 +1,30 @@
+package com.hotel.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.hotel.entities.HotelReviewStats;
+
+public interface HotelReviewStatsRepository extends JpaRepository<HotelReviewStats, Long> {
+
+    // Atomic upsert: creates the hotel's row on its first review, otherwise bumps one star column
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO hotel_review_stats (hotel_id, star1, star2, star3, star4, star5) "
+            + "VALUES (:hotelId, IF(:star = 1, :delta, 0), IF(:star = 2, :delta, 0), IF(:star = 3, :delta, 0), "
+            + "IF(:star = 4, :delta, 0), IF(:star = 5, :delta, 0)) "
+            + "ON DUPLICATE KEY UPDATE star1 = star1 + VALUES(star1), star2 = star2 + VALUES(star2), "
+            + "star3 = star3 + VALUES(star3), star4 = star4 + VALUES(star4), star5 = star5 + VALUES(star5)", nativeQuery = true)
+    int adjustStar(@Param("hotelId") Long hotelId, @Param("star") int star, @Param("delta") long delta);
+
+    // Recomputes one hotel's histogram from its reviews in a single statement (the reviews are
+    // read with shared locks, so a concurrent adjustStar is either counted or applied on top)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO hotel_review_stats (hotel_id, star1, star2, star3, star4, star5) "
+            + "SELECT :hotelId, COALESCE(SUM(rating = 1), 0), COALESCE(SUM(rating = 2), 0), COALESCE(SUM(rating = 3), 0), "
+            + "COALESCE(SUM(rating = 4), 0), COALESCE(SUM(rating = 5), 0) FROM reviews WHERE hotel_id = :hotelId "
+            + "ON DUPLICATE KEY UPDATE star1 = VALUES(star1), star2 = VALUES(star2), star3 = VALUES(star3), "
+            + "star4 = VALUES(star4), star5 = VALUES(star5)", nativeQuery = true)
+    int recomputeStars(@Param("hotelId") Long hotelId);
+}
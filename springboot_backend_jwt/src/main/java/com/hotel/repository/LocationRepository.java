@@ -3,9 +3,32 @@ package com.hotel.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.hotel.entities.Location;
 
 public interface LocationRepository extends JpaRepository<Location, Long> {
     Optional<Location> findByCity(String city);
+
+    // Counters that were never initialised stay null until the grouped fallback fills them in
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Location l SET l.hotelCount = CASE WHEN l.hotelCount + :delta < 0 THEN 0 ELSE l.hotelCount + :delta END "
+            + "WHERE l.city = :city AND l.hotelCount IS NOT NULL")
+    int adjustHotelCount(@Param("city") String city, @Param("delta") long delta);
+
+    /*
+     * Fills a never-initialised counter from the hotels table in the same
+     * statement, so a hotel added meanwhile is either counted here or applied
+     * by adjustHotelCount afterwards - never lost between a read and a write.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE locations l SET l.hotel_count = "
+            + "(SELECT COUNT(*) FROM hotels h WHERE TRIM(h.city) = TRIM(l.city)) "
+            + "WHERE l.id = :id AND l.hotel_count IS NULL", nativeQuery = true)
+    int initHotelCount(@Param("id") Long id);
+
+    @Query(value = "SELECT hotel_count FROM locations WHERE id = :id", nativeQuery = true)
+    Long findHotelCount(@Param("id") Long id);
 }
@@ -0,0 +1,11 @@
+package com.hotel.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.hotel.entities.OverbookingAllowance;
+
+public interface OverbookingAllowanceRepository extends JpaRepository<OverbookingAllowance, Long> {
+    List<OverbookingAllowance> findByRoomTypeIdOrderByStartDate(Long roomTypeId);
+}
@@ -0,0 +1,11 @@
+package com.hotel.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.hotel.entities.RateSeason;
+
+public interface RateSeasonRepository extends JpaRepository<RateSeason, Long> {
+    List<RateSeason> findByRoomTypeIdOrderByStartDate(Long roomTypeId);
+}
@@ -1,11 +1,14 @@
 package com.hotel.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.hotel.dtos.ReviewResponseDTO;
 import com.hotel.entities.Review;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
@@ -18,4 +21,28 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     Double getAverageRatingByHotelId(@Param("hotelId") Long hotelId);
     
     Long countByHotelId(Long hotelId);
+
+    // (hotelId, SUM(rating), COUNT) per hotel - source of truth for rating reconciliation
+    @Query("SELECT r.hotel.id, SUM(r.rating), COUNT(r) FROM Review r GROUP BY r.hotel.id")
+    List<Object[]> sumAndCountByHotel();
+
+    // (hotelId, rating, COUNT) per hotel and star - rebuilds hotel_review_stats
+    @Query("SELECT r.hotel.id, r.rating, COUNT(r) FROM Review r GROUP BY r.hotel.id, r.rating")
+    List<Object[]> countByHotelAndRating();
+
+    long countByHotelIdAndCreatedAtAfter(Long hotelId, LocalDateTime after);
+
+    // Keyset feed, newest first - first page
+    @Query("SELECT new com.hotel.dtos.ReviewResponseDTO(r.id, u.firstName, u.lastName, u.email, r.rating, r.title, r.comment, r.createdAt) "
+            + "FROM Review r JOIN r.user u WHERE r.hotel.id = :hotelId "
+            + "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReviewResponseDTO> findFeedFirstPage(@Param("hotelId") Long hotelId, Pageable limit);
+
+    // Keyset feed, newest first - rows strictly after the (createdAt, id) cursor
+    @Query("SELECT new com.hotel.dtos.ReviewResponseDTO(r.id, u.firstName, u.lastName, u.email, r.rating, r.title, r.comment, r.createdAt) "
+            + "FROM Review r JOIN r.user u WHERE r.hotel.id = :hotelId "
+            + "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :id)) "
+            + "ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReviewResponseDTO> findFeedAfter(@Param("hotelId") Long hotelId, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id, Pageable limit);
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.hotel.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hotel.dtos.StayRoomsDTO;
+import com.hotel.entities.RoomHold;
+
+import jakarta.persistence.LockModeType;
+
+public interface RoomHoldRepository extends JpaRepository<RoomHold, Long> {
+
+    Optional<RoomHold> findByHoldReference(String holdReference);
+
+    // Locked so a hold cannot expire or be released while it is being converted
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM RoomHold h WHERE h.holdReference = :holdReference")
+    Optional<RoomHold> findByHoldReferenceForUpdate(@Param("holdReference") String holdReference);
+
+    // Rooms held on overlapping dates; excludeHoldId is the hold being converted (or null)
+    @Query("SELECT COALESCE(SUM(h.rooms), 0) FROM RoomHold h WHERE h.roomType.id = :roomTypeId "
+            + "AND h.status = com.hotel.entities.RoomHoldStatus.ACTIVE AND h.expiresAt > :now "
+            + "AND h.checkInDate < :checkOut AND h.checkOutDate > :checkIn "
+            + "AND (:excludeHoldId IS NULL OR h.id <> :excludeHoldId)")
+    Long countHeldRooms(@Param("roomTypeId") Long roomTypeId,
+            @Param("checkIn") LocalDate checkIn,
+            @Param("checkOut") LocalDate checkOut,
+            @Param("now") LocalDateTime now,
+            @Param("excludeHoldId") Long excludeHoldId);
+
+    // Held rooms per stay dates overlapping [from, to)
+    @Query("SELECT new com.hotel.dtos.StayRoomsDTO(h.checkInDate, h.checkOutDate, SUM(h.rooms)) FROM RoomHold h "
+            + "WHERE h.roomType.id = :roomTypeId "
+            + "AND h.status = com.hotel.entities.RoomHoldStatus.ACTIVE AND h.expiresAt > :now "
+            + "AND h.checkInDate < :to AND h.checkOutDate > :from "
+            + "GROUP BY h.checkInDate, h.checkOutDate")
+    List<StayRoomsDTO> sumHeldRoomsByStay(@Param("roomTypeId") Long roomTypeId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("now") LocalDateTime now);
+
+    @Query("SELECT COUNT(h) FROM RoomHold h WHERE h.user.id = :userId "
+            + "AND h.status = com.hotel.entities.RoomHoldStatus.ACTIVE AND h.expiresAt > :now")
+    long countLiveHoldsByUser(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    // (id, expiresAt) of every ACTIVE hold - reloaded into the expiry queue at startup
+    @Query("SELECT h.id, h.expiresAt FROM RoomHold h WHERE h.status = com.hotel.entities.RoomHoldStatus.ACTIVE")
+    List<Object[]> findActiveExpiries();
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE RoomHold h SET h.status = com.hotel.entities.RoomHoldStatus.EXPIRED "
+            + "WHERE h.id = :id AND h.status = com.hotel.entities.RoomHoldStatus.ACTIVE")
+    int expireIfActive(@Param("id") Long id);
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.hotel.dtos.StayRoomsDTO;
 import com.hotel.entities.RoomOccupancy;
 
 public interface RoomOccupancyRepository extends JpaRepository<RoomOccupancy, Long> {
@@ -27,6 +28,16 @@ public interface RoomOccupancyRepository extends JpaRepository<RoomOccupancy, Lo
                      @Param("checkIn") LocalDate checkIn,
                      @Param("checkOut") LocalDate checkOut);
 
+       // Occupied rooms per stay dates overlapping [from, to) - per-night counts without a query per night
+       @Query("SELECT new com.hotel.dtos.StayRoomsDTO(ro.checkInDate, ro.checkOutDate, COUNT(ro)) "
+                     + "FROM RoomOccupancy ro WHERE ro.room.hotel.id = :hotelId AND ro.room.roomType.id = :roomTypeId "
+                     + "AND ro.status = 'ACTIVE' AND ro.checkInDate < :to AND ro.checkOutDate > :from "
+                     + "GROUP BY ro.checkInDate, ro.checkOutDate")
+       List<StayRoomsDTO> countOccupiedRoomsByStay(@Param("hotelId") Long hotelId,
+                     @Param("roomTypeId") Long roomTypeId,
+                     @Param("from") LocalDate from,
+                     @Param("to") LocalDate to);
+
        @Query("SELECT COUNT(DISTINCT ro.room.id) FROM RoomOccupancy ro WHERE ro.room.hotel.id = :hotelId " +
                      "AND ro.status = 'ACTIVE' " +
                      "AND ((ro.checkInDate < :checkOut AND ro.checkOutDate > :checkIn))")
@@ -43,4 +54,25 @@ public interface RoomOccupancyRepository extends JpaRepository<RoomOccupancy, Lo
                      "AND ro.checkOutDate <= :today")
        List<RoomOccupancy> findExpiredOccupanciesByHotel(@Param("hotelId") Long hotelId,
                      @Param("today") LocalDate today);
-}
\ No newline at end of file
+
+       // (checkInDate, checkOutDate) of active stays overlapping [from, to) - rate calendar occupancy
+       @Query("SELECT ro.checkInDate, ro.checkOutDate FROM RoomOccupancy ro WHERE ro.room.roomType.id = :roomTypeId " +
+                     "AND ro.status = 'ACTIVE' AND ro.checkInDate < :to AND ro.checkOutDate > :from")
+       List<Object[]> findActiveStaysByRoomType(@Param("roomTypeId") Long roomTypeId,
+                     @Param("from") LocalDate from,
+                     @Param("to") LocalDate to);
+
+       @Query("SELECT ro FROM RoomOccupancy ro JOIN FETCH ro.room WHERE ro.booking.id = :bookingId AND ro.status = 'ACTIVE'")
+       List<RoomOccupancy> findActiveByBookingIdWithRoom(@Param("bookingId") Long bookingId);
+
+       // (room id, checkInDate, checkOutDate) of active stays in [from, to), optionally minus one booking's -
+       // the room-night calendar used for room assignment
+       @Query("SELECT ro.room.id, ro.checkInDate, ro.checkOutDate FROM RoomOccupancy ro " +
+                     "WHERE ro.room.roomType.id = :roomTypeId AND ro.status = 'ACTIVE' " +
+                     "AND (:excludeBookingId IS NULL OR ro.booking.id <> :excludeBookingId) " +
+                     "AND ro.checkInDate < :to AND ro.checkOutDate > :from")
+       List<Object[]> findRoomStays(@Param("roomTypeId") Long roomTypeId,
+                     @Param("excludeBookingId") Long excludeBookingId,
+                     @Param("from") LocalDate from,
+                     @Param("to") LocalDate to);
+}
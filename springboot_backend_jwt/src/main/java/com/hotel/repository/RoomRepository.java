@@ -2,6 +2,8 @@ package com.hotel.repository;
 
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -26,4 +28,30 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
     Long countByHotelIdAndStatus(@Param("hotelId") Long hotelId, @Param("status") String status);
 
     Long countByRoomTypeId(Long roomTypeId);
+
+    // Room list with the room type loaded in the same query
+    @Query("SELECT r FROM Room r JOIN FETCH r.roomType WHERE r.hotel.id = :hotelId ORDER BY r.id")
+    List<Room> findByHotelIdWithRoomType(@Param("hotelId") Long hotelId);
+
+    // Filtered, paginated room list (null status / roomTypeId = no filter)
+    @Query(value = "SELECT r FROM Room r JOIN FETCH r.roomType WHERE r.hotel.id = :hotelId "
+            + "AND (:status IS NULL OR r.status = :status) AND (:roomTypeId IS NULL OR r.roomType.id = :roomTypeId)",
+            countQuery = "SELECT COUNT(r) FROM Room r WHERE r.hotel.id = :hotelId "
+            + "AND (:status IS NULL OR r.status = :status) AND (:roomTypeId IS NULL OR r.roomType.id = :roomTypeId)")
+    Page<Room> findPageByHotelId(@Param("hotelId") Long hotelId, @Param("status") String status,
+            @Param("roomTypeId") Long roomTypeId, Pageable pageable);
+
+    // Locking read (latest committed rows, not the transaction's snapshot) - the caller
+    // holds the room type's lock and checks the result against totalRooms
+    @Query(value = "SELECT COUNT(*) FROM rooms WHERE room_type_id = :roomTypeId FOR SHARE", nativeQuery = true)
+    long countByRoomTypeIdForShare(@Param("roomTypeId") Long roomTypeId);
+
+    // Current state of every room of a hotel - seeds the live room-status board
+    @Query("SELECT new com.hotel.dtos.RoomStateDTO(r.id, r.roomNumber, r.roomType.id, r.status, r.isActive, false) "
+            + "FROM Room r WHERE r.hotel.id = :hotelId ORDER BY r.roomNumber")
+    List<com.hotel.dtos.RoomStateDTO> findBoardRowsByHotelId(@Param("hotelId") Long hotelId);
+
+    // (roomTypeId, room count) for every room type of a hotel
+    @Query("SELECT r.roomType.id, COUNT(r) FROM Room r WHERE r.hotel.id = :hotelId GROUP BY r.roomType.id")
+    List<Object[]> countByRoomTypeForHotel(@Param("hotelId") Long hotelId);
 }
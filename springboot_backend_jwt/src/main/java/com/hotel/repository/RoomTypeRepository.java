@@ -8,4 +8,30 @@ import com.hotel.entities.RoomType;
 
 public interface RoomTypeRepository extends JpaRepository<RoomType, Long> {
     List<RoomType> findByHotelId(Long hotelId);
+
+    /*
+     * Row lock on the room type for the rest of the transaction. Bookings of
+     * the same room type queue up here, so their availability check and room
+     * allocation cannot interleave and hand out the same room twice.
+     */
+    @org.springframework.data.jpa.repository.Lock(jakarta.persistence.LockModeType.PESSIMISTIC_WRITE)
+    @org.springframework.data.jpa.repository.Query("SELECT rt FROM RoomType rt WHERE rt.id = :id")
+    java.util.Optional<RoomType> findByIdForUpdate(@org.springframework.data.repository.query.Param("id") Long id);
+
+    // Every room type of a hotel, row-locked in id order - bulk provisioning changes
+    // room counts across types and checks them against totalRooms under these locks
+    @org.springframework.data.jpa.repository.Lock(jakarta.persistence.LockModeType.PESSIMISTIC_WRITE)
+    @org.springframework.data.jpa.repository.Query("SELECT rt FROM RoomType rt WHERE rt.hotel.id = :hotelId ORDER BY rt.id")
+    List<RoomType> findByHotelIdForUpdate(@org.springframework.data.repository.query.Param("hotelId") Long hotelId);
+
+    // Room types having every amenity bit in :mask (see RoomAmenity) - filtered in MySQL, no JSON parsing
+    @org.springframework.data.jpa.repository.Query(value = "SELECT * FROM room_types "
+            + "WHERE hotel_id = :hotelId AND (amenity_mask & :mask) = :mask", nativeQuery = true)
+    List<RoomType> findByHotelIdWithAmenities(@org.springframework.data.repository.query.Param("hotelId") Long hotelId,
+            @org.springframework.data.repository.query.Param("mask") long mask);
+
+    // Hotels with at least one room type having every amenity bit in :mask
+    @org.springframework.data.jpa.repository.Query(value = "SELECT DISTINCT hotel_id FROM room_types "
+            + "WHERE (amenity_mask & :mask) = :mask", nativeQuery = true)
+    List<Long> findHotelIdsWithAmenities(@org.springframework.data.repository.query.Param("mask") long mask);
 }
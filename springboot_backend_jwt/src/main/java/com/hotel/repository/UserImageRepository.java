@@ -0,0 +1,33 @@
+package com.hotel.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.hotel.dtos.UserImageMetaDTO;
+import com.hotel.entities.UserImage;
+
+public interface UserImageRepository extends JpaRepository<UserImage, Long> {
+
+    @Query("select new com.hotel.dtos.UserImageMetaDTO(ui.user.id, ui.contentType, ui.sizeBytes, ui.lastUpdated) "
+            + "from UserImage ui where ui.user.id = :userId")
+    Optional<UserImageMetaDTO> findMetaByUserId(@Param("userId") Long userId);
+
+    /*
+     * Read a slice of the avatar straight from the blob column, only while it
+     * is still the version identified by lastUpdated and sizeBytes (null otherwise).
+     * offset is 1-based (SQL SUBSTRING semantics).
+     */
+    @Query(value = "SELECT SUBSTRING(data, :offset, :length) FROM user_images "
+            + "WHERE user_id = :userId AND last_updated = :lastUpdated AND size_bytes = :sizeBytes", nativeQuery = true)
+    byte[] readChunk(@Param("userId") Long userId, @Param("lastUpdated") LocalDateTime lastUpdated,
+            @Param("sizeBytes") long sizeBytes, @Param("offset") long offset, @Param("length") int length);
+
+    @Modifying
+    @Query("delete from UserImage ui where ui.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
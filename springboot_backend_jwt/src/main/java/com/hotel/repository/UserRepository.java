@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -53,4 +54,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByPhone(String phone);
 
     List<User> findByAccountStatus(AccountStatus accountStatus);
+
+    // Newest users of a role - pass PageRequest.of(0, n) to read only n rows
+    List<User> findByUserRoleOrderByIdDesc(UserRole role, Pageable limit);
+
+    long countByUserRole(UserRole role);
 }
@@ -11,6 +11,8 @@ public interface AdminService {
     // Hotel Approval
     List<Hotel> getAllHotels();
 
+    List<com.hotel.dtos.HotelSummaryDTO> getHotelSummaries(String status);
+
     List<Hotel> getPendingHotels();
 
     List<Hotel> getApprovedHotels();
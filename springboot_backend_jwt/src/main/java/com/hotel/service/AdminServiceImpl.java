@@ -35,30 +35,51 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class AdminServiceImpl implements AdminService {
 
+    // Rows shown by the dashboard's "recent" widgets
+    private static final int RECENT_LIMIT = 5;
+
     private final HotelRepository hotelRepository;
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
     private final LocationRepository locationRepository;
     private final com.hotel.repository.ReviewRepository reviewRepository;
     private final com.hotel.repository.ComplaintRepository complaintRepository;
+    private final CatalogVersionService catalogVersionService;
+    private final HotelRatingService hotelRatingService;
+    private final LocationHotelCountService locationHotelCountService;
+    private final com.hotel.mapping.BookingMapper bookingMapper;
+    private final com.hotel.mapping.ComplaintMapper complaintMapper;
 
     // Hotel Approval Management
     @Override
+    @Transactional(readOnly = true)
     public List<Hotel> getAllHotels() {
         return hotelRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<com.hotel.dtos.HotelSummaryDTO> getHotelSummaries(String status) {
+        if (status == null || status.isBlank()) {
+            return hotelRepository.findAllSummaries();
+        }
+        return hotelRepository.findSummariesByStatus(status.toUpperCase());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<Hotel> getPendingHotels() {
         return hotelRepository.findByStatus("PENDING");
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Hotel> getApprovedHotels() {
         return hotelRepository.findByStatus("APPROVED");
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Hotel> getRejectedHotels() {
         return hotelRepository.findByStatus("REJECTED");
     }
@@ -73,6 +94,7 @@ public class AdminServiceImpl implements AdminService {
 
         hotel.setStatus("APPROVED");
         hotelRepository.save(hotel);
+        catalogVersionService.hotelChanged(hotelId);
 
         log.info("Hotel approved: {}", hotelId);
         return new ApiResponse("Success", "Hotel approved successfully");
@@ -88,6 +110,7 @@ public class AdminServiceImpl implements AdminService {
 
         hotel.setStatus("REJECTED");
         hotelRepository.save(hotel);
+        catalogVersionService.hotelChanged(hotelId);
 
         log.info("Hotel rejected: {}", hotelId);
         return new ApiResponse("Success", "Hotel rejected successfully");
@@ -95,54 +118,61 @@ public class AdminServiceImpl implements AdminService {
 
     @Override
     public void deleteHotel(Long hotelId) {
-        if (!hotelRepository.existsById(hotelId)) {
-            throw new ResourceNotFoundException("Hotel not found with ID: " + hotelId);
-        }
+        Hotel hotel = hotelRepository.findById(hotelId)
+                .orElseThrow(() -> new ResourceNotFoundException("Hotel not found with ID: " + hotelId));
         // Constraint: Check for bookings
         List<Booking> bookings = bookingRepository.findByHotelId(hotelId);
         if (!bookings.isEmpty()) {
             throw new IllegalStateException(
                     "Cannot delete hotel with existing bookings. Please reject/archive it instead.");
         }
-        hotelRepository.deleteById(hotelId);
+        hotelRepository.delete(hotel);
+        locationHotelCountService.hotelRemoved(hotel.getCity());
+        catalogVersionService.hotelChanged(hotelId);
     }
 
     // Payment Management
     @Override
+    @Transactional(readOnly = true)
     public List<BookingResponseDTO> getAllPayments() {
         return bookingRepository.findAll().stream()
-                .map(this::mapToBookingResponse)
+                .map(bookingMapper::toResponseWithUser)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<BookingResponseDTO> getPendingPayments() {
         return bookingRepository.findByPaymentStatus("PENDING").stream()
-                .map(this::mapToBookingResponse)
+                .map(bookingMapper::toResponseWithUser)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<BookingResponseDTO> getCompletedPayments() {
         return bookingRepository.findByPaymentStatus("COMPLETED").stream()
-                .map(this::mapToBookingResponse)
+                .map(bookingMapper::toResponseWithUser)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<BookingResponseDTO> getFailedPayments() {
         return bookingRepository.findByPaymentStatus("FAILED").stream()
-                .map(this::mapToBookingResponse)
+                .map(bookingMapper::toResponseWithUser)
                 .collect(Collectors.toList());
     }
 
     // User Management
     @Override
+    @Transactional(readOnly = true)
     public List<User> getAllUsers() {
         return userRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<User> getSuspendedUsers() {
         return userRepository.findByAccountStatus(AccountStatus.SUSPENDED);
     }
@@ -178,13 +208,13 @@ public class AdminServiceImpl implements AdminService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public AdminAnalyticsDTO getAnalytics() {
         AdminAnalyticsDTO analytics = new AdminAnalyticsDTO();
 
         // 1. Basic Counts
         analytics.setTotalHotels(hotelRepository.count());
-        analytics.setTotalCustomers(userRepository.findAll().stream()
-                .filter(u -> u.getUserRole() == com.hotel.entities.UserRole.ROLE_CUSTOMER).count());
+        analytics.setTotalCustomers(userRepository.countByUserRole(com.hotel.entities.UserRole.ROLE_CUSTOMER));
         analytics.setTotalBookings(bookingRepository.count());
 
         List<Booking> allBookings = bookingRepository.findAll();
@@ -217,92 +247,50 @@ public class AdminServiceImpl implements AdminService {
                 .map(b -> b.getHotel().getCity())
                 .collect(Collectors.groupingBy(city -> city, Collectors.counting()));
 
-        List<AdminAnalyticsDTO.LocationStats> locationStats = bookingsByCity.entrySet().stream()
+        List<Map.Entry<String, Long>> topCities = bookingsByCity.entrySet().stream()
                 .sorted((e1, e2) -> e2.getValue().compareTo(e1.getValue())) // Descending
                 .limit(5)
-                .map(e -> {
-                    String city = e.getKey();
-                    long bookingsCount = e.getValue();
-                    long hotelsCount = hotelRepository.findByCity(city).size();
-                    return new AdminAnalyticsDTO.LocationStats(city, hotelsCount, bookingsCount);
-                })
+                .collect(Collectors.toList());
+        // Hotel counts for the top cities in one grouped query
+        Map<String, Long> hotelsByCity = locationHotelCountService.countsByCity(
+                topCities.stream().map(Map.Entry::getKey).collect(Collectors.toList()));
+        List<AdminAnalyticsDTO.LocationStats> locationStats = topCities.stream()
+                .map(e -> new AdminAnalyticsDTO.LocationStats(e.getKey(),
+                        hotelsByCity.getOrDefault(e.getKey().trim().toLowerCase(), 0L), e.getValue()))
                 .collect(Collectors.toList());
         analytics.setTopLocations(locationStats);
 
         // 5. Recent Bookings
-        List<BookingResponseDTO> recent = allBookings.stream()
-                .sorted((b1, b2) -> {
-                    if (b2.getBookingDate() == null || b1.getBookingDate() == null)
-                        return 0;
-                    return b2.getBookingDate().compareTo(b1.getBookingDate());
-                })
-                .limit(5)
-                .map(this::mapToBookingResponse)
+        List<BookingResponseDTO> recent = bookingRepository
+                .findRecentWithDetails(org.springframework.data.domain.PageRequest.of(0, RECENT_LIMIT))
+                .stream()
+                .map(bookingMapper::toResponseWithUser)
                 .collect(Collectors.toList());
         analytics.setRecentBookings(recent);
 
         return analytics;
     }
 
-    // Helper method to map Booking to BookingResponseDTO
-    private BookingResponseDTO mapToBookingResponse(Booking booking) {
-        BookingResponseDTO dto = new BookingResponseDTO();
-        dto.setId(booking.getId());
-        dto.setBookingReference(booking.getBookingReference());
-        dto.setHotelName(booking.getHotel().getName());
-        dto.setHotelCity(booking.getHotel().getCity());
-        dto.setRoomTypeName(booking.getRoomType().getName());
-        dto.setCheckInDate(booking.getCheckInDate());
-        dto.setCheckOutDate(booking.getCheckOutDate());
-        dto.setAdults(booking.getAdults());
-        dto.setChildren(booking.getChildren());
-        dto.setRooms(booking.getRooms());
-        dto.setTotalPrice(booking.getTotalPrice());
-        dto.setStatus(booking.getStatus());
-        dto.setBookingDate(booking.getBookingDate());
-        dto.setGuestFirstName(booking.getGuestFirstName());
-        dto.setGuestLastName(booking.getGuestLastName());
-        dto.setGuestEmail(booking.getGuestEmail());
-        dto.setGuestPhone(booking.getGuestPhone());
-        dto.setPaymentStatus(booking.getPaymentStatus());
-        dto.setPaymentMethod(booking.getPaymentMethod());
-        dto.setTransactionId(booking.getTransactionId());
-
-        // Set user details if available
-        if (booking.getUser() != null) {
-            dto.setUserEmail(booking.getUser().getEmail());
-            dto.setUserName(booking.getUser().getFirstName() + " " + booking.getUser().getLastName());
-        }
-
-        return dto;
-    }
-
     // Recent Activity Implementation
     @Override
+    @Transactional(readOnly = true)
     public List<User> getRecentCustomers() {
-        return userRepository
-                .findAll(org.springframework.data.domain.Sort.by(org.springframework.data.domain.Sort.Direction.DESC,
-                        "id"))
-                .stream()
-                .filter(u -> u.getUserRole() == com.hotel.entities.UserRole.ROLE_CUSTOMER)
-                .limit(5)
-                .collect(Collectors.toList());
+        return userRepository.findByUserRoleOrderByIdDesc(com.hotel.entities.UserRole.ROLE_CUSTOMER,
+                org.springframework.data.domain.PageRequest.of(0, RECENT_LIMIT));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Hotel> getRecentHotels() {
-        return hotelRepository
-                .findAll(org.springframework.data.domain.Sort.by(org.springframework.data.domain.Sort.Direction.DESC,
-                        "id"))
-                .stream()
-                .limit(5)
-                .collect(Collectors.toList());
+        return hotelRepository.findAllByOrderByIdDesc(org.springframework.data.domain.PageRequest.of(0, RECENT_LIMIT));
     }
 
     // Location Management Implementation
     @Override
     public List<LocationDTO> getAllLocations() {
-        return locationRepository.findAll().stream().map(loc -> {
+        List<Location> locations = locationRepository.findAll();
+        Map<Long, Long> hotelCounts = locationHotelCountService.hotelCounts(locations);
+        return locations.stream().map(loc -> {
             LocationDTO dto = new LocationDTO();
             dto.setId(loc.getId());
             dto.setCity(loc.getCity());
@@ -310,9 +298,7 @@ public class AdminServiceImpl implements AdminService {
             dto.setCountry(loc.getCountry());
             dto.setDescription(loc.getDescription());
             dto.setAddedDate(loc.getAddedDate());
-            // Calculate hotels in this city
-            long count = hotelRepository.findByCity(loc.getCity()).size();
-            dto.setHotelCount(count);
+            dto.setHotelCount(hotelCounts.getOrDefault(loc.getId(), 0L));
             return dto;
         }).collect(Collectors.toList());
     }
@@ -322,6 +308,7 @@ public class AdminServiceImpl implements AdminService {
         if (location.getAddedDate() == null) {
             location.setAddedDate(java.time.LocalDate.now());
         }
+        location.setHotelCount(null); // never trust a client value - counted on the next listing
         return locationRepository.save(location);
     }
 
@@ -330,6 +317,9 @@ public class AdminServiceImpl implements AdminService {
         Location existing = locationRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Location not found with ID: " + id));
 
+        if (existing.getCity() == null || !existing.getCity().equalsIgnoreCase(location.getCity())) {
+            existing.setHotelCount(null); // city changed - recount on the next listing
+        }
         existing.setCity(location.getCity());
         existing.setState(location.getState());
         existing.setCountry(location.getCountry());
@@ -349,29 +339,33 @@ public class AdminServiceImpl implements AdminService {
 
     // Booking Management
     @Override
+    @Transactional(readOnly = true)
     public List<BookingResponseDTO> getAllBookings() {
         return bookingRepository.findAll().stream()
-                .map(this::mapToBookingResponse)
+                .map(bookingMapper::toResponseWithUser)
                 .collect(Collectors.toList());
     }
 
     // Review Management
     @Override
+    @Transactional(readOnly = true)
     public List<com.hotel.entities.Review> getAllReviews() {
         return reviewRepository.findAll();
     }
 
     @Override
     public void deleteReview(Long reviewId) {
-        if (!reviewRepository.existsById(reviewId)) {
-            throw new ResourceNotFoundException("Review not found with ID: " + reviewId);
-        }
-        reviewRepository.deleteById(reviewId);
+        com.hotel.entities.Review review = reviewRepository.findById(reviewId)
+                .orElseThrow(() -> new ResourceNotFoundException("Review not found with ID: " + reviewId));
+        reviewRepository.delete(review);
+        hotelRatingService.reviewRemoved(review.getHotel().getId(), review.getRating());
+        catalogVersionService.hotelChanged(review.getHotel().getId());
         log.info("Review deleted: {}", reviewId);
     }
 
     // Complaint Management
     @Override
+    @Transactional(readOnly = true)
     public List<com.hotel.entities.Complaint> getAllComplaints() {
         List<com.hotel.entities.Complaint> complaints = complaintRepository.findAll();
         // Force load lazy relationships to avoid LazyInitializationException
@@ -384,26 +378,9 @@ public class AdminServiceImpl implements AdminService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<com.hotel.dtos.ComplaintResponseDTO> getAllComplaintsDTO() {
         List<com.hotel.entities.Complaint> complaints = complaintRepository.findAll();
-        return complaints.stream().map(this::convertComplaintToDTO).collect(Collectors.toList());
-    }
-
-    private com.hotel.dtos.ComplaintResponseDTO convertComplaintToDTO(com.hotel.entities.Complaint complaint) {
-        com.hotel.dtos.ComplaintResponseDTO dto = new com.hotel.dtos.ComplaintResponseDTO();
-        dto.setId(complaint.getId());
-        dto.setHotelId(complaint.getHotel() != null ? complaint.getHotel().getId() : null);
-        dto.setHotelName(complaint.getHotel() != null ? complaint.getHotel().getName() : null);
-        dto.setBookingId(complaint.getBooking() != null ? complaint.getBooking().getId() : null);
-        dto.setBookingReference(complaint.getBooking() != null ? complaint.getBooking().getBookingReference() : null);
-        dto.setGuestName(complaint.getGuestName());
-        dto.setGuestEmail(complaint.getGuestEmail());
-        dto.setSubject(complaint.getSubject());
-        dto.setDescription(complaint.getDescription());
-        dto.setStatus(complaint.getStatus() != null ? complaint.getStatus().name() : null);
-        dto.setCreatedAt(complaint.getCreatedAt());
-        dto.setResolvedAt(complaint.getResolvedAt());
-        dto.setResolution(complaint.getResolution());
-        return dto;
+        return complaints.stream().map(complaintMapper::toResponse).collect(Collectors.toList());
     }
 }
@@ -0,0 +1,36 @@
+package com.hotel.service;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Puts the stay into the rooms whose free stretch around it is shortest, so
+ * short stays fill the holes between bookings and long free stretches stay
+ * intact for long stays. A stay that closes a gap exactly (no free nights
+ * left on either side) is the ideal fit; leaving a free night on one side is
+ * preferred over leaving nights on both.
+ */
+@Component(BestFitAssignment.NAME)
+public class BestFitAssignment implements RoomAssignmentStrategy {
+
+    public static final String NAME = "best-fit";
+
+    @Override
+    public List<Integer> choose(RoomNightCalendar calendar, int from, int to, List<Integer> candidates, int count) {
+        return candidates.stream()
+                .sorted(Comparator.comparingLong((Integer room) -> cost(calendar, room, from, to))
+                        .thenComparing(Comparator.naturalOrder()))
+                .limit(count)
+                .toList();
+    }
+
+    // Free nights left around the stay, plus a large step per side left open
+    static long cost(RoomNightCalendar calendar, int room, int from, int to) {
+        int before = calendar.gapBefore(room, from);
+        int after = calendar.gapAfter(room, to);
+        int openSides = (before > 0 ? 1 : 0) + (after > 0 ? 1 : 0);
+        return openSides * 100_000L + before + after;
+    }
+}
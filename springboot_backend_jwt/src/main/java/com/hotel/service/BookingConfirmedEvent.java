@@ -0,0 +1,12 @@
+package com.hotel.service;
+
+import java.math.BigDecimal;
+
+/*
+ * Published by BookingServiceImpl.createBooking inside its transaction and
+ * delivered to BookingPipelineListener only after commit. Carries plain values
+ * - the stages run on other threads, outside the booking's persistence context.
+ */
+public record BookingConfirmedEvent(Long bookingId, String bookingReference, Long hotelId, String city,
+        String userEmail, BigDecimal totalPrice) {
+}
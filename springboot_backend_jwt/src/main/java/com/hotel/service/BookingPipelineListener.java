@@ -0,0 +1,84 @@
+package com.hotel.service;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.hotel.config.BookingPipelineConfig;
+import com.hotel.repository.BookingRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Post-commit stages of a booking. createBooking only validates, reserves the
+ * rooms and saves; everything the customer does not need to wait for runs
+ * here once the booking is committed, each stage on its own bounded executor
+ * (see BookingPipelineConfig). A rolled-back booking never reaches these
+ * methods, and a failing stage does not affect the booking or the other stages.
+ *
+ * Each stage is timed in hotel.booking.stage (tags stage, outcome).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookingPipelineListener {
+
+    private final BookingRepository bookingRepository;
+    private final InvoiceService invoiceService;
+    private final RecentlyViewedService recentlyViewedService;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    // Invoice PDF + email, both done by the invoice service
+    @Async(BookingPipelineConfig.INVOICE_EXECUTOR)
+    @TransactionalEventListener
+    public void sendInvoice(BookingConfirmedEvent event) {
+        runStage("invoice", event, () -> bookingRepository.findWithDetailsById(event.bookingId())
+                .ifPresentOrElse(invoiceService::generateAndSendInvoice,
+                        () -> log.warn("Booking {} gone before its invoice was sent", event.bookingReference())));
+    }
+
+    // Running booking / revenue totals for dashboards, instead of recounting the bookings table
+    @Async(BookingPipelineConfig.ANALYTICS_EXECUTOR)
+    @TransactionalEventListener
+    public void recordAnalytics(BookingConfirmedEvent event) {
+        runStage("analytics", event, () -> {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry != null) {
+                registry.counter("hotel.bookings.confirmed", "city", String.valueOf(event.city())).increment();
+                registry.summary("hotel.bookings.revenue").record(event.totalPrice().doubleValue());
+            }
+        });
+    }
+
+    // A booked hotel moves to the top of the guest's recently viewed list
+    @Async(BookingPipelineConfig.SIGNALS_EXECUTOR)
+    @TransactionalEventListener
+    public void recordSignals(BookingConfirmedEvent event) {
+        runStage("signals", event, () -> recentlyViewedService.addRecentlyViewed(event.hotelId(), event.userEmail()));
+    }
+
+    private void runStage(String stage, BookingConfirmedEvent event, Runnable work) {
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            work.run();
+        } catch (Exception e) {
+            outcome = "failure";
+            log.error("Booking {} stage failed for {}", stage, event.bookingReference(), e);
+        } finally {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry != null) {
+                Timer.builder("hotel.booking.stage")
+                        .tag("stage", stage)
+                        .tag("outcome", outcome)
+                        .publishPercentileHistogram()
+                        .register(registry)
+                        .record(System.nanoTime() - start, java.util.concurrent.TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
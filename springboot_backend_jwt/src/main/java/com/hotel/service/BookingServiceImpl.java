@@ -6,6 +6,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +16,7 @@ import com.hotel.dtos.BookingDTO;
 import com.hotel.dtos.BookingResponseDTO;
 import com.hotel.entities.Booking;
 import com.hotel.entities.Hotel;
+import com.hotel.entities.RoomHold;
 import com.hotel.entities.RoomType;
 import com.hotel.entities.User;
 import com.hotel.repository.BookingRepository;
@@ -40,7 +42,10 @@ public class BookingServiceImpl implements BookingService {
     private final RoomOccupancyService roomOccupancyService;
     private final RoomOccupancyRepository roomOccupancyRepository;
     private final RoomRepository roomRepository;
-    private final InvoiceService invoiceService;
+    private final RoomHoldService roomHoldService;
+    private final RateCalendarService rateCalendarService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final com.hotel.mapping.BookingMapper bookingMapper;
 
     @Override
     public BookingResponseDTO createBooking(BookingDTO bookingDTO, String userEmail) {
@@ -56,8 +61,8 @@ public class BookingServiceImpl implements BookingService {
                     .orElseThrow(
                             () -> new ResourceNotFoundException("Hotel not found with ID: " + bookingDTO.getHotelId()));
 
-            // 3. Get room type
-            RoomType roomType = roomTypeRepository.findById(bookingDTO.getRoomTypeId())
+            // 3. Get room type, locked until commit so steps 5-8 are atomic per room type
+            RoomType roomType = roomTypeRepository.findByIdForUpdate(bookingDTO.getRoomTypeId())
                     .orElseThrow(() -> new ResourceNotFoundException(
                             "Room Type not found with ID: " + bookingDTO.getRoomTypeId()));
 
@@ -69,13 +74,17 @@ public class BookingServiceImpl implements BookingService {
                 throw new IllegalArgumentException("Check-out date must be at least one day after check-in date");
             }
 
-            // 5. Check Availability
+            // 5. Check Availability - rooms the guest already holds are theirs to book
+            RoomHold hold = bookingDTO.getHoldReference() != null && !bookingDTO.getHoldReference().isBlank()
+                    ? roomHoldService.claimForBooking(bookingDTO.getHoldReference(), user, bookingDTO)
+                    : null;
             boolean isAvailable = roomOccupancyService.isRoomTypeAvailable(
                     bookingDTO.getHotelId(),
                     bookingDTO.getRoomTypeId(),
                     bookingDTO.getCheckInDate(),
                     bookingDTO.getCheckOutDate(),
-                    bookingDTO.getRooms() != null ? bookingDTO.getRooms() : 1);
+                    bookingDTO.getRooms() != null ? bookingDTO.getRooms() : 1,
+                    hold != null ? hold.getId() : null);
 
             if (!isAvailable) {
                 throw new IllegalStateException("Selected room type is not available for the chosen dates");
@@ -83,11 +92,15 @@ public class BookingServiceImpl implements BookingService {
 
             // 6. Calculate Pricing (Security: Always calculate from DB to prevent
             // manipulation)
+            // Nightly rates come from the precomputed rate calendar; pricePerNight is
+            // the stay's average so existing invoices and receipts still add up
             long nights = ChronoUnit.DAYS.between(bookingDTO.getCheckInDate(), bookingDTO.getCheckOutDate());
-            BigDecimal frozenPricePerNight = roomType.getPricePerNight();
+            BigDecimal stayPrice = rateCalendarService.quote(roomType, bookingDTO.getCheckInDate(),
+                    bookingDTO.getCheckOutDate());
+            BigDecimal frozenPricePerNight = stayPrice.divide(BigDecimal.valueOf(nights), 2,
+                    java.math.RoundingMode.HALF_UP);
 
-            BigDecimal baseAmount = frozenPricePerNight
-                    .multiply(BigDecimal.valueOf(nights))
+            BigDecimal baseAmount = stayPrice
                     .multiply(BigDecimal.valueOf(bookingDTO.getRooms() != null ? bookingDTO.getRooms() : 1));
 
             // 7. Create Booking entity
@@ -129,16 +142,17 @@ public class BookingServiceImpl implements BookingService {
             Booking savedBooking = bookingRepository.save(booking);
 
             roomOccupancyService.createRoomOccupancy(savedBooking);
+            if (hold != null) {
+                roomHoldService.markConverted(hold, savedBooking);
+            }
 
             log.info("Booking created successfully with ID: {} and reference: {}", savedBooking.getId(),
                     savedBooking.getBookingReference());
 
-            // 9. Generate and send invoice via email
-            try {
-                invoiceService.generateAndSendInvoice(savedBooking);
-            } catch (Exception e) {
-                log.error("Failed to send invoice email, but booking was successful", e);
-            }
+            // 9. Invoice email, analytics and signals run after commit (BookingPipelineListener)
+            eventPublisher.publishEvent(new BookingConfirmedEvent(savedBooking.getId(),
+                    savedBooking.getBookingReference(), hotel.getId(), hotel.getCity(), userEmail,
+                    savedBooking.getTotalPrice()));
 
             return mapToBookingResponseDTO(savedBooking);
         } catch (Exception e) {
@@ -148,6 +162,7 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<BookingResponseDTO> getUserBookings(String userEmail) {
         try {
             log.info("Getting bookings for user: {}", userEmail);
@@ -168,6 +183,7 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<BookingResponseDTO> getAllBookings() {
         try {
             log.info("Getting all bookings");
@@ -197,12 +213,52 @@ public class BookingServiceImpl implements BookingService {
                 throw new IllegalArgumentException("User not authorized to update this booking");
             }
 
-            // Update booking details
-            if (bookingDTO.getCheckInDate() != null) {
-                booking.setCheckInDate(bookingDTO.getCheckInDate());
+            // Cancelled, completed and no-show bookings no longer hold any rooms to move
+            if (!"CONFIRMED".equals(booking.getStatus())) {
+                throw new IllegalStateException("Only confirmed bookings can be modified");
+            }
+
+            LocalDate checkIn = bookingDTO.getCheckInDate() != null ? bookingDTO.getCheckInDate()
+                    : booking.getCheckInDate();
+            LocalDate checkOut = bookingDTO.getCheckOutDate() != null ? bookingDTO.getCheckOutDate()
+                    : booking.getCheckOutDate();
+            int rooms = bookingDTO.getRooms() != null ? bookingDTO.getRooms() : booking.getRooms();
+            if (checkOut.isBefore(checkIn.plusDays(1))) {
+                throw new IllegalArgumentException("Check-out date must be at least one day after check-in date");
+            }
+
+            boolean datesChanged = !checkIn.equals(booking.getCheckInDate())
+                    || !checkOut.equals(booking.getCheckOutDate());
+            // Also covers stays that have already begun: their past nights cannot be re-quoted
+            if (datesChanged && checkIn.isBefore(LocalDate.now())) {
+                throw new IllegalArgumentException("Check-in date cannot be in the past");
             }
-            if (bookingDTO.getCheckOutDate() != null) {
-                booking.setCheckOutDate(bookingDTO.getCheckOutDate());
+            if (datesChanged || rooms != booking.getRooms()) {
+                // Same lock as createBooking, so a modification and a new booking cannot both take the last room
+                RoomType roomType = roomTypeRepository.findByIdForUpdate(booking.getRoomType().getId())
+                        .orElseThrow(() -> new ResourceNotFoundException("Room Type not found"));
+
+                // Moves only the changed nights / rooms; throws if the new stay is not available
+                roomOccupancyService.modifyRoomOccupancy(booking, checkIn, checkOut, rooms);
+
+                // Same stay keeps its frozen rate; new dates are quoted from the rate calendar
+                long nights = ChronoUnit.DAYS.between(checkIn, checkOut);
+                BigDecimal stayPrice;
+                if (datesChanged) {
+                    stayPrice = rateCalendarService.quote(roomType, checkIn, checkOut);
+                    booking.setPricePerNight(stayPrice.divide(BigDecimal.valueOf(nights), 2,
+                            java.math.RoundingMode.HALF_UP));
+                } else {
+                    stayPrice = booking.getPricePerNight().multiply(BigDecimal.valueOf(nights));
+                }
+                BigDecimal baseAmount = stayPrice.multiply(BigDecimal.valueOf(rooms));
+
+                booking.setCheckInDate(checkIn);
+                booking.setCheckOutDate(checkOut);
+                booking.setRooms(rooms);
+                booking.setNights((int) nights);
+                booking.setBaseAmount(baseAmount);
+                booking.setTotalPrice(baseAmount);
             }
             if (bookingDTO.getAdults() != null) {
                 booking.setAdults(bookingDTO.getAdults());
@@ -210,21 +266,6 @@ public class BookingServiceImpl implements BookingService {
             if (bookingDTO.getChildren() != null) {
                 booking.setChildren(bookingDTO.getChildren());
             }
-            if (bookingDTO.getRooms() != null) {
-                booking.setRooms(bookingDTO.getRooms());
-            }
-
-            // Recalculate pricing fields
-            long nights = ChronoUnit.DAYS.between(booking.getCheckInDate(), booking.getCheckOutDate());
-            booking.setNights((int) nights);
-
-            // Use the frozen price from the original booking for recalculation
-            BigDecimal baseAmount = booking.getPricePerNight()
-                    .multiply(BigDecimal.valueOf(nights))
-                    .multiply(BigDecimal.valueOf(booking.getRooms()));
-
-            booking.setBaseAmount(baseAmount);
-            booking.setTotalPrice(baseAmount); // Or apply any additional pricing logic if needed
 
             Booking updatedBooking = bookingRepository.save(booking);
             log.info("Booking updated successfully: {}", updatedBooking.getBookingReference());
@@ -255,9 +296,6 @@ public class BookingServiceImpl implements BookingService {
             // Cancel room occupancy and free up the rooms
             roomOccupancyService.cancelRoomOccupancy(bookingId);
 
-            // Free the rooms by cancelling occupancy
-            roomOccupancyService.cancelRoomOccupancy(bookingId);
-
             log.info("Booking cancelled successfully: {}", booking.getBookingReference());
             return new ApiResponse("Success", "Booking cancelled successfully");
         } catch (Exception e) {
@@ -267,35 +305,8 @@ public class BookingServiceImpl implements BookingService {
     }
 
     private BookingResponseDTO mapToBookingResponseDTO(Booking booking) {
-        BookingResponseDTO dto = new BookingResponseDTO();
-        dto.setId(booking.getId());
-        dto.setBookingReference(booking.getBookingReference());
-        dto.setHotelId(booking.getHotel().getId());
-        dto.setHotelName(booking.getHotel().getName());
-        dto.setHotelCity(booking.getHotel().getCity());
-        dto.setRoomTypeName(booking.getRoomType().getName());
-        dto.setCheckInDate(booking.getCheckInDate());
-        dto.setCheckOutDate(booking.getCheckOutDate());
-        dto.setTotalPrice(booking.getTotalPrice());
-        
-        // Set frozen pricing fields
-        dto.setPricePerNight(booking.getPricePerNight());
-        dto.setNights(booking.getNights());
-        dto.setBaseAmount(booking.getBaseAmount());
-        
-        dto.setStatus(booking.getStatus());
-        dto.setAdults(booking.getAdults());
-        dto.setChildren(booking.getChildren());
-        dto.setRooms(booking.getRooms());
-        dto.setBookingDate(booking.getBookingDate());
-        dto.setGuestFirstName(booking.getGuestFirstName());
-        dto.setGuestLastName(booking.getGuestLastName());
-        dto.setGuestEmail(booking.getGuestEmail());
-        dto.setGuestPhone(booking.getGuestPhone());
-        dto.setPaymentStatus(booking.getPaymentStatus());
-        dto.setPaymentMethod(booking.getPaymentMethod());
-        dto.setTransactionId(booking.getTransactionId());
-        
+        BookingResponseDTO dto = bookingMapper.toResponse(booking);
+
         // Get assigned room numbers from room_occupancy table
         List<com.hotel.entities.RoomOccupancy> occupancies = roomOccupancyRepository.findByBookingId(booking.getId());
         List<String> roomNumbers = occupancies.stream()
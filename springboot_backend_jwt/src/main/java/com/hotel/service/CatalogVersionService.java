@@ -0,0 +1,124 @@
+package com.hotel.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.CacheControl;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.WebRequest;
+
+import com.hotel.config.ReplicaLagMonitor;
+import com.hotel.config.ReplicaRouting;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tracks a change counter per hotel (and a catalog tag over all of them) so the
+ * public catalog endpoints can answer conditional GETs with a 304 after a
+ * single lookup, without loading or serializing a body.
+ *
+ * Counters live in catalog_versions, so every instance hands out the same tag
+ * for the same data. They are bumped inside the transaction that makes the
+ * change: a reader sees the new counter exactly when it can see the new data,
+ * and concurrent changes to the same hotel are counted in commit order.
+ *
+ * The catalog-wide tag is derived from all rows (sum of the counters, latest
+ * change) rather than kept in a row of its own, so writes to different hotels
+ * never wait for each other on a shared counter. Row 0 only counts changes
+ * that belong to no hotel.
+ */
+@Service
+@Slf4j
+public class CatalogVersionService {
+
+    // Cache-Control policies for the catalog endpoints
+    public static final CacheControl HOTEL_LIST_CACHE = CacheControl.maxAge(Duration.ofSeconds(60)).cachePublic();
+    public static final CacheControl HOTEL_DETAIL_CACHE = CacheControl.maxAge(Duration.ofSeconds(30)).cachePublic()
+            .mustRevalidate();
+    public static final CacheControl ROOM_TYPES_CACHE = CacheControl.maxAge(Duration.ofSeconds(30)).cachePublic()
+            .mustRevalidate();
+    public static final CacheControl REVIEWS_CACHE = CacheControl.noCache().cachePublic();
+    public static final CacheControl DESTINATIONS_CACHE = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+
+    // Row counting catalog changes that belong to no hotel
+    private static final long CATALOG = 0L;
+
+    private static final String BUMP = "INSERT INTO catalog_versions (hotel_id, version, updated_at) "
+            + "VALUES (?, 1, NOW(6)) ON DUPLICATE KEY UPDATE version = version + 1, updated_at = NOW(6)";
+    // Age is measured on the database clock, the one updated_at was written with
+    private static final String READ = "SELECT version, updated_at, "
+            + "TIMESTAMPDIFF(MICROSECOND, updated_at, NOW(6)) DIV 1000 FROM catalog_versions WHERE hotel_id = ?";
+    // Every bump raises the sum; the row count keeps it from repeating if rows are ever removed
+    private static final String READ_CATALOG = "SELECT COALESCE(SUM(version), 0) + COUNT(*), MAX(updated_at), "
+            + "TIMESTAMPDIFF(MICROSECOND, MAX(updated_at), NOW(6)) DIV 1000 FROM catalog_versions";
+
+    private record Version(long counter, long lastModified, long ageMillis) {
+        static final Version NONE = new Version(0, -1, Long.MAX_VALUE);
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<ReplicaLagMonitor> replicaLagMonitor;
+
+    public CatalogVersionService(JdbcTemplate jdbcTemplate, ObjectProvider<ReplicaLagMonitor> replicaLagMonitor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    /**
+     * Marks a hotel (and with it the catalog as a whole) as changed, as part
+     * of the caller's transaction; null marks a catalog change of no hotel.
+     */
+    public void hotelChanged(Long hotelId) {
+        jdbcTemplate.update(BUMP, hotelId != null ? hotelId : CATALOG);
+        log.debug("Catalog version bumped for hotel {}", hotelId);
+    }
+
+    /**
+     * Checks If-None-Match / If-Modified-Since for a single hotel. Returns true
+     * when the response has already been turned into a 304.
+     */
+    public boolean isHotelNotModified(WebRequest request, Long hotelId) {
+        return isNotModified(request, "\"h" + hotelId + "-", version(hotelId));
+    }
+
+    /**
+     * Same as {@link #isHotelNotModified} but for catalog-wide listings.
+     */
+    public boolean isCatalogNotModified(WebRequest request) {
+        return isNotModified(request, "\"c-", version(READ_CATALOG, List.of()));
+    }
+
+    private boolean isNotModified(WebRequest request, String prefix, Version version) {
+        // updated_at is part of the tag so a counter that restarts (table recreated) never repeats a tag
+        String eTag = prefix + version.counter() + "-" + version.lastModified() + "\"";
+        if (request.checkNotModified(eTag, version.lastModified())) {
+            return true;
+        }
+        readFromPrimaryIfRecent(version.ageMillis());
+        return false;
+    }
+
+    // The body about to be served under the current tag must include the change behind it:
+    // while the replica may still be missing that change, this request reads from the primary
+    private void readFromPrimaryIfRecent(long ageMillis) {
+        ReplicaLagMonitor monitor = replicaLagMonitor.getIfAvailable();
+        if (monitor != null && ageMillis < monitor.staleWindowMillis()) {
+            ReplicaRouting.pinToPrimary();
+        }
+    }
+
+    // Outside any transaction, so always answered by the primary
+    private Version version(long hotelId) {
+        return version(READ, List.of(hotelId));
+    }
+
+    private Version version(String sql, List<Object> args) {
+        List<Version> rows = jdbcTemplate.query(sql,
+                (rs, i) -> rs.getTimestamp(2) == null ? Version.NONE
+                        : new Version(rs.getLong(1), rs.getTimestamp(2).getTime(), rs.getLong(3)),
+                args.toArray());
+        return rows.isEmpty() ? Version.NONE : rows.get(0);
+    }
+}
@@ -33,6 +33,7 @@ public class ComplaintServiceImpl implements ComplaintService {
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
     private final HotelRepository hotelRepository;
+    private final com.hotel.mapping.ComplaintMapper complaintMapper;
 
     @Override
     public Complaint raiseComplaint(ComplaintDTO dto, String userEmail) {
@@ -70,34 +71,18 @@ public class ComplaintServiceImpl implements ComplaintService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ComplaintResponseDTO> getUserComplaints(String userEmail) {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         List<Complaint> complaints = complaintRepository.findByUserId(user.getId());
 
-        return complaints.stream().map(this::convertToResponseDTO).toList();
-    }
-
-    private ComplaintResponseDTO convertToResponseDTO(Complaint complaint) {
-        ComplaintResponseDTO dto = new ComplaintResponseDTO();
-        dto.setId(complaint.getId());
-        dto.setHotelId(complaint.getHotel() != null ? complaint.getHotel().getId() : null);
-        dto.setHotelName(complaint.getHotel() != null ? complaint.getHotel().getName() : null);
-        dto.setBookingId(complaint.getBooking() != null ? complaint.getBooking().getId() : null);
-        dto.setBookingReference(complaint.getBooking() != null ? complaint.getBooking().getBookingReference() : null);
-        dto.setGuestName(complaint.getGuestName());
-        dto.setGuestEmail(complaint.getGuestEmail());
-        dto.setSubject(complaint.getSubject());
-        dto.setDescription(complaint.getDescription());
-        dto.setStatus(complaint.getStatus() != null ? complaint.getStatus().name() : null);
-        dto.setCreatedAt(complaint.getCreatedAt());
-        dto.setResolvedAt(complaint.getResolvedAt());
-        dto.setResolution(complaint.getResolution());
-        return dto;
+        return complaints.stream().map(complaintMapper::toResponse).toList();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Complaint> getAllComplaints() {
         return complaintRepository.findAll();
     }
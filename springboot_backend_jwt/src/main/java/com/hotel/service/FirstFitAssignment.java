@@ -0,0 +1,17 @@
+package com.hotel.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+/** Lowest free room numbers - the historical behaviour. */
+@Component(FirstFitAssignment.NAME)
+public class FirstFitAssignment implements RoomAssignmentStrategy {
+
+    public static final String NAME = "first-fit";
+
+    @Override
+    public List<Integer> choose(RoomNightCalendar calendar, int from, int to, List<Integer> candidates, int count) {
+        return candidates.subList(0, count);
+    }
+}
@@ -31,9 +31,32 @@ public interface HotelOwnerService {
 
     ApiResponse deleteRoomType(Long hotelId, Long roomTypeId, String ownerEmail);
 
+    // Seasonal pricing
+    List<com.hotel.entities.RateSeason> getRateSeasons(Long hotelId, Long roomTypeId, String ownerEmail);
+
+    com.hotel.entities.RateSeason addRateSeason(Long hotelId, Long roomTypeId, com.hotel.dtos.RateSeasonDTO seasonDTO,
+            String ownerEmail);
+
+    ApiResponse deleteRateSeason(Long hotelId, Long roomTypeId, Long seasonId, String ownerEmail);
+
+    // Overbooking
+    List<com.hotel.entities.OverbookingAllowance> getOverbookingAllowances(Long hotelId, Long roomTypeId,
+            String ownerEmail);
+
+    com.hotel.entities.OverbookingAllowance addOverbookingAllowance(Long hotelId, Long roomTypeId,
+            com.hotel.dtos.OverbookingAllowanceDTO allowanceDTO, String ownerEmail);
+
+    ApiResponse deleteOverbookingAllowance(Long hotelId, Long roomTypeId, Long allowanceId, String ownerEmail);
+
+    List<com.hotel.dtos.OverbookingReportDTO> getOverbookingReport(Long hotelId, java.time.LocalDate from,
+            java.time.LocalDate to, String ownerEmail);
+
     // Individual Room Management
     List<com.hotel.dtos.RoomResponseDTO> getHotelRoomsList(Long hotelId, String ownerEmail);
 
+    com.hotel.dtos.RoomPageDTO getHotelRoomsPage(Long hotelId, String status, Long roomTypeId, int page, int size,
+            String ownerEmail);
+
     com.hotel.entities.Room addRoom(Long hotelId, com.hotel.dtos.RoomDTO roomDTO, String ownerEmail);
 
     com.hotel.entities.Room updateRoom(Long hotelId, Long roomId, com.hotel.dtos.RoomDTO roomDTO, String ownerEmail);
@@ -56,6 +79,8 @@ public interface HotelOwnerService {
     // Customer Experience - Reviews
     List<com.hotel.dtos.ReviewResponseDTO> getHotelReviews(Long hotelId, String ownerEmail);
 
+    com.hotel.dtos.ReviewPageDTO getHotelReviewPage(Long hotelId, String cursor, Integer size, String ownerEmail);
+
     Map<String, Object> getReviewStats(Long hotelId, String ownerEmail);
 
     // Customer Experience - Complaints
@@ -67,6 +92,4 @@ public interface HotelOwnerService {
     List<BookingResponseDTO> getPaymentHistory(Long hotelId, String ownerEmail);
 
     Map<String, Object> getPaymentStats(Long hotelId, String ownerEmail);
-
-    byte[] generatePaymentReport(Long hotelId, String ownerEmail);
 }
@@ -4,14 +4,12 @@ import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hotel.custom_exceptions.ResourceNotFoundException;
 import com.hotel.dtos.ApiResponse;
 import com.hotel.dtos.BookingResponseDTO;
@@ -39,6 +37,15 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class HotelOwnerServiceImpl implements HotelOwnerService {
 
+    /*
+     * Status changes an owner may make. COMPLETED -> NO_SHOW corrects a stay the
+     * hourly check-out job completed before the owner recorded the no-show.
+     */
+    private static final Map<String, Set<String>> OWNER_STATUS_CHANGES = Map.of(
+            "PENDING", Set.of("CONFIRMED", "CANCELLED"),
+            "CONFIRMED", Set.of("CANCELLED", "COMPLETED", "NO_SHOW"),
+            "COMPLETED", Set.of("NO_SHOW"));
+
     private final HotelRepository hotelRepository;
     private final RoomTypeRepository roomTypeRepository;
     private final RoomRepository roomRepository;
@@ -46,12 +53,26 @@ public class HotelOwnerServiceImpl implements HotelOwnerService {
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
     private final com.hotel.repository.ReviewRepository reviewRepository;
+    private final ReviewService reviewService;
+    private final HotelRatingService hotelRatingService;
     private final com.hotel.repository.ComplaintRepository complaintRepository;
     private final com.hotel.repository.LocationRepository locationRepository;
-    private final ModelMapper modelMapper;
-    private final ObjectMapper objectMapper;
+    private final com.hotel.mapping.HotelMapper hotelMapper;
+    private final com.hotel.mapping.RoomTypeMapper roomTypeMapper;
+    private final com.hotel.mapping.BookingMapper bookingMapper;
+    private final com.hotel.mapping.ReviewMapper reviewMapper;
+    private final com.hotel.mapping.ComplaintMapper complaintMapper;
+    private final CatalogVersionService catalogVersionService;
+    private final RoomStatusBoardService roomStatusBoardService;
+    private final LocationHotelCountService locationHotelCountService;
+    private final RateCalendarService rateCalendarService;
+    private final com.hotel.repository.RateSeasonRepository rateSeasonRepository;
+    private final RoomOccupancyService roomOccupancyService;
+    private final OverbookingService overbookingService;
+    private final com.hotel.repository.OverbookingAllowanceRepository overbookingAllowanceRepository;
 
     @Override
+    @Transactional(readOnly = true)
     public List<Hotel> getOwnerHotels(String ownerEmail) {
         User owner = userRepository.findByEmail(ownerEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("Owner not found"));
@@ -59,6 +80,7 @@ public class HotelOwnerServiceImpl implements HotelOwnerService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Hotel getOwnerHotelDetails(Long hotelId, String ownerEmail) {
         log.info("Getting hotel details - hotelId: {}, ownerEmail: {}", hotelId, ownerEmail);
 
@@ -92,18 +114,24 @@ public class HotelOwnerServiceImpl implements HotelOwnerService {
         User owner = userRepository.findByEmail(ownerEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("Owner not found"));
 
-        Hotel hotel = modelMapper.map(hotelDTO, Hotel.class);
+        Hotel hotel = hotelMapper.toEntity(hotelDTO);
         hotel.setOwner(owner);
         hotel.setStatus("PENDING"); // Requires admin approval
 
-        processHotelImages(hotel, hotelDTO.getImages());
+        if (hotelDTO.getImages() != null) {
+            hotel.setImages(hotelDTO.getImages());
+        }
 
-        return hotelRepository.save(hotel);
+        Hotel saved = hotelRepository.save(hotel);
+        locationHotelCountService.hotelAdded(saved.getCity());
+        catalogVersionService.hotelChanged(saved.getId());
+        return saved;
     }
 
     @Override
     public Hotel updateHotel(Long hotelId, HotelDTO hotelDTO, String ownerEmail) {
         Hotel hotel = getOwnerHotelDetails(hotelId, ownerEmail);
+        String oldCity = hotel.getCity();
 
         hotel.setName(hotelDTO.getName());
         hotel.setCity(hotelDTO.getCity());
@@ -120,19 +148,27 @@ public class HotelOwnerServiceImpl implements HotelOwnerService {
         hotel.setRestaurant(hotelDTO.isRestaurant());
         hotel.setRoomService(hotelDTO.isRoomService());
 
-        processHotelImages(hotel, hotelDTO.getImages());
+        if (hotelDTO.getImages() != null) {
+            hotel.setImages(hotelDTO.getImages());
+        }
 
-        return hotelRepository.save(hotel);
+        Hotel saved = hotelRepository.save(hotel);
+        locationHotelCountService.hotelMoved(oldCity, saved.getCity());
+        catalogVersionService.hotelChanged(hotelId);
+        return saved;
     }
 
     @Override
     public ApiResponse deleteHotel(Long hotelId, String ownerEmail) {
         Hotel hotel = getOwnerHotelDetails(hotelId, ownerEmail);
         hotelRepository.delete(hotel);
+        locationHotelCountService.hotelRemoved(hotel.getCity());
+        catalogVersionService.hotelChanged(hotelId);
         return new ApiResponse("Success", "Hotel deleted successfully");
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<RoomType> getHotelRooms(Long hotelId, String ownerEmail) {
         getOwnerHotelDetails(hotelId, ownerEmail); // Verify ownership
         return roomTypeRepository.findByHotelId(hotelId);
@@ -146,13 +182,19 @@ public class HotelOwnerServiceImpl implements HotelOwnerService {
             throw new IllegalStateException("Cannot add room types until hotel is approved by admin");
         }
 
-        RoomType roomType = modelMapper.map(roomTypeDTO, RoomType.class);
+        RoomType roomType = roomTypeMapper.toEntity(roomTypeDTO);
         roomType.setHotel(hotel);
 
-        processRoomTypeJsonFields(roomType, roomTypeDTO.getAmenities(), roomTypeDTO.getImages());
+        if (roomTypeDTO.getAmenities() != null) {
+            roomType.setAmenities(roomTypeDTO.getAmenities());
+        }
+        if (roomTypeDTO.getImages() != null) {
+            roomType.setImages(roomTypeDTO.getImages());
+        }
 
         RoomType saved = roomTypeRepository.save(roomType);
-        updateHotelPriceRange(hotel);
+        rateCalendarService.roomTypeChanged(hotelId, saved.getId());
+        catalogVersionService.hotelChanged(hotelId);
         return saved;
     }
 
@@ -185,12 +227,16 @@ public class HotelOwnerServiceImpl implements HotelOwnerService {
             roomType.setTotalRooms(roomTypeDTO.getTotalRooms());
         }
 
-        processRoomTypeJsonFields(roomType, roomTypeDTO.getAmenities(), roomTypeDTO.getImages());
+        if (roomTypeDTO.getAmenities() != null) {
+            roomType.setAmenities(roomTypeDTO.getAmenities());
+        }
+        if (roomTypeDTO.getImages() != null) {
+            roomType.setImages(roomTypeDTO.getImages());
+        }
 
         RoomType saved = roomTypeRepository.save(roomType);
-        Hotel hotel = hotelRepository.findById(hotelId).orElse(null);
-        if (hotel != null)
-            updateHotelPriceRange(hotel);
+        rateCalendarService.roomTypeChanged(hotelId, roomTypeId);
+        catalogVersionService.hotelChanged(hotelId);
         return saved;
     }
 
@@ -206,33 +252,177 @@ public class HotelOwnerServiceImpl implements HotelOwnerService {
         }
 
         roomTypeRepository.delete(roomType);
-        Hotel hotel = hotelRepository.findById(hotelId).orElse(null);
-        if (hotel != null)
-            updateHotelPriceRange(hotel);
+        rateCalendarService.roomTypeRemoved(hotelId, roomTypeId);
+        catalogVersionService.hotelChanged(hotelId);
         return new ApiResponse("Success", "Room type deleted successfully");
     }
 
+    // Seasonal pricing
+    @Override
+    @Transactional(readOnly = true)
+    public List<com.hotel.entities.RateSeason> getRateSeasons(Long hotelId, Long roomTypeId, String ownerEmail) {
+        getOwnedRoomType(hotelId, roomTypeId, ownerEmail);
+        return rateSeasonRepository.findByRoomTypeIdOrderByStartDate(roomTypeId);
+    }
+
+    @Override
+    public com.hotel.entities.RateSeason addRateSeason(Long hotelId, Long roomTypeId,
+            com.hotel.dtos.RateSeasonDTO seasonDTO, String ownerEmail) {
+        RoomType roomType = getOwnedRoomType(hotelId, roomTypeId, ownerEmail);
+        if (seasonDTO.getEndDate().isBefore(seasonDTO.getStartDate())) {
+            throw new IllegalArgumentException("Season end date must not be before its start date");
+        }
+
+        com.hotel.entities.RateSeason season = new com.hotel.entities.RateSeason();
+        season.setRoomType(roomType);
+        season.setName(seasonDTO.getName());
+        season.setStartDate(seasonDTO.getStartDate());
+        season.setEndDate(seasonDTO.getEndDate());
+        season.setMultiplier(seasonDTO.getMultiplier());
+
+        com.hotel.entities.RateSeason saved = rateSeasonRepository.save(season);
+        rateCalendarService.roomTypeChanged(hotelId, roomTypeId);
+        return saved;
+    }
+
+    @Override
+    public ApiResponse deleteRateSeason(Long hotelId, Long roomTypeId, Long seasonId, String ownerEmail) {
+        getOwnedRoomType(hotelId, roomTypeId, ownerEmail);
+
+        com.hotel.entities.RateSeason season = rateSeasonRepository.findById(seasonId)
+                .orElseThrow(() -> new ResourceNotFoundException("Season not found"));
+        if (!season.getRoomType().getId().equals(roomTypeId)) {
+            throw new IllegalArgumentException("Season does not belong to this room type");
+        }
+
+        rateSeasonRepository.delete(season);
+        rateCalendarService.roomTypeChanged(hotelId, roomTypeId);
+        return new ApiResponse("Success", "Season deleted successfully");
+    }
+
+    // Overbooking
+    @Override
+    @Transactional(readOnly = true)
+    public List<com.hotel.entities.OverbookingAllowance> getOverbookingAllowances(Long hotelId, Long roomTypeId,
+            String ownerEmail) {
+        getOwnedRoomType(hotelId, roomTypeId, ownerEmail);
+        return overbookingAllowanceRepository.findByRoomTypeIdOrderByStartDate(roomTypeId);
+    }
+
+    @Override
+    public com.hotel.entities.OverbookingAllowance addOverbookingAllowance(Long hotelId, Long roomTypeId,
+            com.hotel.dtos.OverbookingAllowanceDTO allowanceDTO, String ownerEmail) {
+        RoomType roomType = getOwnedRoomType(hotelId, roomTypeId, ownerEmail);
+        if (allowanceDTO.getEndDate().isBefore(allowanceDTO.getStartDate())) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+
+        com.hotel.entities.OverbookingAllowance allowance = new com.hotel.entities.OverbookingAllowance();
+        allowance.setRoomType(roomType);
+        allowance.setStartDate(allowanceDTO.getStartDate());
+        allowance.setEndDate(allowanceDTO.getEndDate());
+        allowance.setMaxRooms(allowanceDTO.getMaxRooms());
+
+        com.hotel.entities.OverbookingAllowance saved = overbookingAllowanceRepository.save(allowance);
+        overbookingService.allowancesChanged(roomTypeId);
+        return saved;
+    }
+
+    @Override
+    public ApiResponse deleteOverbookingAllowance(Long hotelId, Long roomTypeId, Long allowanceId,
+            String ownerEmail) {
+        getOwnedRoomType(hotelId, roomTypeId, ownerEmail);
+
+        com.hotel.entities.OverbookingAllowance allowance = overbookingAllowanceRepository.findById(allowanceId)
+                .orElseThrow(() -> new ResourceNotFoundException("Overbooking allowance not found"));
+        if (!allowance.getRoomType().getId().equals(roomTypeId)) {
+            throw new IllegalArgumentException("Overbooking allowance does not belong to this room type");
+        }
+
+        overbookingAllowanceRepository.delete(allowance);
+        overbookingService.allowancesChanged(roomTypeId);
+        return new ApiResponse("Success", "Overbooking allowance deleted successfully");
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<com.hotel.dtos.OverbookingReportDTO> getOverbookingReport(Long hotelId, java.time.LocalDate from,
+            java.time.LocalDate to, String ownerEmail) {
+        getOwnerHotelDetails(hotelId, ownerEmail); // Verify ownership
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("'to' must be after 'from'");
+        }
+        if (java.time.temporal.ChronoUnit.DAYS.between(from, to) > 366) {
+            throw new IllegalArgumentException("The report covers at most 366 nights");
+        }
+        return overbookingService.report(hotelId, from, to);
+    }
+
+    private RoomType getOwnedRoomType(Long hotelId, Long roomTypeId, String ownerEmail) {
+        getOwnerHotelDetails(hotelId, ownerEmail); // Verify ownership
+
+        RoomType roomType = roomTypeRepository.findById(roomTypeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Room type not found"));
+        if (!roomType.getHotel().getId().equals(hotelId)) {
+            throw new IllegalArgumentException("Room type does not belong to this hotel");
+        }
+        return roomType;
+    }
+
     // Individual Room Management
     @Override
+    @Transactional(readOnly = true)
     public List<com.hotel.dtos.RoomResponseDTO> getHotelRoomsList(Long hotelId, String ownerEmail) {
         getOwnerHotelDetails(hotelId, ownerEmail); // Verify ownership
-        List<Room> rooms = roomRepository.findByHotelId(hotelId);
 
-        // Map to DTO to avoid lazy loading issues
+        // Two queries in total: rooms with their types, then one grouped count
+        List<Room> rooms = roomRepository.findByHotelIdWithRoomType(hotelId);
+        return toRoomResponses(rooms, roomCountsByType(hotelId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public com.hotel.dtos.RoomPageDTO getHotelRoomsPage(Long hotelId, String status, Long roomTypeId, int page,
+            int size, String ownerEmail) {
+        getOwnerHotelDetails(hotelId, ownerEmail); // Verify ownership
+
+        if (page < 0 || size < 1 || size > 200) {
+            throw new IllegalArgumentException("page must be >= 0 and size between 1 and 200");
+        }
+        String statusFilter = status == null || status.isBlank() ? null : status.toUpperCase();
+
+        org.springframework.data.domain.Page<Room> rooms = roomRepository.findPageByHotelId(hotelId, statusFilter,
+                roomTypeId, org.springframework.data.domain.PageRequest.of(page, size,
+                        org.springframework.data.domain.Sort.by("roomNumber", "id")));
+
+        return new com.hotel.dtos.RoomPageDTO(toRoomResponses(rooms.getContent(), roomCountsByType(hotelId)),
+                rooms.getNumber(), rooms.getSize(), rooms.getTotalElements(), rooms.getTotalPages());
+    }
+
+    private Map<Long, Long> roomCountsByType(Long hotelId) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : roomRepository.countByRoomTypeForHotel(hotelId)) {
+            counts.put((Long) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    // Room types must already be loaded (fetch join) - no queries happen here
+    private List<com.hotel.dtos.RoomResponseDTO> toRoomResponses(List<Room> rooms, Map<Long, Long> countsByType) {
         return rooms.stream()
                 .map(room -> {
+                    RoomType type = room.getRoomType();
                     com.hotel.dtos.RoomResponseDTO dto = new com.hotel.dtos.RoomResponseDTO();
                     dto.setId(room.getId());
                     dto.setRoomNumber(room.getRoomNumber());
-                    dto.setRoomTypeId(room.getRoomType().getId());
-                    dto.setRoomTypeName(room.getRoomType().getName());
+                    dto.setRoomTypeId(type.getId());
+                    dto.setRoomTypeName(type.getName());
                     dto.setIsActive(room.getIsActive());
                     dto.setStatus(room.getStatus());
 
                     // Add room count information
-                    dto.setRoomTypeLimit(room.getRoomType().getTotalRooms());
-                    Long usedCount = roomRepository.countByRoomTypeId(room.getRoomType().getId());
-                    dto.setRoomTypeUsed(usedCount.intValue());
+                    dto.setRoomTypeLimit(type.getTotalRooms());
+                    dto.setRoomTypeUsed(countsByType.getOrDefault(type.getId(), 0L).intValue());
 
                     return dto;
                 })
@@ -247,7 +437,8 @@ public class HotelOwnerServiceImpl implements HotelOwnerService {
             throw new IllegalStateException("Cannot add rooms until hotel is approved by admin");
         }
 
-        RoomType roomType = roomTypeRepository.findById(roomDTO.getRoomTypeId())
+        // Locked until commit, like bulk provisioning, so two adds cannot both pass the limit
+        RoomType roomType = roomTypeRepository.findByIdForUpdate(roomDTO.getRoomTypeId())
                 .orElseThrow(() -> new ResourceNotFoundException("Room type not found"));
 
         if (!roomType.getHotel().getId().equals(hotelId)) {
@@ -255,7 +446,7 @@ public class HotelOwnerServiceImpl implements HotelOwnerService {
         }
 
         // Validate room count doesn't exceed totalRooms limit
-        Long currentCount = roomRepository.countByRoomTypeId(roomDTO.getRoomTypeId());
+        long currentCount = roomRepository.countByRoomTypeIdForShare(roomDTO.getRoomTypeId());
         if (currentCount >= roomType.getTotalRooms()) {
             throw new IllegalStateException(
                     "Cannot add more rooms. Room type '" + roomType.getName() +
@@ -270,7 +461,11 @@ public class HotelOwnerServiceImpl implements HotelOwnerService {
         room.setIsActive(roomDTO.getIsActive() != null ? roomDTO.getIsActive() : true);
         room.setStatus(roomDTO.getStatus() != null ? roomDTO.getStatus() : "AVAILABLE");
 
-        return roomRepository.save(room);
+        Room saved = roomRepository.save(room);
+        roomStatusBoardService.roomChanged(hotelId, saved.getId(), saved.getRoomNumber(), roomType.getId(),
+                saved.getStatus(), saved.getIsActive());
+        rateCalendarService.roomInventoryChanged(hotelId);
+        return saved;
     }
 
     @Override
@@ -305,7 +500,11 @@ public class HotelOwnerServiceImpl implements HotelOwnerService {
             room.setStatus(roomDTO.getStatus());
         }
 
-        return roomRepository.save(room);
+        Room saved = roomRepository.save(room);
+        roomStatusBoardService.roomChanged(hotelId, saved.getId(), saved.getRoomNumber(),
+                saved.getRoomType().getId(), saved.getStatus(), saved.getIsActive());
+        rateCalendarService.roomInventoryChanged(hotelId);
+        return saved;
     }
 
     @Override
@@ -320,11 +519,14 @@ public class HotelOwnerServiceImpl implements HotelOwnerService {
         }
 
         roomRepository.delete(room);
+        roomStatusBoardService.roomRemoved(hotelId, roomId);
+        rateCalendarService.roomInventoryChanged(hotelId);
         return new ApiResponse("Success", "Room deleted successfully");
     }
 
     // Room Statistics - Real-time occupancy based on RoomOccupancy table
     @Override
+    @Transactional(readOnly = true)
     public com.hotel.dtos.RoomStatsDTO getRoomStats(Long hotelId, String ownerEmail) {
         getOwnerHotelDetails(hotelId, ownerEmail); // Verify ownership
 
@@ -348,6 +550,7 @@ public class HotelOwnerServiceImpl implements HotelOwnerService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<BookingResponseDTO> getOwnerBookings(String ownerEmail) {
         User owner = userRepository.findByEmail(ownerEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("Owner not found"));
@@ -357,16 +560,17 @@ public class HotelOwnerServiceImpl implements HotelOwnerService {
 
         return bookingRepository.findAll().stream()
                 .filter(b -> hotelIds.contains(b.getHotel().getId()))
-                .map(this::mapToBookingResponse)
+                .map(bookingMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<BookingResponseDTO> getHotelBookings(Long hotelId, String ownerEmail) {
         getOwnerHotelDetails(hotelId, ownerEmail); // Verify ownership
 
         return bookingRepository.findByHotelId(hotelId).stream()
-                .map(this::mapToBookingResponse)
+                .map(bookingMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
@@ -383,13 +587,24 @@ public class HotelOwnerServiceImpl implements HotelOwnerService {
             throw new IllegalArgumentException("Not authorized to update this booking");
         }
 
+        String previous = booking.getStatus();
+        if (!OWNER_STATUS_CHANGES.getOrDefault(previous, Set.of()).contains(status)) {
+            throw new IllegalArgumentException("Cannot change booking status from " + previous + " to " + status);
+        }
         booking.setStatus(status);
         bookingRepository.save(booking);
 
+        // A cancelled or no-show stay gives its rooms back (possibly to an overbooked booking);
+        // NO_SHOW also feeds the no-show forecast behind the overbooking allowance
+        if ("CONFIRMED".equals(previous) && ("CANCELLED".equals(status) || "NO_SHOW".equals(status))) {
+            roomOccupancyService.cancelRoomOccupancy(bookingId);
+        }
+
         return new ApiResponse("Success", "Booking status updated successfully");
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Map<String, Object> getOwnerDashboardStats(String ownerEmail) {
         User owner = userRepository.findByEmail(ownerEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("Owner not found"));
@@ -421,98 +636,60 @@ public class HotelOwnerServiceImpl implements HotelOwnerService {
         return stats;
     }
 
-    private void processHotelImages(Hotel hotel, Object images) {
-        try {
-            if (images != null) {
-                hotel.setImages(objectMapper.writeValueAsString(images));
-            }
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Error processing hotel images", e);
-        }
-    }
-
-    private void processRoomTypeJsonFields(RoomType roomType, Object amenities, Object images) {
-        try {
-            if (amenities != null) {
-                roomType.setAmenities(objectMapper.writeValueAsString(amenities));
-            }
-            if (images != null) {
-                roomType.setImages(objectMapper.writeValueAsString(images));
-            }
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Error processing room type data", e);
-        }
-    }
-
-    private BookingResponseDTO mapToBookingResponse(Booking booking) {
-        BookingResponseDTO dto = new BookingResponseDTO();
-        dto.setId(booking.getId());
-        dto.setBookingReference(booking.getBookingReference());
-        dto.setHotelName(booking.getHotel().getName());
-        dto.setHotelCity(booking.getHotel().getCity());
-        dto.setRoomTypeName(booking.getRoomType().getName());
-        dto.setCheckInDate(booking.getCheckInDate());
-        dto.setCheckOutDate(booking.getCheckOutDate());
-        dto.setAdults(booking.getAdults());
-        dto.setChildren(booking.getChildren());
-        dto.setRooms(booking.getRooms());
-        dto.setTotalPrice(booking.getTotalPrice());
-        dto.setStatus(booking.getStatus());
-        dto.setBookingDate(booking.getBookingDate());
-        dto.setGuestFirstName(booking.getGuestFirstName());
-        dto.setGuestLastName(booking.getGuestLastName());
-        dto.setGuestEmail(booking.getGuestEmail());
-        dto.setGuestPhone(booking.getGuestPhone());
-        dto.setPaymentStatus(booking.getPaymentStatus());
-        dto.setPaymentMethod(booking.getPaymentMethod());
-        dto.setTransactionId(booking.getTransactionId());
-        return dto;
-    }
-
     // Customer Experience - Reviews
     @Override
+    @Transactional(readOnly = true)
     public List<com.hotel.dtos.ReviewResponseDTO> getHotelReviews(Long hotelId, String ownerEmail) {
         getOwnerHotelDetails(hotelId, ownerEmail); // Verify ownership
 
         List<com.hotel.entities.Review> reviews = reviewRepository.findByHotelIdOrderByCreatedAtDesc(hotelId);
         return reviews.stream()
-                .map(this::mapToReviewResponse)
+                .map(reviewMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
     @Override
-    public Map<String, Object> getReviewStats(Long hotelId, String ownerEmail) {
+    @Transactional(readOnly = true)
+    public com.hotel.dtos.ReviewPageDTO getHotelReviewPage(Long hotelId, String cursor, Integer size,
+            String ownerEmail) {
         getOwnerHotelDetails(hotelId, ownerEmail); // Verify ownership
+        return reviewService.getHotelReviewPage(hotelId, cursor, size);
+    }
 
-        List<com.hotel.entities.Review> reviews = reviewRepository.findByHotelIdOrderByCreatedAtDesc(hotelId);
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> getReviewStats(Long hotelId, String ownerEmail) {
+        Hotel hotel = getOwnerHotelDetails(hotelId, ownerEmail); // Verify ownership
+
+        // Totals come from the maintained aggregates, not from loading every review
+        com.hotel.entities.HotelReviewStats histogram = hotelRatingService.getReviewStats(hotelId);
+        Map<Integer, Long> distribution = new java.util.LinkedHashMap<>();
+        long totalReviews = 0;
+        for (int star = 5; star >= 1; star--) {
+            distribution.put(star, histogram.getStar(star));
+            totalReviews += histogram.getStar(star);
+        }
 
         Map<String, Object> stats = new HashMap<>();
-        stats.put("totalReviews", reviews.size());
-
-        if (!reviews.isEmpty()) {
-            double avgRating = reviews.stream()
-                    .mapToInt(com.hotel.entities.Review::getRating)
-                    .average()
-                    .orElse(0.0);
-            stats.put("averageRating", Math.round(avgRating * 10.0) / 10.0);
-        } else {
-            stats.put("averageRating", 0.0);
-        }
+        stats.put("totalReviews", totalReviews);
+        stats.put("averageRating", totalReviews > 0 ? Math.round(hotel.getRating() * 10.0) / 10.0 : 0.0);
+        stats.put("ratingDistribution", distribution);
 
-        long newReviews = reviews.stream()
-                .filter(r -> r.getCreatedAt().isAfter(java.time.LocalDateTime.now().minusDays(7)))
-                .count();
-        stats.put("newReviews", newReviews);
+        // Range counts on the (hotel_id, created_at) index
+        java.time.LocalDateTime now = java.time.LocalDateTime.now();
+        stats.put("newReviews", reviewRepository.countByHotelIdAndCreatedAtAfter(hotelId, now.minusDays(7)));
+        stats.put("last30DaysReviews", reviewRepository.countByHotelIdAndCreatedAtAfter(hotelId, now.minusDays(30)));
 
         return stats;
     }
 
     // Customer Experience - Complaints (Placeholder implementations)
     @Override
+    @Transactional(readOnly = true)
     public List<com.hotel.dtos.ComplaintResponseDTO> getHotelComplaints(Long hotelId, String ownerEmail) {
         getOwnerHotelDetails(hotelId, ownerEmail); // Verify ownership
         List<com.hotel.entities.Complaint> complaints = complaintRepository.findByHotelId(hotelId);
-        return complaints.stream().map(this::mapToComplaintResponse).collect(Collectors.toList());
+        return complaints.stream().map(complaintMapper::toResponse).collect(Collectors.toList());
     }
 
     @Override
@@ -531,35 +708,9 @@ public class HotelOwnerServiceImpl implements HotelOwnerService {
         return new ApiResponse("Success", "Complaint resolved successfully");
     }
 
-    // Helper method to map Review to ReviewResponseDTO
-    private com.hotel.dtos.ReviewResponseDTO mapToReviewResponse(com.hotel.entities.Review review) {
-        com.hotel.dtos.ReviewResponseDTO dto = new com.hotel.dtos.ReviewResponseDTO();
-        dto.setId(review.getId());
-        dto.setGuestName(review.getUser().getFirstName() + " " + review.getUser().getLastName());
-        dto.setGuestEmail(review.getUser().getEmail());
-        dto.setRating(review.getRating());
-        dto.setTitle(review.getTitle());
-        dto.setComment(review.getComment());
-        dto.setCreatedAt(review.getCreatedAt());
-        return dto;
-    }
-
-    private ComplaintResponseDTO mapToComplaintResponse(com.hotel.entities.Complaint complaint) {
-        ComplaintResponseDTO dto = new ComplaintResponseDTO();
-        dto.setId(complaint.getId());
-        dto.setSubject(complaint.getSubject());
-        dto.setDescription(complaint.getDescription());
-        dto.setStatus(complaint.getStatus().name());
-        dto.setCreatedAt(complaint.getCreatedAt());
-        dto.setResolvedAt(complaint.getResolvedAt());
-        dto.setGuestName(complaint.getGuestName());
-        dto.setBookingReference(complaint.getBooking().getBookingReference());
-        dto.setResolution(complaint.getResolution());
-        return dto;
-    }
-
     // Payment Management
     @Override
+    @Transactional(readOnly = true)
     public List<BookingResponseDTO> getPaymentHistory(Long hotelId, String ownerEmail) {
         getOwnerHotelDetails(hotelId, ownerEmail); // Verify ownership
 
@@ -568,11 +719,12 @@ public class HotelOwnerServiceImpl implements HotelOwnerService {
         return bookings.stream()
                 .filter(b -> b.getPaymentStatus() != null) // Only bookings with payment status
                 .sorted((b1, b2) -> b2.getBookingDate().compareTo(b1.getBookingDate()))
-                .map(this::mapToBookingResponse)
+                .map(bookingMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Map<String, Object> getPaymentStats(Long hotelId, String ownerEmail) {
         getOwnerHotelDetails(hotelId, ownerEmail); // Verify ownership
 
@@ -606,71 +758,4 @@ public class HotelOwnerServiceImpl implements HotelOwnerService {
 
         return stats;
     }
-
-    @Override
-    public byte[] generatePaymentReport(Long hotelId, String ownerEmail) {
-        getOwnerHotelDetails(hotelId, ownerEmail); // Verify ownership
-
-        List<Booking> bookings = bookingRepository.findByHotelId(hotelId);
-        List<Booking> sortedBookings = bookings.stream()
-                .filter(b -> b.getPaymentStatus() != null)
-                .sorted((b1, b2) -> b2.getBookingDate().compareTo(b1.getBookingDate()))
-                .collect(Collectors.toList());
-
-        StringBuilder csv = new StringBuilder();
-        // CSV Header
-        csv.append("Transaction ID,Guest Name,Email,Check-In,Check-Out,Amount,Method,Status,Date\n");
-
-        // CSV Rows
-        for (Booking b : sortedBookings) {
-            csv.append(escapeCsv(b.getTransactionId() != null ? b.getTransactionId() : "N/A")).append(",");
-            csv.append(escapeCsv(b.getGuestFirstName() + " " + b.getGuestLastName())).append(",");
-            csv.append(escapeCsv(b.getGuestEmail())).append(",");
-            csv.append(b.getCheckInDate()).append(",");
-            csv.append(b.getCheckOutDate()).append(",");
-            csv.append(b.getTotalPrice()).append(",");
-            csv.append(escapeCsv(b.getPaymentMethod() != null ? b.getPaymentMethod() : "N/A")).append(",");
-            csv.append(escapeCsv(b.getPaymentStatus())).append(",");
-            csv.append(b.getBookingDate()).append("\n");
-        }
-
-        return csv.toString().getBytes(java.nio.charset.StandardCharsets.UTF_8);
-    }
-
-    // Helper to escape CSV fields
-    private String escapeCsv(String field) {
-        if (field == null)
-            return "";
-        if (field.contains(",") || field.contains("\"") || field.contains("\n")) {
-            return "\"" + field.replace("\"", "\"\"") + "\"";
-        }
-        return field;
-    }
-
-    private void updateHotelPriceRange(Hotel hotel) {
-        try {
-            List<RoomType> rooms = roomTypeRepository.findByHotelId(hotel.getId());
-            if (rooms.isEmpty()) {
-                hotel.setPriceRange("Price not available");
-            } else {
-                BigDecimal min = rooms.stream()
-                        .map(RoomType::getPricePerNight)
-                        .min(BigDecimal::compareTo)
-                        .orElse(BigDecimal.ZERO);
-                BigDecimal max = rooms.stream()
-                        .map(RoomType::getPricePerNight)
-                        .max(BigDecimal::compareTo)
-                        .orElse(BigDecimal.ZERO);
-
-                if (min.compareTo(max) == 0) {
-                    hotel.setPriceRange("₹" + min.toString());
-                } else {
-                    hotel.setPriceRange("₹" + min.toString() + " - ₹" + max.toString());
-                }
-            }
-            hotelRepository.save(hotel);
-        } catch (Exception e) {
-            log.error("Error updating hotel price range", e);
-        }
-    }
 }
@@ -0,0 +1,27 @@
+package com.hotel.service;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HotelRatingSchedulerService {
+
+    private final HotelRatingService hotelRatingService;
+
+    // Shortly after startup, then every 6 hours: fix drift between hotel ratings and reviews
+    @Scheduled(initialDelayString = "${rating.reconcile.initial-delay-ms:60000}", fixedDelayString = "${rating.reconcile.interval-ms:21600000}")
+    public void reconcileRatings() {
+        try {
+            log.info("Reconciling hotel ratings...");
+            int fixed = hotelRatingService.reconcileAll();
+            log.info("Hotel rating reconciliation done, {} hotels corrected", fixed);
+        } catch (Exception e) {
+            log.error("Error reconciling hotel ratings: {}", e.getMessage(), e);
+        }
+    }
+}
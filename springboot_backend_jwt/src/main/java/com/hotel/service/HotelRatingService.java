@@ -0,0 +1,136 @@
+package com.hotel.service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hotel.custom_exceptions.ResourceNotFoundException;
+import com.hotel.entities.HotelReviewStats;
+import com.hotel.repository.HotelRepository;
+import com.hotel.repository.HotelReviewStatsRepository;
+import com.hotel.repository.ReviewRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps Hotel.rating / ratingCount / ratingText and the per-star histogram
+ * (hotel_review_stats) up to date from running totals. Each review write is a
+ * pair of atomic UPDATEs instead of an AVG/COUNT scan over all of the hotel's
+ * reviews; {@link #reconcileAll()} repairs any drift against the reviews table.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class HotelRatingService {
+
+    private final HotelRepository hotelRepository;
+    private final ReviewRepository reviewRepository;
+    private final HotelReviewStatsRepository hotelReviewStatsRepository;
+    private final CatalogVersionService catalogVersionService;
+
+    public void reviewAdded(Long hotelId, int rating) {
+        applyDelta(hotelId, rating, 1);
+        hotelReviewStatsRepository.adjustStar(hotelId, rating, 1);
+    }
+
+    public void reviewRemoved(Long hotelId, int rating) {
+        applyDelta(hotelId, -rating, -1);
+        hotelReviewStatsRepository.adjustStar(hotelId, rating, -1);
+    }
+
+    /**
+     * Star histogram for a hotel - all zeros when it has no reviews yet.
+     */
+    @Transactional(readOnly = true)
+    public HotelReviewStats getReviewStats(Long hotelId) {
+        return hotelReviewStatsRepository.findById(hotelId)
+                .orElseGet(() -> new HotelReviewStats(hotelId, 0, 0, 0, 0, 0));
+    }
+
+    private void applyDelta(Long hotelId, long sumDelta, int countDelta) {
+        if (hotelRepository.applyRatingDelta(hotelId, sumDelta, countDelta) == 0) {
+            throw new ResourceNotFoundException("Hotel not found");
+        }
+        log.info("Hotel {} rating adjusted by sum {} / count {}", hotelId, sumDelta, countDelta);
+    }
+
+    /**
+     * Recomputes the aggregate for every hotel whose stored sum/count or star
+     * histogram no longer matches its reviews. Returns the number of hotels
+     * corrected.
+     *
+     * Mismatches are found from one bulk read; each one is then fixed by a
+     * single statement that recomputes from the reviews under the row lock, so
+     * a review written meanwhile is never lost.
+     */
+    public int reconcileAll() {
+        Map<Long, long[]> actual = new HashMap<>();
+        for (Object[] row : reviewRepository.sumAndCountByHotel()) {
+            actual.put((Long) row[0], new long[] { ((Number) row[1]).longValue(), ((Number) row[2]).longValue() });
+        }
+
+        int fixed = 0;
+        for (Object[] row : hotelRepository.findRatingAggregates()) {
+            Long hotelId = (Long) row[0];
+            long storedSum = row[1] != null ? ((Number) row[1]).longValue() : 0L;
+            long storedCount = row[2] != null ? ((Number) row[2]).longValue() : 0L;
+            long[] real = actual.getOrDefault(hotelId, new long[] { 0L, 0L });
+
+            if (storedSum != real[0] || storedCount != real[1]) {
+                hotelRepository.recomputeRating(hotelId);
+                log.info("Hotel {} rating reconciled: sum {} -> {}, count {} -> {}",
+                        hotelId, storedSum, real[0], storedCount, real[1]);
+                catalogVersionService.hotelChanged(hotelId);
+                fixed++;
+            }
+        }
+        return fixed + reconcileHistograms();
+    }
+
+    private int reconcileHistograms() {
+        Map<Long, long[]> actual = new HashMap<>();
+        for (Object[] row : reviewRepository.countByHotelAndRating()) {
+            int star = ((Number) row[1]).intValue();
+            if (star >= 1 && star <= 5) {
+                actual.computeIfAbsent((Long) row[0], id -> new long[6])[star] = ((Number) row[2]).longValue();
+            }
+        }
+
+        Set<Long> mismatched = new HashSet<>();
+        Map<Long, HotelReviewStats> stored = new HashMap<>();
+        hotelReviewStatsRepository.findAll().forEach(s -> stored.put(s.getHotelId(), s));
+
+        for (Map.Entry<Long, long[]> entry : actual.entrySet()) {
+            HotelReviewStats stats = stored.remove(entry.getKey());
+            if (stats == null || !matches(stats, entry.getValue())) {
+                mismatched.add(entry.getKey());
+            }
+        }
+        // Rows left over belong to hotels that no longer have any reviews - recomputed to zeros
+        for (HotelReviewStats leftover : stored.values()) {
+            if (!matches(leftover, new long[6])) {
+                mismatched.add(leftover.getHotelId());
+            }
+        }
+        for (Long hotelId : mismatched) {
+            hotelReviewStatsRepository.recomputeStars(hotelId);
+            log.info("Hotel {} review histogram reconciled", hotelId);
+        }
+        return mismatched.size();
+    }
+
+    private static boolean matches(HotelReviewStats stats, long[] real) {
+        for (int star = 1; star <= 5; star++) {
+            if (stats.getStar(star) != real[star]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
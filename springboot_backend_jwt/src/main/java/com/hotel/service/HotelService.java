@@ -10,14 +10,24 @@ import com.hotel.dtos.RoomTypeDTO;
 public interface HotelService {
     List<Hotel> getAllHotels();
 
+    List<com.hotel.dtos.HotelSummaryDTO> getHotelSummaries();
+
     Hotel getHotelDetails(Long id);
 
     List<Hotel> searchHotels(String city, String state, String destination);
 
+    // amenities: comma separated RoomAmenity labels, every one required
+    List<Hotel> searchHotels(String city, String state, String destination, String amenities);
+
     List<RoomType> getHotelRooms(Long hotelId);
 
+    List<RoomType> getHotelRooms(Long hotelId, String amenities);
+
     Boolean checkRoomAvailability(Long hotelId, Long roomTypeId, String checkIn, String checkOut, Integer rooms);
 
+    java.util.Map<java.time.LocalDate, java.math.BigDecimal> getNightlyRates(Long hotelId, Long roomTypeId,
+            java.time.LocalDate from, java.time.LocalDate to);
+
     Hotel addNewHotel(HotelDTO hotelDTO, String ownerEmail);
 
     List<Hotel> getHotelsByStatus(String status);
@@ -2,7 +2,6 @@ package com.hotel.service;
 
 import java.util.List;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,6 +13,7 @@ import com.hotel.dtos.HotelRegistrationDTO;
 import com.hotel.dtos.UserRegDTO;
 import com.hotel.entities.AccountStatus;
 import com.hotel.entities.Hotel;
+import com.hotel.entities.RoomAmenity;
 import com.hotel.entities.RoomType;
 import com.hotel.entities.UserRole;
 import com.hotel.repository.BookingRepository;
@@ -35,13 +35,20 @@ public class HotelServiceImpl implements HotelService {
     private final RoomRepository roomRepository;
     private final BookingRepository bookingRepository;
     private final com.hotel.repository.UserRepository userRepository;
-    private final ModelMapper modelMapper;
+    private final com.hotel.mapping.HotelMapper hotelMapper;
+    private final com.hotel.mapping.UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
-    private final com.fasterxml.jackson.databind.ObjectMapper objectMapper;
     private final com.hotel.security.JwtUtils jwtUtils;
     private final com.hotel.repository.LocationRepository locationRepository;
+    private final LocationHotelCountService locationHotelCountService;
+    private final CatalogVersionService catalogVersionService;
+    private final RateCalendarService rateCalendarService;
+
+    private static final int MAX_RATE_NIGHTS = 366;
+    private static final String DEFAULT_HOTEL_IMAGE = "https://images.unsplash.com/photo-1566073771259-6a8506099945?w=800&q=60";
 
     @Override
+    @Transactional(readOnly = true)
     public List<Hotel> getAllHotels() {
         try {
             log.debug("Getting all hotels");
@@ -54,6 +61,19 @@ public class HotelServiceImpl implements HotelService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<com.hotel.dtos.HotelSummaryDTO> getHotelSummaries() {
+        try {
+            log.debug("Getting approved hotel summaries");
+            return hotelRepository.findSummariesByStatus("APPROVED");
+        } catch (Exception e) {
+            log.error("Error getting hotel summaries", e);
+            throw new RuntimeException("Failed to retrieve hotels", e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Hotel getHotelDetails(Long id) {
         if (id == null) {
             throw new IllegalArgumentException("Hotel ID cannot be null");
@@ -72,6 +92,7 @@ public class HotelServiceImpl implements HotelService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Hotel> searchHotels(String city, String state, String destination) {
         try {
             log.info("Searching hotels with city: {}, state: {}, destination: {}", city, state, destination);
@@ -104,6 +125,7 @@ public class HotelServiceImpl implements HotelService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<RoomType> getHotelRooms(Long hotelId) {
         if (hotelId == null) {
             throw new IllegalArgumentException("Hotel ID cannot be null");
@@ -119,6 +141,40 @@ public class HotelServiceImpl implements HotelService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<Hotel> searchHotels(String city, String state, String destination, String amenities) {
+        if (amenities == null || amenities.isBlank()) {
+            return searchHotels(city, state, destination);
+        }
+        java.util.OptionalLong mask = RoomAmenity.filterMask(amenities);
+        if (mask.isEmpty()) {
+            return List.of(); // an amenity no room can have
+        }
+        java.util.Set<Long> hotelIds = new java.util.HashSet<>(
+                roomTypeRepository.findHotelIdsWithAmenities(mask.getAsLong()));
+        return searchHotels(city, state, destination).stream()
+                .filter(h -> hotelIds.contains(h.getId()))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RoomType> getHotelRooms(Long hotelId, String amenities) {
+        if (amenities == null || amenities.isBlank()) {
+            return getHotelRooms(hotelId);
+        }
+        if (hotelId == null) {
+            throw new IllegalArgumentException("Hotel ID cannot be null");
+        }
+        java.util.OptionalLong mask = RoomAmenity.filterMask(amenities);
+        if (mask.isEmpty()) {
+            return List.of();
+        }
+        return roomTypeRepository.findByHotelIdWithAmenities(hotelId, mask.getAsLong());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Boolean checkRoomAvailability(Long hotelId, Long roomTypeId, String checkIn, String checkOut,
             Integer rooms) {
         try {
@@ -145,6 +201,22 @@ public class HotelServiceImpl implements HotelService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public java.util.Map<java.time.LocalDate, java.math.BigDecimal> getNightlyRates(Long hotelId, Long roomTypeId,
+            java.time.LocalDate from, java.time.LocalDate to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("'to' must be after 'from'");
+        }
+        if (java.time.temporal.ChronoUnit.DAYS.between(from, to) > MAX_RATE_NIGHTS) {
+            throw new IllegalArgumentException("At most " + MAX_RATE_NIGHTS + " nights can be requested at once");
+        }
+        RoomType roomType = roomTypeRepository.findById(roomTypeId)
+                .filter(rt -> rt.getHotel().getId().equals(hotelId))
+                .orElseThrow(() -> new ResourceNotFoundException("Room type not found"));
+        return rateCalendarService.nightlyRates(roomType, from, to);
+    }
+
     @Override
     public Hotel addNewHotel(HotelDTO hotelDTO, String ownerEmail) {
         try {
@@ -155,7 +227,7 @@ public class HotelServiceImpl implements HotelService {
                     .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + ownerEmail));
 
             // 2. Map DTO to Entity
-            Hotel hotel = modelMapper.map(hotelDTO, Hotel.class);
+            Hotel hotel = hotelMapper.toEntity(hotelDTO);
 
             // 3. Set Defaults & Relationships
             hotel.setOwner(owner);
@@ -183,34 +255,23 @@ public class HotelServiceImpl implements HotelService {
                 hotel.setPriceRange("Contact for pricing");
             }
 
-            // Handle JSON fields manually
-            try {
-                // Amenities booleans map automatically or manual if explicit needed
-                hotel.setWifi(hotelDTO.isWifi());
-                hotel.setParking(hotelDTO.isParking());
-                hotel.setGym(hotelDTO.isGym());
-                hotel.setAc(hotelDTO.isAc());
-                hotel.setRestaurant(hotelDTO.isRestaurant());
-                hotel.setRoomService(hotelDTO.isRoomService());
-
-                // Set default images if none provided
-                if (hotelDTO.getImages() != null && !hotelDTO.getImages().isEmpty()) {
-                    hotel.setImages(objectMapper.writeValueAsString(hotelDTO.getImages()));
-                } else {
-                    hotel.setImages("[\"https://images.unsplash.com/photo-1566073771259-6a8506099945?w=800&q=60\"]");
-                }
-            } catch (Exception e) {
-                log.error("Error serializing hotel JSON fields", e);
-                // Set fallback default image
-                hotel.setImages("[\"https://images.unsplash.com/photo-1566073771259-6a8506099945?w=800&q=60\"]");
-            }
+            // Amenity flags, and a default image if none provided
+            hotel.setWifi(hotelDTO.isWifi());
+            hotel.setParking(hotelDTO.isParking());
+            hotel.setGym(hotelDTO.isGym());
+            hotel.setAc(hotelDTO.isAc());
+            hotel.setRestaurant(hotelDTO.isRestaurant());
+            hotel.setRoomService(hotelDTO.isRoomService());
+            hotel.setImages(imagesOrDefault(hotelDTO.getImages()));
 
             // 4. Save
             Hotel savedHotel = hotelRepository.save(hotel);
             log.info("Hotel saved with ID: {}", savedHotel.getId());
+            catalogVersionService.hotelChanged(savedHotel.getId());
 
             // 5. Auto-create location if it doesn't exist
             createLocationIfNotExists(savedHotel.getCity(), savedHotel.getState());
+            locationHotelCountService.hotelAdded(savedHotel.getCity());
 
             return savedHotel;
         } catch (Exception e) {
@@ -220,6 +281,7 @@ public class HotelServiceImpl implements HotelService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Hotel> getHotelsByStatus(String status) {
         try {
             log.info("Getting hotels with status: {}", status);
@@ -239,7 +301,9 @@ public class HotelServiceImpl implements HotelService {
                     .orElseThrow(() -> new ResourceNotFoundException("Hotel not found with ID: " + hotelId));
 
             hotel.setStatus(status);
-            return hotelRepository.save(hotel);
+            Hotel saved = hotelRepository.save(hotel);
+            catalogVersionService.hotelChanged(hotelId);
+            return saved;
         } catch (Exception e) {
             log.error("Error updating hotel status", e);
             throw new RuntimeException("Failed to update hotel status", e);
@@ -247,6 +311,7 @@ public class HotelServiceImpl implements HotelService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<com.hotel.dtos.DestinationDTO> getPopularDestinations(String type) {
         try {
             List<Hotel> allHotels = hotelRepository.findByStatus("APPROVED");
@@ -271,29 +336,12 @@ public class HotelServiceImpl implements HotelService {
                 // Calculate Stats
                 Long count = (long) hotels.size();
                 Double avgRating = hotels.stream().mapToDouble(Hotel::getRating).average().orElse(0.0);
-                // Simplify image picking: take first hotel's first image or default
-                String image = "https://images.unsplash.com/photo-1566073771259-6a8506099945?w=800&q=60"; // fallback
-
-                for (Hotel h : hotels) {
-                    if (h.getImages() != null && h.getImages().length() > 5) { // minimal valid json length
-                        try {
-                            String raw = h.getImages();
-                            if (raw.contains("http")) {
-                                // extremely naive parser: extract first http link
-                                int start = raw.indexOf("http");
-                                int end = raw.indexOf("\"", start);
-                                if (end == -1)
-                                    end = raw.indexOf("'", start);
-                                if (end > start) {
-                                    image = raw.substring(start, end);
-                                    break; // found one
-                                }
-                            }
-                        } catch (Exception e) {
-                            // ignore parse error, use default
-                        }
-                    }
-                }
+                // First hotel with an image, else the default
+                String image = hotels.stream()
+                        .map(Hotel::getPrimaryImageUrl)
+                        .filter(java.util.Objects::nonNull)
+                        .findFirst()
+                        .orElse(DEFAULT_HOTEL_IMAGE);
 
                 Double dummyPrice = avgRating > 0 ? avgRating * 1500 : 3500.0;
 
@@ -330,10 +378,7 @@ public class HotelServiceImpl implements HotelService {
             throw new InvalidInputException("User already exists with this email");
         }
 
-        com.hotel.entities.User user = modelMapper.map(userDTO, com.hotel.entities.User.class);
-
-        // Explicitly set email to prevent ModelMapper corruption
-        user.setEmail(userDTO.getEmail());
+        com.hotel.entities.User user = userMapper.toEntity(userDTO);
 
         user.setUserRole(UserRole.ROLE_HOTEL_MANAGER); // Explicitly set as Manager
         user.setAccountStatus(AccountStatus.ACTIVE);
@@ -344,33 +389,30 @@ public class HotelServiceImpl implements HotelService {
 
         // 2. Create Hotel
         HotelDTO hotelDTO = registrationDTO.getHotel();
-        Hotel hotel = modelMapper.map(hotelDTO, Hotel.class);
+        Hotel hotel = hotelMapper.toEntity(hotelDTO);
 
         hotel.setOwner(savedUser);
         hotel.setStatus("PENDING");
         hotel.setRating(0.0);
         hotel.setRatingCount(0);
 
-        // Handle JSON fields manually
-        try {
-            hotel.setWifi(hotelDTO.isWifi());
-            hotel.setParking(hotelDTO.isParking());
-            hotel.setGym(hotelDTO.isGym());
-            hotel.setAc(hotelDTO.isAc());
-            hotel.setRestaurant(hotelDTO.isRestaurant());
-            hotel.setRoomService(hotelDTO.isRoomService());
-            if (hotelDTO.getImages() != null) {
-                hotel.setImages(objectMapper.writeValueAsString(hotelDTO.getImages()));
-            }
-        } catch (Exception e) {
-            log.error("Error serializing hotel JSON fields", e);
+        hotel.setWifi(hotelDTO.isWifi());
+        hotel.setParking(hotelDTO.isParking());
+        hotel.setGym(hotelDTO.isGym());
+        hotel.setAc(hotelDTO.isAc());
+        hotel.setRestaurant(hotelDTO.isRestaurant());
+        hotel.setRoomService(hotelDTO.isRoomService());
+        if (hotelDTO.getImages() != null) {
+            hotel.setImages(hotelDTO.getImages());
         }
 
         Hotel savedHotel = hotelRepository.save(hotel);
         log.info("Hotel registered with ID: {}", savedHotel.getId());
+        catalogVersionService.hotelChanged(savedHotel.getId());
 
         // Auto-create location
         createLocationIfNotExists(savedHotel.getCity(), savedHotel.getState());
+        locationHotelCountService.hotelAdded(savedHotel.getCity());
 
         return savedHotel;
     }
@@ -388,10 +430,7 @@ public class HotelServiceImpl implements HotelService {
                     "Email already registered. Please use a different email or login to your existing account.");
         }
 
-        com.hotel.entities.User user = modelMapper.map(userDTO, com.hotel.entities.User.class);
-
-        // Explicitly set email to prevent ModelMapper corruption
-        user.setEmail(userDTO.getEmail());
+        com.hotel.entities.User user = userMapper.toEntity(userDTO);
 
         user.setUserRole(UserRole.ROLE_HOTEL_MANAGER); // Explicitly set as Manager
         user.setAccountStatus(AccountStatus.ACTIVE);
@@ -402,7 +441,7 @@ public class HotelServiceImpl implements HotelService {
 
         // 2. Create Hotel
         HotelDTO hotelDTO = registrationDTO.getHotel();
-        Hotel hotel = modelMapper.map(hotelDTO, Hotel.class);
+        Hotel hotel = hotelMapper.toEntity(hotelDTO);
 
         hotel.setOwner(savedUser);
         hotel.setStatus("PENDING"); // Default to PENDING for Admin approval
@@ -429,31 +468,22 @@ public class HotelServiceImpl implements HotelService {
             hotel.setPriceRange("Contact for pricing");
         }
 
-        // Handle JSON fields manually
-        try {
-            hotel.setWifi(hotelDTO.isWifi());
-            hotel.setParking(hotelDTO.isParking());
-            hotel.setGym(hotelDTO.isGym());
-            hotel.setAc(hotelDTO.isAc());
-            hotel.setRestaurant(hotelDTO.isRestaurant());
-            hotel.setRoomService(hotelDTO.isRoomService());
-
-            // Set default images if none provided
-            if (hotelDTO.getImages() != null && !hotelDTO.getImages().isEmpty()) {
-                hotel.setImages(objectMapper.writeValueAsString(hotelDTO.getImages()));
-            } else {
-                hotel.setImages("[\"https://images.unsplash.com/photo-1566073771259-6a8506099945?w=800&q=60\"]");
-            }
-        } catch (Exception e) {
-            log.error("Error serializing hotel JSON fields", e);
-            hotel.setImages("[\"https://images.unsplash.com/photo-1566073771259-6a8506099945?w=800&q=60\"]");
-        }
+        // Amenity flags, and a default image if none provided
+        hotel.setWifi(hotelDTO.isWifi());
+        hotel.setParking(hotelDTO.isParking());
+        hotel.setGym(hotelDTO.isGym());
+        hotel.setAc(hotelDTO.isAc());
+        hotel.setRestaurant(hotelDTO.isRestaurant());
+        hotel.setRoomService(hotelDTO.isRoomService());
+        hotel.setImages(imagesOrDefault(hotelDTO.getImages()));
 
         Hotel savedHotel = hotelRepository.save(hotel);
         log.info("Hotel registered with ID: {}", savedHotel.getId());
+        catalogVersionService.hotelChanged(savedHotel.getId());
 
         // Auto-create location
         createLocationIfNotExists(savedHotel.getCity(), savedHotel.getState());
+        locationHotelCountService.hotelAdded(savedHotel.getCity());
 
         // 3. Generate JWT Token for auto-login
         String token = jwtUtils.generateToken(
@@ -492,4 +522,8 @@ public class HotelServiceImpl implements HotelService {
         }
     }
 
-}
\ No newline at end of file
+
+    private static List<String> imagesOrDefault(List<String> images) {
+        return images != null && !images.isEmpty() ? images : List.of(DEFAULT_HOTEL_IMAGE);
+    }
+}
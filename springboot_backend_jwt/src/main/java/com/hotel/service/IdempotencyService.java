@@ -0,0 +1,261 @@
+package com.hotel.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hotel.custom_exceptions.IdempotencyConflictException;
+import com.hotel.entities.IdempotencyRecord;
+import com.hotel.entities.IdempotencyStatus;
+import com.hotel.repository.IdempotencyRecordRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs a request at most once per Idempotency-Key and replays its response
+ * to retries.
+ *
+ * Completed responses live in the idempotency_keys table (shared by all
+ * instances, survives restarts) with a bounded LRU in front of it, both
+ * expiring after hotel.idempotency.ttl. A duplicate that arrives while the
+ * first request is still running on this instance waits for it and gets the
+ * same response; one running on another instance is seen as the IN_PROGRESS
+ * claim and answered with 409 so the client retries later. Failed requests
+ * store nothing - a retry runs them again.
+ *
+ * Deliberately not @Transactional: the claim must be committed before the
+ * request runs, and the response only after the request's own transaction
+ * has committed.
+ */
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    public record Result<T>(T body, boolean replayed) {
+    }
+
+    private record Completed(String requestHash, String responseBody, LocalDateTime expiresAt) {
+    }
+
+    private record InFlight(String requestHash, CompletableFuture<String> response) {
+    }
+
+    private final IdempotencyRecordRepository repository;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration claimTimeout;
+
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    // Access-ordered LRU; a ReentrantLock rather than a monitor so a waiting virtual thread does not pin its carrier
+    private final Map<String, Completed> completed;
+    private final ReentrantLock completedLock = new ReentrantLock();
+
+    public IdempotencyService(IdempotencyRecordRepository repository, ObjectMapper objectMapper,
+            @Value("${hotel.idempotency.ttl:PT24H}") Duration ttl,
+            @Value("${hotel.idempotency.claim-timeout:PT2M}") Duration claimTimeout,
+            @Value("${hotel.idempotency.cache-size:10000}") int cacheSize) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.claimTimeout = claimTimeout;
+        this.completed = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Completed> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Runs action once for (scope, key) and returns its result, or the stored
+     * result of an earlier run with the same key and request.
+     */
+    public <T> Result<T> execute(String scope, String key, Object request, Class<T> responseType,
+            Supplier<T> action) {
+        String keyHash = sha256(key);
+        String requestHash = sha256(toJson(request));
+        String id = scope + ":" + keyHash;
+
+        while (true) {
+            Completed hit = cached(id);
+            if (hit != null && LocalDateTime.now().isBefore(hit.expiresAt())) {
+                checkSameRequest(hit.requestHash(), requestHash);
+                return new Result<>(fromJson(hit.responseBody(), responseType), true);
+            }
+
+            InFlight mine = new InFlight(requestHash, new CompletableFuture<>());
+            InFlight running = inFlight.putIfAbsent(id, mine);
+            if (running != null) {
+                checkSameRequest(running.requestHash(), requestHash);
+                Optional<String> response = awaitFirst(running);
+                if (response.isPresent()) {
+                    return new Result<>(fromJson(response.get(), responseType), true);
+                }
+                continue; // the first run failed - this request gets to try
+            }
+
+            try {
+                Result<T> result = runOnce(id, scope, keyHash, requestHash, responseType, action);
+                mine.response().complete(toJson(result.body()));
+                return result;
+            } catch (RuntimeException e) {
+                mine.response().completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(id, mine);
+            }
+        }
+    }
+
+    private <T> Result<T> runOnce(String id, String scope, String keyHash, String requestHash,
+            Class<T> responseType, Supplier<T> action) {
+        Optional<IdempotencyRecord> existing = repository.findByScopeAndKeyHash(scope, keyHash);
+        if (existing.isPresent()) {
+            IdempotencyRecord record = existing.get();
+            if (record.isExpired()) {
+                repository.delete(record);
+            } else {
+                checkSameRequest(record.getRequestHash(), requestHash);
+                if (record.getStatus() == IdempotencyStatus.COMPLETED) {
+                    remember(id, record);
+                    return new Result<>(fromJson(record.getResponseBody(), responseType), true);
+                }
+                throw new IdempotencyConflictException("A request with this Idempotency-Key is still in progress");
+            }
+        }
+
+        IdempotencyRecord claim = new IdempotencyRecord();
+        claim.setScope(scope);
+        claim.setKeyHash(keyHash);
+        claim.setRequestHash(requestHash);
+        claim.setStatus(IdempotencyStatus.IN_PROGRESS);
+        claim.setCreatedAt(LocalDateTime.now());
+        claim.setExpiresAt(claim.getCreatedAt().plus(claimTimeout));
+        try {
+            claim = repository.saveAndFlush(claim);
+        } catch (DataIntegrityViolationException e) {
+            // Another instance claimed the key between our read and insert
+            throw new IdempotencyConflictException("A request with this Idempotency-Key is still in progress");
+        }
+
+        T body;
+        try {
+            body = action.get();
+        } catch (RuntimeException e) {
+            repository.delete(claim);
+            throw e;
+        }
+
+        claim.setStatus(IdempotencyStatus.COMPLETED);
+        claim.setResponseBody(toJson(body));
+        claim.setExpiresAt(LocalDateTime.now().plus(ttl));
+        try {
+            repository.save(claim);
+        } catch (RuntimeException e) {
+            // The request itself succeeded; a retry on another instance may run it again
+            log.error("Could not store idempotent response for {}", scope, e);
+        }
+        remember(id, claim);
+        return new Result<>(body, false);
+    }
+
+    private Optional<String> awaitFirst(InFlight running) {
+        try {
+            return Optional.of(running.response().get(claimTimeout.toMillis(), TimeUnit.MILLISECONDS));
+        } catch (ExecutionException e) {
+            return Optional.empty();
+        } catch (TimeoutException e) {
+            throw new IdempotencyConflictException("A request with this Idempotency-Key is still in progress");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyConflictException("Interrupted while waiting for the original request");
+        }
+    }
+
+    private Completed cached(String id) {
+        completedLock.lock();
+        try {
+            return completed.get(id); // get() reorders the access-ordered map, so it needs the lock too
+        } finally {
+            completedLock.unlock();
+        }
+    }
+
+    private void remember(String id, IdempotencyRecord record) {
+        Completed entry = new Completed(record.getRequestHash(), record.getResponseBody(), record.getExpiresAt());
+        completedLock.lock();
+        try {
+            completed.put(id, entry);
+        } finally {
+            completedLock.unlock();
+        }
+    }
+
+    private static void checkSameRequest(String storedHash, String requestHash) {
+        if (!storedHash.equals(requestHash)) {
+            throw new IdempotencyConflictException("Idempotency-Key was already used with a different request");
+        }
+    }
+
+    // Hourly: drop expired keys from the table and the cache
+    @Scheduled(fixedDelayString = "${hotel.idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        completedLock.lock();
+        try {
+            completed.values().removeIf(c -> now.isAfter(c.expiresAt()));
+        } finally {
+            completedLock.unlock();
+        }
+        int removed = repository.deleteExpired(now);
+        if (removed > 0) {
+            log.info("Purged {} expired idempotency keys", removed);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize idempotent request/response", e);
+        }
+    }
+
+    private <T> T fromJson(String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot read stored idempotent response", e);
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
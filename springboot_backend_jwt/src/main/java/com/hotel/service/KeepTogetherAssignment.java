@@ -0,0 +1,49 @@
+package com.hotel.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * For group bookings: the run of free rooms closest together in room-number
+ * order (ideally adjacent rooms). Among equally tight runs the one with the
+ * best combined best-fit cost wins, so groups still avoid fragmenting the
+ * calendar where they can.
+ */
+@Component(KeepTogetherAssignment.NAME)
+public class KeepTogetherAssignment implements RoomAssignmentStrategy {
+
+    public static final String NAME = "keep-together";
+
+    @Override
+    public List<Integer> choose(RoomNightCalendar calendar, int from, int to, List<Integer> candidates, int count) {
+        if (count <= 0) {
+            return List.of(); // no window to slide
+        }
+        long[] cost = new long[candidates.size()];
+        for (int i = 0; i < cost.length; i++) {
+            cost[i] = BestFitAssignment.cost(calendar, candidates.get(i), from, to);
+        }
+
+        // Sliding window of count consecutive candidates; candidates are in room-number order
+        int best = 0;
+        int bestSpread = Integer.MAX_VALUE;
+        long bestCost = Long.MAX_VALUE;
+        long windowCost = 0;
+        for (int end = 0; end < candidates.size(); end++) {
+            windowCost += cost[end];
+            int first = end - count + 1;
+            if (first < 0) {
+                continue;
+            }
+            int spread = candidates.get(end) - candidates.get(first);
+            if (spread < bestSpread || (spread == bestSpread && windowCost < bestCost)) {
+                best = first;
+                bestSpread = spread;
+                bestCost = windowCost;
+            }
+            windowCost -= cost[first];
+        }
+        return candidates.subList(best, best + count);
+    }
+}
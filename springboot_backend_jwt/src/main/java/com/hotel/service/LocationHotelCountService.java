@@ -0,0 +1,94 @@
+package com.hotel.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hotel.entities.Location;
+import com.hotel.repository.HotelRepository;
+import com.hotel.repository.LocationRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maintains Location.hotelCount (all hotels in the city, any status) as
+ * hotels are created, moved or deleted. Locations whose counter has never
+ * been set (null) are filled in by a single UPDATE the next time they are
+ * listed.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class LocationHotelCountService {
+
+    private final LocationRepository locationRepository;
+    private final HotelRepository hotelRepository;
+
+    public void hotelAdded(String city) {
+        adjust(city, 1);
+    }
+
+    public void hotelRemoved(String city) {
+        adjust(city, -1);
+    }
+
+    public void hotelMoved(String oldCity, String newCity) {
+        if (normalize(oldCity).equalsIgnoreCase(normalize(newCity))) {
+            return;
+        }
+        adjust(oldCity, -1);
+        adjust(newCity, 1);
+    }
+
+    private void adjust(String city, int delta) {
+        String key = normalize(city);
+        if (!key.isEmpty()) {
+            locationRepository.adjustHotelCount(key, delta);
+        }
+    }
+
+    /**
+     * Returns the hotel count for each location, back-filling any counter that
+     * is still null. The entity is left untouched: writing the value back
+     * through it could overwrite a count adjusted since.
+     */
+    public Map<Long, Long> hotelCounts(List<Location> locations) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Location loc : locations) {
+            Long count = loc.getHotelCount();
+            if (count == null) {
+                locationRepository.initHotelCount(loc.getId());
+                count = locationRepository.findHotelCount(loc.getId());
+                log.info("Location {} hotel count initialised to {}", loc.getCity(), count);
+            }
+            counts.put(loc.getId(), count);
+        }
+        return counts;
+    }
+
+    /**
+     * Hotel count per city (keys lower-cased) for the given cities, in one
+     * GROUP BY query.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Long> countsByCity(Collection<String> cities) {
+        Map<String, Long> counts = new HashMap<>();
+        List<Object[]> rows = cities.isEmpty() ? List.of() : hotelRepository.countHotelsByCityIn(cities);
+        for (Object[] row : rows) {
+            if (row[0] != null) {
+                counts.merge(normalize((String) row[0]).toLowerCase(), (Long) row[1], Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    private static String normalize(String city) {
+        return city == null ? "" : city.trim();
+    }
+}
@@ -0,0 +1,214 @@
+package com.hotel.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.hotel.dtos.OverbookingReportDTO;
+import com.hotel.entities.RoomType;
+import com.hotel.repository.BookingRepository;
+import com.hotel.repository.OverbookingAllowanceRepository;
+import com.hotel.repository.RoomRepository;
+import com.hotel.repository.RoomTypeRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * How many rooms of a room type may be sold beyond the physical ones.
+ *
+ * Per night the allowance is the highest owner-defined OverbookingAllowance
+ * covering it; nights without one get the forecast allowance
+ * (physical rooms x no-show rate, rounded down) when
+ * hotel.overbooking.use-forecast is on, otherwise none. A stay gets the
+ * smallest allowance of its nights.
+ *
+ * The forecast rate is NO_SHOW / (NO_SHOW + COMPLETED) bookings. Stays become
+ * COMPLETED through the hourly check-out job (RoomOccupancyService
+ * .processExpiredOccupancies) and NO_SHOW only when the owner marks them, so
+ * a hotel that never records no-shows forecasts a rate of 0 and gets no
+ * forecast allowance.
+ *
+ * allowance() is on the availability path and rarely queries: allowances are
+ * held in memory per room type (loaded on first use, reloaded after the
+ * owner changes them on this instance and at least every
+ * hotel.overbooking.cache-ttl for changes made on other instances) and
+ * no-show rates are recomputed from booking history at startup and nightly.
+ */
+@Service
+@Slf4j
+public class OverbookingService {
+
+    private record Window(LocalDate start, LocalDate end, int maxRooms) {
+        boolean covers(LocalDate night) {
+            return !night.isBefore(start) && !night.isAfter(end);
+        }
+    }
+
+    // version = allowance changes of the room type seen when the load started
+    private record Cached(List<Window> windows, long version, long loadedAt) {
+    }
+
+    private final OverbookingAllowanceRepository allowanceRepository;
+    private final BookingRepository bookingRepository;
+    private final RoomTypeRepository roomTypeRepository;
+    private final RoomRepository roomRepository;
+    private final boolean useForecast;
+    private final int forecastDays;
+    private final int minSample;
+    private final long cacheTtlNanos;
+
+    private final ConcurrentMap<Long, Cached> allowances = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Long> versions = new ConcurrentHashMap<>();
+    private volatile Map<Long, Double> noShowRates = Map.of();
+
+    public OverbookingService(OverbookingAllowanceRepository allowanceRepository, BookingRepository bookingRepository,
+            RoomTypeRepository roomTypeRepository, RoomRepository roomRepository,
+            @Value("${hotel.overbooking.use-forecast:false}") boolean useForecast,
+            @Value("${hotel.overbooking.forecast-days:180}") int forecastDays,
+            @Value("${hotel.overbooking.min-sample:20}") int minSample,
+            @Value("${hotel.overbooking.cache-ttl:PT1M}") Duration cacheTtl) {
+        this.allowanceRepository = allowanceRepository;
+        this.bookingRepository = bookingRepository;
+        this.roomTypeRepository = roomTypeRepository;
+        this.roomRepository = roomRepository;
+        this.useForecast = useForecast;
+        this.forecastDays = forecastDays;
+        this.minSample = minSample;
+        this.cacheTtlNanos = cacheTtl.toNanos();
+    }
+
+    /** Rooms that may be sold beyond physicalRooms on every night of [checkIn, checkOut). */
+    public int allowance(Long roomTypeId, LocalDate checkIn, LocalDate checkOut, long physicalRooms) {
+        List<Window> windows = windows(roomTypeId);
+        int fallback = useForecast ? suggestedAllowance(roomTypeId, physicalRooms) : 0;
+        if (windows.isEmpty()) {
+            return fallback;
+        }
+        int min = Integer.MAX_VALUE;
+        for (LocalDate night = checkIn; night.isBefore(checkOut) && min > 0; night = night.plusDays(1)) {
+            int tonight = -1;
+            for (Window window : windows) {
+                if (window.covers(night)) {
+                    tonight = Math.max(tonight, window.maxRooms());
+                }
+            }
+            min = Math.min(min, tonight >= 0 ? tonight : fallback);
+        }
+        return min == Integer.MAX_VALUE ? 0 : min;
+    }
+
+    public double noShowRate(Long roomTypeId) {
+        return noShowRates.getOrDefault(roomTypeId, 0.0);
+    }
+
+    public int suggestedAllowance(Long roomTypeId, long physicalRooms) {
+        return (int) Math.floor(physicalRooms * noShowRate(roomTypeId));
+    }
+
+    /** The owner added or removed an allowance; reloaded once the change is committed. */
+    public void allowancesChanged(Long roomTypeId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    versions.merge(roomTypeId, 1L, Long::sum);
+                }
+            });
+        } else {
+            versions.merge(roomTypeId, 1L, Long::sum);
+        }
+    }
+
+    /*
+     * A load that started before a change may still read the old rows and
+     * finish after it; it is cached under the old version, so the next call
+     * sees the mismatch and loads again instead of keeping the stale windows.
+     */
+    private List<Window> windows(Long roomTypeId) {
+        long version = versions.getOrDefault(roomTypeId, 0L);
+        long now = System.nanoTime();
+        Cached cached = allowances.get(roomTypeId);
+        if (cached != null && cached.version() == version && now - cached.loadedAt() < cacheTtlNanos) {
+            return cached.windows();
+        }
+        List<Window> windows = allowanceRepository.findByRoomTypeIdOrderByStartDate(roomTypeId).stream()
+                .map(a -> new Window(a.getStartDate(), a.getEndDate(), a.getMaxRooms()))
+                .toList();
+        allowances.put(roomTypeId, new Cached(windows, version, now));
+        return windows;
+    }
+
+    // Share of arrivals over the last forecastDays that never showed; room types with
+    // fewer than minSample arrivals are left out (rate 0) rather than guessed
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${hotel.overbooking.forecast-cron:0 20 0 * * *}")
+    public void refreshForecast() {
+        Map<Long, Double> rates = new HashMap<>();
+        for (Object[] row : bookingRepository.countNoShowsByRoomType(LocalDate.now().minusDays(forecastDays))) {
+            long noShows = ((Number) row[1]).longValue();
+            long arrivals = ((Number) row[2]).longValue();
+            if (arrivals >= minSample) {
+                rates.put((Long) row[0], (double) noShows / arrivals);
+            }
+        }
+        noShowRates = Map.copyOf(rates);
+        log.info("No-show forecast refreshed for {} room types", rates.size());
+    }
+
+    /**
+     * Per room type of the hotel: forecast, suggested allowance and the nights
+     * in [from, to) on which sold rooms exceeded physical rooms.
+     */
+    public List<OverbookingReportDTO> report(Long hotelId, LocalDate from, LocalDate to) {
+        int nights = (int) ChronoUnit.DAYS.between(from, to);
+        Map<Long, int[]> shortRooms = new HashMap<>();
+        Map<Long, int[]> shortBookings = new HashMap<>();
+        for (Object[] stay : bookingRepository.findShortStaysByHotel(hotelId, from, to)) {
+            Long roomTypeId = (Long) stay[0];
+            int in = (int) Math.max(0, ChronoUnit.DAYS.between(from, (LocalDate) stay[1]));
+            int out = (int) Math.min(nights, ChronoUnit.DAYS.between(from, (LocalDate) stay[2]));
+            int rooms = (Integer) stay[3];
+            int[] byNight = shortRooms.computeIfAbsent(roomTypeId, id -> new int[nights]);
+            int[] countByNight = shortBookings.computeIfAbsent(roomTypeId, id -> new int[nights]);
+            for (int n = in; n < out; n++) {
+                byNight[n] += rooms;
+                countByNight[n]++;
+            }
+        }
+
+        List<OverbookingReportDTO> report = new ArrayList<>();
+        for (RoomType roomType : roomTypeRepository.findByHotelId(hotelId)) {
+            Long roomTypeId = roomType.getId();
+            long physical = roomRepository.countAvailableRooms(hotelId, roomTypeId);
+
+            List<OverbookingReportDTO.ShortNight> shortNights = new ArrayList<>();
+            int[] byNight = shortRooms.get(roomTypeId);
+            if (byNight != null) {
+                int[] countByNight = shortBookings.get(roomTypeId);
+                for (int n = 0; n < nights; n++) {
+                    if (byNight[n] > 0) {
+                        shortNights.add(new OverbookingReportDTO.ShortNight(from.plusDays(n), byNight[n],
+                                countByNight[n]));
+                    }
+                }
+            }
+            report.add(new OverbookingReportDTO(roomTypeId, roomType.getName(), physical, noShowRate(roomTypeId),
+                    suggestedAllowance(roomTypeId, physical), shortNights));
+        }
+        return report;
+    }
+}
@@ -0,0 +1,20 @@
+package com.hotel.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+public interface PaymentReportService {
+
+    /**
+     * Writes a hotel's payments as CSV straight to the output stream, newest
+     * first. from / to filter on booking date and may be null.
+     */
+    void writeHotelPaymentReport(Long hotelId, LocalDate from, LocalDate to, boolean gzip, OutputStream out)
+            throws IOException;
+
+    /**
+     * Same as {@link #writeHotelPaymentReport} across every hotel (admin export).
+     */
+    void writeAllPaymentsReport(LocalDate from, LocalDate to, boolean gzip, OutputStream out) throws IOException;
+}
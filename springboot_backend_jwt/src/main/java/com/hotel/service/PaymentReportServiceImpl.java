@@ -0,0 +1,110 @@
+package com.hotel.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hotel.entities.Booking;
+import com.hotel.repository.BookingRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * CSV payment exports. Rows are read through a streaming JDBC cursor and
+ * written as they arrive, so memory use is flat no matter how many bookings
+ * the report covers.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentReportServiceImpl implements PaymentReportService {
+
+    private static final String HEADER = "Transaction ID,Guest Name,Email,Check-In,Check-Out,Amount,Method,Status,Date";
+    // Push a chunk to the client every FLUSH_EVERY rows
+    private static final int FLUSH_EVERY = 500;
+
+    private final BookingRepository bookingRepository;
+    private final EntityManager entityManager;
+
+    @Override
+    public void writeHotelPaymentReport(Long hotelId, LocalDate from, LocalDate to, boolean gzip, OutputStream out)
+            throws IOException {
+        try (Stream<Booking> bookings = bookingRepository.streamPaymentsByHotel(hotelId, from, to)) {
+            long rows = write(bookings, false, gzip, out);
+            log.info("Payment report for hotel {} streamed, {} rows", hotelId, rows);
+        }
+    }
+
+    @Override
+    public void writeAllPaymentsReport(LocalDate from, LocalDate to, boolean gzip, OutputStream out)
+            throws IOException {
+        try (Stream<Booking> bookings = bookingRepository.streamAllPayments(from, to)) {
+            long rows = write(bookings, true, gzip, out);
+            log.info("Payment report for all hotels streamed, {} rows", rows);
+        }
+    }
+
+    private long write(Stream<Booking> bookings, boolean includeHotel, boolean gzip, OutputStream out)
+            throws IOException {
+        GZIPOutputStream gzipOut = gzip ? new GZIPOutputStream(out, 8192, true) : null;
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(gzipOut != null ? gzipOut : out, StandardCharsets.UTF_8));
+
+        writer.write(includeHotel ? "Hotel ID,Hotel," + HEADER : HEADER);
+        writer.write('\n');
+
+        long rows = 0;
+        Iterator<Booking> it = bookings.iterator();
+        while (it.hasNext()) {
+            Booking b = it.next();
+            if (includeHotel) {
+                writer.write(b.getHotel().getId() + ",");
+                writer.write(escapeCsv(b.getHotel().getName()) + ",");
+            }
+            writer.write(escapeCsv(b.getTransactionId() != null ? b.getTransactionId() : "N/A") + ",");
+            writer.write(escapeCsv(b.getGuestFirstName() + " " + b.getGuestLastName()) + ",");
+            writer.write(escapeCsv(b.getGuestEmail()) + ",");
+            writer.write(b.getCheckInDate() + ",");
+            writer.write(b.getCheckOutDate() + ",");
+            writer.write(b.getTotalPrice() + ",");
+            writer.write(escapeCsv(b.getPaymentMethod() != null ? b.getPaymentMethod() : "N/A") + ",");
+            writer.write(escapeCsv(b.getPaymentStatus()) + ",");
+            writer.write(b.getBookingDate() + "\n");
+
+            // Written rows are never needed again - keep the persistence context small
+            entityManager.detach(b);
+            if (++rows % FLUSH_EVERY == 0) {
+                writer.flush();
+            }
+        }
+
+        writer.flush();
+        if (gzipOut != null) {
+            gzipOut.finish();
+        }
+        out.flush();
+        return rows;
+    }
+
+    private String escapeCsv(String field) {
+        if (field == null)
+            return "";
+        if (field.contains(",") || field.contains("\"") || field.contains("\n")) {
+            return "\"" + field.replace("\"", "\"\"") + "\"";
+        }
+        return field;
+    }
+}
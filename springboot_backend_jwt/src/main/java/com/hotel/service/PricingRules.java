@@ -0,0 +1,88 @@
+package com.hotel.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.hotel.entities.RateSeason;
+
+/**
+ * Nightly price of a room type:
+ *
+ * base x season multiplier x weekend uplift x occupancy surge
+ *
+ * Only RateCalendarService calls this, when it (re)builds a calendar - quotes
+ * read the precomputed result and never evaluate rules.
+ */
+@Component
+public class PricingRules {
+
+    private record SurgeTier(double occupancy, BigDecimal multiplier) {
+    }
+
+    private final BigDecimal weekendMultiplier;
+    private final Set<DayOfWeek> weekendNights;
+    private final List<SurgeTier> surgeTiers; // highest threshold first
+
+    public PricingRules(@Value("${hotel.pricing.weekend-uplift:0.15}") BigDecimal weekendUplift,
+            @Value("${hotel.pricing.weekend-nights:FRIDAY,SATURDAY}") Set<DayOfWeek> weekendNights,
+            @Value("${hotel.pricing.surge-tiers:0.7:1.10,0.9:1.25}") String surgeTiers) {
+        this.weekendMultiplier = BigDecimal.ONE.add(weekendUplift);
+        this.weekendNights = weekendNights;
+        this.surgeTiers = parseTiers(surgeTiers);
+    }
+
+    /**
+     * Price in minor units (paise) for one room on the given night.
+     *
+     * @param occupancy share of the room type's rooms already booked that night, 0..1
+     */
+    public long nightlyMinorUnits(BigDecimal basePrice, LocalDate night, List<RateSeason> seasons, double occupancy) {
+        BigDecimal price = basePrice;
+
+        BigDecimal season = null;
+        for (RateSeason s : seasons) {
+            if (s.covers(night) && (season == null || s.getMultiplier().compareTo(season) > 0)) {
+                season = s.getMultiplier();
+            }
+        }
+        if (season != null) {
+            price = price.multiply(season);
+        }
+        if (weekendNights.contains(night.getDayOfWeek())) {
+            price = price.multiply(weekendMultiplier);
+        }
+        for (SurgeTier tier : surgeTiers) {
+            if (occupancy >= tier.occupancy()) {
+                price = price.multiply(tier.multiplier());
+                break;
+            }
+        }
+        return price.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    // "0.7:1.10,0.9:1.25" - from 70% occupancy +10%, from 90% +25%
+    private static List<SurgeTier> parseTiers(String spec) {
+        if (spec == null || spec.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(spec.split(","))
+                .map(String::trim)
+                .map(tier -> {
+                    String[] parts = tier.split(":");
+                    if (parts.length != 2) {
+                        throw new IllegalArgumentException("Bad hotel.pricing.surge-tiers entry: " + tier);
+                    }
+                    return new SurgeTier(Double.parseDouble(parts[0]), new BigDecimal(parts[1]));
+                })
+                .sorted((a, b) -> Double.compare(b.occupancy(), a.occupancy()))
+                .toList();
+    }
+}
@@ -0,0 +1,397 @@
+package com.hotel.service;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.hotel.entities.RateSeason;
+import com.hotel.entities.RoomType;
+import com.hotel.repository.HotelRepository;
+import com.hotel.repository.RateSeasonRepository;
+import com.hotel.repository.RoomOccupancyRepository;
+import com.hotel.repository.RoomRepository;
+import com.hotel.repository.RoomTypeRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-night prices for every room type, precomputed from PricingRules over a
+ * rolling horizon (hotel.pricing.horizon-days from today).
+ *
+ * Each room type's calendar is a long[] of prices in paise indexed by night,
+ * held in memory and mirrored to rate_calendar so a restart loads it instead
+ * of recomputing. A quote is a sum over that array - O(nights), no rule
+ * evaluation; nights past the horizon fall back to the base price.
+ *
+ * Changes made through another instance reach rate_calendar through that
+ * instance's rebuild, so a calendar held here is reloaded from the table once
+ * it is older than hotel.pricing.cache-ttl.
+ *
+ * Calendars are immutable and swapped whole. Quotes never write: a calendar
+ * missing from rate_calendar is built in memory and stored by the worker. All
+ * rebuilds run on that one worker thread, after the commit that made them
+ * necessary:
+ * - room type price / season / room inventory change: full rebuild of the
+ *   room type, the owner's request waits for it;
+ * - booking or cancellation: only the nights of the stay, asynchronously;
+ * - just after midnight: everything, so the horizon rolls forward.
+ * The hotel's priceRange (shown in listings) is refreshed from the calendars
+ * after each rebuild.
+ */
+@Service
+@Slf4j
+public class RateCalendarService {
+
+    private static final String UPSERT_RATE = "INSERT INTO rate_calendar (room_type_id, stay_date, price) "
+            + "VALUES (?, ?, ?) ON DUPLICATE KEY UPDATE price = VALUES(price)";
+    private static final int BATCH_SIZE = 500;
+    private static final long OWNER_WAIT_SECONDS = 10;
+
+    // loadedAt (System.nanoTime) is when the prices were last read or built as a whole
+    private record Calendar(LocalDate start, long[] minorUnits, long loadedAt) {
+        long at(LocalDate night) {
+            long i = ChronoUnit.DAYS.between(start, night);
+            return i >= 0 && i < minorUnits.length ? minorUnits[(int) i] : -1;
+        }
+    }
+
+    private final RoomTypeRepository roomTypeRepository;
+    private final RateSeasonRepository rateSeasonRepository;
+    private final RoomOccupancyRepository roomOccupancyRepository;
+    private final RoomRepository roomRepository;
+    private final HotelRepository hotelRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PricingRules pricingRules;
+    private final CatalogVersionService catalogVersionService;
+    private final int horizonDays;
+    private final int priceRangeDays;
+    private final long cacheTtlNanos;
+
+    private final ConcurrentMap<Long, Calendar> calendars = new ConcurrentHashMap<>();
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "rate-calendar");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public RateCalendarService(RoomTypeRepository roomTypeRepository, RateSeasonRepository rateSeasonRepository,
+            RoomOccupancyRepository roomOccupancyRepository, RoomRepository roomRepository,
+            HotelRepository hotelRepository, JdbcTemplate jdbcTemplate, PricingRules pricingRules,
+            CatalogVersionService catalogVersionService,
+            @Value("${hotel.pricing.horizon-days:365}") int horizonDays,
+            @Value("${hotel.pricing.price-range-days:30}") int priceRangeDays,
+            @Value("${hotel.pricing.cache-ttl:PT1M}") Duration cacheTtl) {
+        this.roomTypeRepository = roomTypeRepository;
+        this.rateSeasonRepository = rateSeasonRepository;
+        this.roomOccupancyRepository = roomOccupancyRepository;
+        this.roomRepository = roomRepository;
+        this.hotelRepository = hotelRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.pricingRules = pricingRules;
+        this.catalogVersionService = catalogVersionService;
+        this.horizonDays = horizonDays;
+        this.priceRangeDays = priceRangeDays;
+        this.cacheTtlNanos = cacheTtl.toNanos();
+    }
+
+    // ---- quotes (hot path) ----
+
+    /** Price of one room for the stay, check-out night excluded. */
+    public BigDecimal quote(RoomType roomType, LocalDate checkIn, LocalDate checkOut) {
+        Calendar calendar = calendar(roomType);
+        long base = toMinorUnits(roomType.getPricePerNight());
+        long total = 0;
+        for (LocalDate night = checkIn; night.isBefore(checkOut); night = night.plusDays(1)) {
+            long price = calendar.at(night);
+            total += price >= 0 ? price : base;
+        }
+        return BigDecimal.valueOf(total, 2);
+    }
+
+    /** Price of one room for each night in [from, to). */
+    public Map<LocalDate, BigDecimal> nightlyRates(RoomType roomType, LocalDate from, LocalDate to) {
+        Calendar calendar = calendar(roomType);
+        long base = toMinorUnits(roomType.getPricePerNight());
+        Map<LocalDate, BigDecimal> rates = new LinkedHashMap<>();
+        for (LocalDate night = from; night.isBefore(to); night = night.plusDays(1)) {
+            long price = calendar.at(night);
+            rates.put(night, BigDecimal.valueOf(price >= 0 ? price : base, 2));
+        }
+        return rates;
+    }
+
+    // ---- change notifications ----
+
+    /** Base price, seasons or rooms of a room type changed. Waits for the rebuild after commit. */
+    public void roomTypeChanged(Long hotelId, Long roomTypeId) {
+        afterCommit(() -> awaitRebuild(worker.submit(() -> {
+            rebuild(roomTypeId);
+            refreshPriceRange(hotelId);
+        })));
+    }
+
+    public void roomTypeRemoved(Long hotelId, Long roomTypeId) {
+        afterCommit(() -> awaitRebuild(worker.submit(() -> {
+            calendars.remove(roomTypeId); // rate_calendar rows go with the room type (ON DELETE CASCADE)
+            refreshPriceRange(hotelId);
+        })));
+    }
+
+    /** Rooms were added, removed or (de)activated - occupancy shares, and so surge prices, moved. */
+    public void roomInventoryChanged(Long hotelId) {
+        afterCommit(() -> worker.execute(() -> {
+            roomTypeRepository.findByHotelId(hotelId).forEach(rt -> rebuild(rt.getId()));
+            refreshPriceRange(hotelId);
+        }));
+    }
+
+    /** A booking was made or cancelled for these nights. Reprices just those nights, asynchronously. */
+    public void occupancyChanged(Long hotelId, Long roomTypeId, LocalDate checkIn, LocalDate checkOut) {
+        afterCommit(() -> worker.execute(() -> {
+            refresh(roomTypeId, checkIn, checkOut);
+            if (checkIn.isBefore(LocalDate.now().plusDays(priceRangeDays))) {
+                refreshPriceRange(hotelId);
+            }
+        }));
+    }
+
+    // Horizon rolls forward a day; stale rows are dropped
+    @Scheduled(cron = "${hotel.pricing.rebuild-cron:0 10 0 * * *}")
+    public void rebuildAll() {
+        worker.execute(() -> {
+            long start = System.nanoTime();
+            List<RoomType> roomTypes = roomTypeRepository.findAll();
+            for (RoomType roomType : roomTypes) {
+                try {
+                    rebuild(roomType.getId());
+                } catch (RuntimeException e) {
+                    log.error("Rate calendar rebuild failed for room type {}", roomType.getId(), e);
+                }
+            }
+            roomTypes.stream().map(rt -> rt.getHotel().getId()).distinct().forEach(this::refreshPriceRange);
+            jdbcTemplate.update("DELETE FROM rate_calendar WHERE stay_date < ?", Date.valueOf(LocalDate.now()));
+            log.info("Rebuilt {} rate calendars in {} ms", roomTypes.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    // ---- building ----
+
+    // In memory while younger than the TTL, else from rate_calendar with any missing nights
+    // (new room type, or the days between midnight and the nightly rebuild) built now.
+    // Callers may be read-only transactions or hold the room-type lock, so nothing is
+    // written here: the missing nights are stored by the worker.
+    private Calendar calendar(RoomType roomType) {
+        Long roomTypeId = roomType.getId();
+        Calendar cached = calendars.get(roomTypeId);
+        long now = System.nanoTime();
+        if (cached != null && now - cached.loadedAt() < cacheTtlNanos) {
+            return cached;
+        }
+        LocalDate today = LocalDate.now();
+        long[] minorUnits = load(roomTypeId, today);
+        int missing = 0;
+        while (missing < horizonDays && minorUnits[missing] >= 0) {
+            missing++;
+        }
+        if (missing < horizonDays) {
+            // Usually just the tail of the horizon; build from the first gap to the end
+            Calendar part = build(roomType, today.plusDays(missing), horizonDays - missing);
+            System.arraycopy(part.minorUnits(), 0, minorUnits, missing, part.minorUnits().length);
+        }
+        Calendar calendar = new Calendar(today, minorUnits, now);
+        // A rebuild that finished meanwhile is newer - keep it
+        boolean installed = cached == null ? calendars.putIfAbsent(roomTypeId, calendar) == null
+                : calendars.replace(roomTypeId, cached, calendar);
+        if (!installed) {
+            return calendars.getOrDefault(roomTypeId, calendar);
+        }
+        if (missing < horizonDays) {
+            worker.execute(() -> store(roomTypeId));
+        }
+        return calendar;
+    }
+
+    // Stored prices for [today, today + horizonDays), -1 where there is no row
+    private long[] load(Long roomTypeId, LocalDate today) {
+        long[] minorUnits = new long[horizonDays];
+        Arrays.fill(minorUnits, -1);
+        jdbcTemplate.query("SELECT stay_date, price FROM rate_calendar WHERE room_type_id = ? "
+                + "AND stay_date >= ? AND stay_date < ?", rs -> {
+                    long i = ChronoUnit.DAYS.between(today, rs.getDate(1).toLocalDate());
+                    minorUnits[(int) i] = toMinorUnits(rs.getBigDecimal(2));
+                }, roomTypeId, Date.valueOf(today), Date.valueOf(today.plusDays(horizonDays)));
+        return minorUnits;
+    }
+
+    // Worker thread only: write what is in memory now, which is never older than what
+    // was queued - a rebuild that ran in between already replaced it
+    private void store(Long roomTypeId) {
+        Calendar calendar = calendars.get(roomTypeId);
+        if (calendar != null) {
+            persist(roomTypeId, calendar.start(), calendar.minorUnits());
+        }
+    }
+
+    // Worker thread only
+    private void rebuild(Long roomTypeId) {
+        roomTypeRepository.findById(roomTypeId).ifPresentOrElse(roomType -> {
+            Calendar calendar = build(roomType, LocalDate.now(), horizonDays);
+            persist(roomTypeId, calendar.start(), calendar.minorUnits());
+            calendars.put(roomTypeId, calendar);
+        }, () -> calendars.remove(roomTypeId));
+    }
+
+    // Worker thread only: reprice [from, to) in the table and, if loaded, in memory
+    private void refresh(Long roomTypeId, LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now();
+        LocalDate start = from.isBefore(today) ? today : from;
+        LocalDate end = to.isAfter(today.plusDays(horizonDays)) ? today.plusDays(horizonDays) : to;
+        if (!start.isBefore(end)) {
+            return;
+        }
+        RoomType roomType = roomTypeRepository.findById(roomTypeId).orElse(null);
+        if (roomType == null) {
+            calendars.remove(roomTypeId);
+            return;
+        }
+        Calendar part = build(roomType, start, (int) ChronoUnit.DAYS.between(start, end));
+        persist(roomTypeId, part.start(), part.minorUnits());
+
+        Calendar current = calendars.get(roomTypeId);
+        if (current != null) {
+            long[] patched = current.minorUnits().clone();
+            long offset = ChronoUnit.DAYS.between(current.start(), start);
+            for (int i = 0; i < part.minorUnits().length; i++) {
+                long at = offset + i;
+                if (at >= 0 && at < patched.length) {
+                    patched[(int) at] = part.minorUnits()[i];
+                }
+            }
+            calendars.put(roomTypeId, new Calendar(current.start(), patched, current.loadedAt()));
+        }
+    }
+
+    private Calendar build(RoomType roomType, LocalDate start, int nights) {
+        Long roomTypeId = roomType.getId();
+        List<RateSeason> seasons = rateSeasonRepository.findByRoomTypeIdOrderByStartDate(roomTypeId);
+        long totalRooms = roomRepository.countAvailableRooms(roomType.getHotel().getId(), roomTypeId);
+
+        // Booked rooms per night via a difference array: +1 at check-in, -1 at check-out
+        int[] delta = new int[nights + 1];
+        LocalDate end = start.plusDays(nights);
+        for (Object[] stay : roomOccupancyRepository.findActiveStaysByRoomType(roomTypeId, start, end)) {
+            long in = Math.max(0, ChronoUnit.DAYS.between(start, (LocalDate) stay[0]));
+            long out = Math.min(nights, ChronoUnit.DAYS.between(start, (LocalDate) stay[1]));
+            if (in < out) {
+                delta[(int) in]++;
+                delta[(int) out]--;
+            }
+        }
+
+        long[] minorUnits = new long[nights];
+        int booked = 0;
+        for (int i = 0; i < nights; i++) {
+            booked += delta[i];
+            double occupancy = totalRooms > 0 ? (double) booked / totalRooms : 0;
+            minorUnits[i] = pricingRules.nightlyMinorUnits(roomType.getPricePerNight(), start.plusDays(i), seasons,
+                    occupancy);
+        }
+        return new Calendar(start, minorUnits, System.nanoTime());
+    }
+
+    private void persist(Long roomTypeId, LocalDate start, long[] minorUnits) {
+        List<Integer> nights = java.util.stream.IntStream.range(0, minorUnits.length).boxed().toList();
+        jdbcTemplate.batchUpdate(UPSERT_RATE, nights, BATCH_SIZE, (ps, i) -> {
+            ps.setLong(1, roomTypeId);
+            ps.setDate(2, Date.valueOf(start.plusDays(i)));
+            ps.setBigDecimal(3, BigDecimal.valueOf(minorUnits[i], 2));
+        });
+    }
+
+    // Listing price range from the next priceRangeDays of each room type's calendar
+    private void refreshPriceRange(Long hotelId) {
+        LocalDate today = LocalDate.now();
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (RoomType roomType : roomTypeRepository.findByHotelId(hotelId)) {
+            Calendar calendar = calendar(roomType);
+            for (int d = 0; d < priceRangeDays; d++) {
+                long price = calendar.at(today.plusDays(d));
+                if (price < 0) {
+                    price = toMinorUnits(roomType.getPricePerNight());
+                }
+                min = Math.min(min, price);
+                max = Math.max(max, price);
+            }
+        }
+        String range;
+        if (min == Long.MAX_VALUE) {
+            range = "Price not available";
+        } else if (min == max) {
+            range = "₹" + BigDecimal.valueOf(min, 2);
+        } else {
+            range = "₹" + BigDecimal.valueOf(min, 2) + " - ₹" + BigDecimal.valueOf(max, 2);
+        }
+        String current = hotelRepository.findById(hotelId).map(h -> h.getPriceRange()).orElse(null);
+        if (!Objects.equals(current, range) && hotelRepository.updatePriceRange(hotelId, range) > 0) {
+            catalogVersionService.hotelChanged(hotelId);
+        }
+    }
+
+    private static long toMinorUnits(BigDecimal price) {
+        return price.setScale(2, java.math.RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private void awaitRebuild(java.util.concurrent.Future<?> rebuild) {
+        try {
+            rebuild.get(OWNER_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            log.error("Rate calendar rebuild failed", e.getCause());
+        } catch (TimeoutException e) {
+            log.warn("Rate calendar rebuild still running after {} s", OWNER_WAIT_SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -53,6 +53,7 @@ public class RecentlyViewedService {
         }
     }
 
+    @Transactional(readOnly = true)
     public List<Hotel> getRecentlyViewed(String userEmail) {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -1,12 +1,19 @@
 package com.hotel.service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.hotel.custom_exceptions.InvalidInputException;
 import com.hotel.custom_exceptions.ResourceNotFoundException;
 import com.hotel.dtos.ReviewDTO;
+import com.hotel.dtos.ReviewPageDTO;
+import com.hotel.dtos.ReviewResponseDTO;
 import com.hotel.entities.Hotel;
 import com.hotel.entities.Review;
 import com.hotel.entities.User;
@@ -23,9 +30,14 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ReviewService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
     private final HotelRepository hotelRepository;
+    private final CatalogVersionService catalogVersionService;
+    private final HotelRatingService hotelRatingService;
 
     public Review createReview(ReviewDTO reviewDTO, String userEmail) {
         log.info("Creating review for hotel {} by user {}", reviewDTO.getHotelId(), userEmail);
@@ -45,49 +57,62 @@ public class ReviewService {
 
         Review savedReview = reviewRepository.save(review);
 
-        // Update hotel rating after review is submitted
-        updateHotelRating(hotel.getId());
+        // Fold the new review into the hotel's running rating (single UPDATE, no re-scan)
+        hotelRatingService.reviewAdded(hotel.getId(), savedReview.getRating());
+        catalogVersionService.hotelChanged(hotel.getId());
 
         return savedReview;
     }
 
-    private void updateHotelRating(Long hotelId) {
-        log.info("Updating rating for hotel {}", hotelId);
-
-        Double avgRating = reviewRepository.getAverageRatingByHotelId(hotelId);
-        Long reviewCount = reviewRepository.countByHotelId(hotelId);
-
-        Hotel hotel = hotelRepository.findById(hotelId)
-                .orElseThrow(() -> new ResourceNotFoundException("Hotel not found"));
+    @Transactional(readOnly = true)
+    public List<Review> getHotelReviews(Long hotelId) {
+        return reviewRepository.findByHotelIdOrderByCreatedAtDesc(hotelId);
+    }
 
-        hotel.setRating(avgRating != null ? avgRating : 0.0);
-        hotel.setRatingCount(reviewCount.intValue());
-
-        // Set rating text based on average rating
-        if (avgRating != null) {
-            if (avgRating >= 4.5) {
-                hotel.setRatingText("Excellent");
-            } else if (avgRating >= 4.0) {
-                hotel.setRatingText("Very Good");
-            } else if (avgRating >= 3.5) {
-                hotel.setRatingText("Good");
-            } else if (avgRating >= 3.0) {
-                hotel.setRatingText("Average");
-            } else {
-                hotel.setRatingText("Below Average");
-            }
+    /**
+     * One page of a hotel's reviews, newest first. Keyset paginated on
+     * (createdAt, id) so deep pages cost the same as the first one.
+     */
+    @Transactional(readOnly = true)
+    public ReviewPageDTO getHotelReviewPage(Long hotelId, String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // Fetch one extra row to learn whether another page exists
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<ReviewResponseDTO> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = reviewRepository.findFeedFirstPage(hotelId, limit);
         } else {
-            hotel.setRatingText("Not Rated");
+            String[] parts = decodeCursor(cursor);
+            rows = reviewRepository.findFeedAfter(hotelId, LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]), limit);
         }
 
-        hotelRepository.save(hotel);
-        log.info("Hotel {} rating updated to {}", hotelId, avgRating);
+        boolean hasMore = rows.size() > pageSize;
+        List<ReviewResponseDTO> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasMore ? encodeCursor(page.get(page.size() - 1)) : null;
+        return new ReviewPageDTO(page, nextCursor, hasMore);
     }
 
-    public List<Review> getHotelReviews(Long hotelId) {
-        return reviewRepository.findByHotelIdOrderByCreatedAtDesc(hotelId);
+    private static String encodeCursor(ReviewResponseDTO last) {
+        String raw = last.getCreatedAt() + "," + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(",");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException();
+            }
+            LocalDateTime.parse(parts[0]);
+            Long.valueOf(parts[1]);
+            return parts;
+        } catch (RuntimeException e) {
+            throw new InvalidInputException("Invalid review cursor");
+        }
     }
 
+    @Transactional(readOnly = true)
     public List<Review> getUserReviews(String userEmail) {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -0,0 +1,62 @@
+package com.hotel.service;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Picks the configured RoomAssignmentStrategy: hotel.rooms.assignment.strategy
+ * for single-room bookings, hotel.rooms.assignment.group-strategy when a
+ * booking takes several rooms. Values are strategy bean names (first-fit,
+ * best-fit, keep-together).
+ */
+@Component
+@Slf4j
+public class RoomAssigner {
+
+    private final RoomAssignmentStrategy single;
+    private final RoomAssignmentStrategy group;
+    private final int lookaroundDays;
+
+    public RoomAssigner(Map<String, RoomAssignmentStrategy> strategies,
+            @Value("${hotel.rooms.assignment.strategy:" + BestFitAssignment.NAME + "}") String single,
+            @Value("${hotel.rooms.assignment.group-strategy:" + KeepTogetherAssignment.NAME + "}") String group,
+            @Value("${hotel.rooms.assignment.lookaround-days:30}") int lookaroundDays) {
+        this.single = lookup(strategies, single);
+        this.group = lookup(strategies, group);
+        this.lookaroundDays = lookaroundDays;
+        log.info("Room assignment: {} for single rooms, {} for groups", single, group);
+    }
+
+    /**
+     * Nights either side of a stay loaded into the calendar, so best-fit can
+     * see the free stretch the stay sits in.
+     */
+    public int lookaroundDays() {
+        return lookaroundDays;
+    }
+
+    public List<Integer> choose(RoomNightCalendar calendar, int from, int to, List<Integer> candidates, int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        if (candidates.size() < count) {
+            throw new IllegalStateException("Not enough available rooms for the booking period");
+        }
+        RoomAssignmentStrategy strategy = count > 1 ? group : single;
+        return strategy.choose(calendar, from, to, candidates, count);
+    }
+
+    private static RoomAssignmentStrategy lookup(Map<String, RoomAssignmentStrategy> strategies, String name) {
+        RoomAssignmentStrategy strategy = strategies.get(name);
+        if (strategy == null) {
+            throw new IllegalArgumentException("Unknown room assignment strategy '" + name + "', expected one of "
+                    + strategies.keySet());
+        }
+        return strategy;
+    }
+}
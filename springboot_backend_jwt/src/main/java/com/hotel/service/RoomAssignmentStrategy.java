@@ -0,0 +1,20 @@
+package com.hotel.service;
+
+import java.util.List;
+
+/**
+ * Chooses which physical rooms a booking gets. Implementations are Spring
+ * beans selected by name through hotel.rooms.assignment.* (see RoomAssigner).
+ */
+public interface RoomAssignmentStrategy {
+
+    /**
+     * @param calendar  booked nights of every room of the type
+     * @param from      first night of the stay (calendar index)
+     * @param to        check-out night (calendar index, exclusive)
+     * @param candidates free rooms for the stay (calendar indexes, room-number order)
+     * @param count     rooms wanted, at most candidates.size()
+     * @return calendar indexes of the chosen rooms
+     */
+    List<Integer> choose(RoomNightCalendar calendar, int from, int to, List<Integer> candidates, int count);
+}
@@ -0,0 +1,93 @@
+package com.hotel.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.hotel.repository.RoomHoldRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Expires room holds at their deadline. Each ACTIVE hold sits in a
+ * DelayQueue; a single thread blocks on take() and flips the hold to EXPIRED
+ * when it comes due - no polling job, no table scan. Converted or released
+ * holds are left in the queue and fall out as a no-op update when due.
+ *
+ * The queue is only a timer: availability already ignores holds past
+ * expires_at, so a hold whose entry is lost (crash, other instance) never
+ * blocks inventory. Entries are reloaded from room_holds at startup.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomHoldExpiryQueue {
+
+    private record Expiry(Long holdId, long deadlineNanos) implements Delayed {
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(deadlineNanos, ((Expiry) other).deadlineNanos);
+        }
+    }
+
+    private final RoomHoldRepository roomHoldRepository;
+
+    private final DelayQueue<Expiry> queue = new DelayQueue<>();
+    private Thread worker;
+
+    public void schedule(Long holdId, LocalDateTime expiresAt) {
+        long delayNanos = Math.max(0, Duration.between(LocalDateTime.now(), expiresAt).toNanos());
+        queue.put(new Expiry(holdId, System.nanoTime() + delayNanos));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        int loaded = 0;
+        for (Object[] row : roomHoldRepository.findActiveExpiries()) {
+            schedule((Long) row[0], (LocalDateTime) row[1]);
+            loaded++;
+        }
+        worker = Thread.ofPlatform().name("room-hold-expiry").daemon().start(this::run);
+        log.info("Room hold expiry started with {} active holds", loaded);
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Expiry due;
+            try {
+                due = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                if (roomHoldRepository.expireIfActive(due.holdId()) > 0) {
+                    log.info("Room hold {} expired", due.holdId());
+                }
+            } catch (RuntimeException e) {
+                // Database unavailable - try again shortly rather than leave the row ACTIVE
+                log.warn("Could not expire room hold {}: {}", due.holdId(), e.getMessage());
+                queue.put(new Expiry(due.holdId(), System.nanoTime() + TimeUnit.SECONDS.toNanos(30)));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+}
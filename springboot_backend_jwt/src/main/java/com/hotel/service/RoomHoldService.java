@@ -0,0 +1,20 @@
+package com.hotel.service;
+
+import com.hotel.dtos.ApiResponse;
+import com.hotel.dtos.BookingDTO;
+import com.hotel.dtos.RoomHoldDTO;
+import com.hotel.dtos.RoomHoldResponseDTO;
+import com.hotel.entities.Booking;
+import com.hotel.entities.RoomHold;
+import com.hotel.entities.User;
+
+public interface RoomHoldService {
+    RoomHoldResponseDTO createHold(RoomHoldDTO holdDTO, String userEmail);
+
+    ApiResponse releaseHold(String holdReference, String userEmail);
+
+    // Locks and validates the caller's live hold for this booking request
+    RoomHold claimForBooking(String holdReference, User user, BookingDTO bookingDTO);
+
+    void markConverted(RoomHold hold, Booking booking);
+}
@@ -0,0 +1,154 @@
+package com.hotel.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.hotel.custom_exceptions.ResourceNotFoundException;
+import com.hotel.dtos.ApiResponse;
+import com.hotel.dtos.BookingDTO;
+import com.hotel.dtos.RoomHoldDTO;
+import com.hotel.dtos.RoomHoldResponseDTO;
+import com.hotel.entities.Booking;
+import com.hotel.entities.RoomHold;
+import com.hotel.entities.RoomHoldStatus;
+import com.hotel.entities.RoomType;
+import com.hotel.entities.User;
+import com.hotel.repository.RoomHoldRepository;
+import com.hotel.repository.RoomTypeRepository;
+import com.hotel.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class RoomHoldServiceImpl implements RoomHoldService {
+
+    private final RoomHoldRepository roomHoldRepository;
+    private final RoomTypeRepository roomTypeRepository;
+    private final UserRepository userRepository;
+    private final RoomOccupancyService roomOccupancyService;
+    private final RoomHoldExpiryQueue expiryQueue;
+
+    @Value("${hotel.holds.ttl:PT10M}")
+    private Duration holdTtl;
+
+    @Value("${hotel.holds.max-per-user:5}")
+    private int maxHoldsPerUser;
+
+    @Override
+    public RoomHoldResponseDTO createHold(RoomHoldDTO holdDTO, String userEmail) {
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + userEmail));
+
+        // Same lock as createBooking, so holds and bookings of a room type are checked one at a time
+        RoomType roomType = roomTypeRepository.findByIdForUpdate(holdDTO.getRoomTypeId())
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Room Type not found with ID: " + holdDTO.getRoomTypeId()));
+        if (!roomType.getHotel().getId().equals(holdDTO.getHotelId())) {
+            throw new IllegalArgumentException("Room type does not belong to this hotel");
+        }
+
+        if (holdDTO.getCheckInDate().isBefore(LocalDate.now())) {
+            throw new IllegalArgumentException("Check-in date cannot be in the past");
+        }
+        if (!holdDTO.getCheckOutDate().isAfter(holdDTO.getCheckInDate())) {
+            throw new IllegalArgumentException("Check-out date must be at least one day after check-in date");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (roomHoldRepository.countLiveHoldsByUser(user.getId(), now) >= maxHoldsPerUser) {
+            throw new IllegalStateException("Too many rooms on hold - complete or cancel a checkout first");
+        }
+
+        if (!roomOccupancyService.isRoomTypeAvailable(holdDTO.getHotelId(), holdDTO.getRoomTypeId(),
+                holdDTO.getCheckInDate(), holdDTO.getCheckOutDate(), holdDTO.getRooms())) {
+            throw new IllegalStateException("Selected room type is not available for the chosen dates");
+        }
+
+        RoomHold hold = new RoomHold();
+        hold.setHoldReference("RH-" + UUID.randomUUID().toString().substring(0, 12).toUpperCase());
+        hold.setUser(user);
+        hold.setHotel(roomType.getHotel());
+        hold.setRoomType(roomType);
+        hold.setCheckInDate(holdDTO.getCheckInDate());
+        hold.setCheckOutDate(holdDTO.getCheckOutDate());
+        hold.setRooms(holdDTO.getRooms());
+        hold.setStatus(RoomHoldStatus.ACTIVE);
+        hold.setCreatedAt(now);
+        hold.setExpiresAt(now.plus(holdTtl));
+        RoomHold saved = roomHoldRepository.save(hold);
+
+        afterCommit(() -> expiryQueue.schedule(saved.getId(), saved.getExpiresAt()));
+        log.info("Room hold {} created: {} x room type {} until {}", saved.getHoldReference(), saved.getRooms(),
+                roomType.getId(), saved.getExpiresAt());
+        return toResponse(saved, holdDTO.getHotelId(), holdDTO.getRoomTypeId());
+    }
+
+    @Override
+    public ApiResponse releaseHold(String holdReference, String userEmail) {
+        RoomHold hold = roomHoldRepository.findByHoldReferenceForUpdate(holdReference)
+                .orElseThrow(() -> new ResourceNotFoundException("Hold not found: " + holdReference));
+        if (!hold.getUser().getEmail().equals(userEmail)) {
+            throw new IllegalArgumentException("User not authorized to release this hold");
+        }
+        if (hold.getStatus() == RoomHoldStatus.ACTIVE) {
+            hold.setStatus(RoomHoldStatus.RELEASED);
+        }
+        return new ApiResponse("Success", "Hold released");
+    }
+
+    @Override
+    public RoomHold claimForBooking(String holdReference, User user, BookingDTO bookingDTO) {
+        RoomHold hold = roomHoldRepository.findByHoldReferenceForUpdate(holdReference)
+                .orElseThrow(() -> new ResourceNotFoundException("Hold not found: " + holdReference));
+        if (!hold.getUser().getId().equals(user.getId())) {
+            throw new IllegalArgumentException("User not authorized to use this hold");
+        }
+        if (!hold.isLive()) {
+            throw new IllegalStateException("Room hold has expired - please check availability again");
+        }
+        int rooms = bookingDTO.getRooms() != null ? bookingDTO.getRooms() : 1;
+        if (!hold.getRoomType().getId().equals(bookingDTO.getRoomTypeId())
+                || !hold.getCheckInDate().equals(bookingDTO.getCheckInDate())
+                || !hold.getCheckOutDate().equals(bookingDTO.getCheckOutDate())
+                || hold.getRooms() < rooms) {
+            throw new IllegalArgumentException("Booking does not match the held room type, dates or rooms");
+        }
+        return hold;
+    }
+
+    @Override
+    public void markConverted(RoomHold hold, Booking booking) {
+        hold.setStatus(RoomHoldStatus.CONVERTED);
+        hold.setBookingId(booking.getId());
+    }
+
+    private static RoomHoldResponseDTO toResponse(RoomHold hold, Long hotelId, Long roomTypeId) {
+        return new RoomHoldResponseDTO(hold.getHoldReference(), hotelId, roomTypeId, hold.getCheckInDate(),
+                hold.getCheckOutDate(), hold.getRooms(), hold.getStatus().name(), hold.getExpiresAt());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
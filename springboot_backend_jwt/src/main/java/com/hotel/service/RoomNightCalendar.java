@@ -0,0 +1,106 @@
+package com.hotel.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.hotel.entities.Room;
+
+/**
+ * Booked nights of each room of one room type over a window of dates, one
+ * BitSet per room (bit i = night start + i is taken). Rooms are ordered by
+ * room number so neighbouring indexes are neighbouring rooms.
+ *
+ * Built per assignment by RoomOccupancyServiceImpl from a single query and
+ * read by the RoomAssignmentStrategy implementations; not shared.
+ */
+public final class RoomNightCalendar {
+
+    // "101" < "102" < "1001"; non-numeric numbers fall back to text order after the numeric ones
+    public static final Comparator<Room> BY_ROOM_NUMBER = Comparator
+            .comparing((Room r) -> numericPart(r.getRoomNumber()))
+            .thenComparing(Room::getRoomNumber);
+
+    private final LocalDate start;
+    private final int length;
+    private final List<Room> rooms;
+    private final BitSet[] booked;
+    private final Map<Long, Integer> indexById = new HashMap<>();
+
+    public RoomNightCalendar(LocalDate start, LocalDate end, List<Room> rooms) {
+        this.start = start;
+        this.length = (int) ChronoUnit.DAYS.between(start, end);
+        this.rooms = new ArrayList<>(rooms);
+        this.rooms.sort(BY_ROOM_NUMBER);
+        this.booked = new BitSet[this.rooms.size()];
+        for (int i = 0; i < booked.length; i++) {
+            booked[i] = new BitSet(length);
+            indexById.put(this.rooms.get(i).getId(), i);
+        }
+    }
+
+    /** Marks [checkIn, checkOut) taken for the room; parts outside the window and unknown rooms are ignored. */
+    public void book(Long roomId, LocalDate checkIn, LocalDate checkOut) {
+        Integer room = indexById.get(roomId);
+        if (room == null) {
+            return; // inactive room
+        }
+        int from = Math.max(0, night(checkIn));
+        int to = Math.min(length, night(checkOut));
+        if (from < to) {
+            booked[room].set(from, to);
+        }
+    }
+
+    public int night(LocalDate date) {
+        return (int) ChronoUnit.DAYS.between(start, date);
+    }
+
+    public int size() {
+        return rooms.size();
+    }
+
+    public Room room(int index) {
+        return rooms.get(index);
+    }
+
+    public boolean isFree(int room, int from, int to) {
+        int next = booked[room].nextSetBit(from);
+        return next < 0 || next >= to;
+    }
+
+    /** Indexes of the rooms free for every night in [from, to), in room-number order. */
+    public List<Integer> freeRooms(int from, int to) {
+        List<Integer> free = new ArrayList<>();
+        for (int i = 0; i < booked.length; i++) {
+            if (isFree(i, from, to)) {
+                free.add(i);
+            }
+        }
+        return free;
+    }
+
+    /** Free nights directly before night from (up to the window start). */
+    public int gapBefore(int room, int from) {
+        return from - (booked[room].previousSetBit(from - 1) + 1);
+    }
+
+    /** Free nights from night to onwards (up to the window end). */
+    public int gapAfter(int room, int to) {
+        int next = booked[room].nextSetBit(to);
+        return (next < 0 ? length : next) - to;
+    }
+
+    private static long numericPart(String roomNumber) {
+        try {
+            return Long.parseLong(roomNumber.trim());
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.hotel.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Expands a room numbering pattern into room numbers. The pattern holds one
+ * {n} placeholder for the running number, optionally zero-padded to a width:
+ * "1{n:2}" from 1 gives 101, 102, ...; "RT5-{n:3}" gives RT5-001, RT5-002, ...
+ */
+public final class RoomNumberPattern {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{n(?::(\\d{1,2}))?\\}");
+    public static final int MAX_ROOMS = 2000;
+
+    private RoomNumberPattern() {
+    }
+
+    public static List<String> expand(String pattern, int start, int count) {
+        if (pattern == null || pattern.isBlank()) {
+            throw new IllegalArgumentException("Room number pattern is required");
+        }
+        Matcher m = PLACEHOLDER.matcher(pattern);
+        if (!m.find()) {
+            throw new IllegalArgumentException("Room number pattern must contain {n} or {n:width}");
+        }
+        int matchStart = m.start();
+        int matchEnd = m.end();
+        String width = m.group(1);
+        if (m.find()) {
+            throw new IllegalArgumentException("Room number pattern must contain exactly one {n}");
+        }
+        if (start < 0 || count < 1 || count > MAX_ROOMS) {
+            throw new IllegalArgumentException("start must be >= 0 and count between 1 and " + MAX_ROOMS);
+        }
+
+        String prefix = pattern.substring(0, matchStart);
+        String suffix = pattern.substring(matchEnd);
+        String numberFormat = width != null ? "%0" + Integer.parseInt(width) + "d" : "%d";
+
+        List<String> numbers = new ArrayList<>(count);
+        for (int i = start; i < start + count; i++) {
+            numbers.add(prefix + String.format(numberFormat, i) + suffix);
+        }
+        return numbers;
+    }
+}
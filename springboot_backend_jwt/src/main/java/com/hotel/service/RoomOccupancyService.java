@@ -9,7 +9,17 @@ import com.hotel.entities.Booking;
 public interface RoomOccupancyService {
     void createRoomOccupancy(Booking booking);
     void cancelRoomOccupancy(Long bookingId);
+    // Moves the booking's occupancy to new dates / room count, touching only what changed.
+    // Call before the booking itself is updated - it still carries the old stay.
+    void modifyRoomOccupancy(Booking booking, LocalDate checkIn, LocalDate checkOut, int rooms);
     boolean isRoomTypeAvailable(Long hotelId, Long roomTypeId, LocalDate checkIn, LocalDate checkOut, Integer roomCount);
+    // Same, but the rooms of excludeHoldId (the caller's own hold) are not counted as taken
+    boolean isRoomTypeAvailable(Long hotelId, Long roomTypeId, LocalDate checkIn, LocalDate checkOut, Integer roomCount,
+            Long excludeHoldId);
+    // Rooms still sellable for the stay: physical + overbooking allowance - occupied - overbooked - held
+    long countSellableRooms(Long hotelId, Long roomTypeId, LocalDate checkIn, LocalDate checkOut, Long excludeHoldId);
+    // countSellableRooms of each single night in [from, to) (index 0 = from), from a fixed number of queries
+    long[] countSellableRoomsByNight(Long hotelId, Long roomTypeId, LocalDate from, LocalDate to);
     List<Room> getAvailableRooms(Long hotelId, Long roomTypeId, LocalDate checkIn, LocalDate checkOut);
     void processExpiredOccupancies();
     Long getOccupiedRoomCount(Long hotelId);
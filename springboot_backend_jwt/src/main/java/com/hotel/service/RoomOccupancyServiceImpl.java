@@ -1,15 +1,23 @@
 package com.hotel.service;
 
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.hotel.dtos.StayRoomsDTO;
 import com.hotel.entities.Room;
 import com.hotel.entities.Booking;
 import com.hotel.entities.RoomOccupancy;
+import com.hotel.repository.RoomHoldRepository;
 import com.hotel.repository.RoomRepository;
 import com.hotel.repository.RoomOccupancyRepository;
 
@@ -22,24 +30,44 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class RoomOccupancyServiceImpl implements RoomOccupancyService {
 
+    private static final String MOVE_OCCUPANCY = "UPDATE room_occupancy SET check_in_date = ?, check_out_date = ?, "
+            + "last_updated = ? WHERE id = ?";
+    private static final String RELEASE_OCCUPANCY = "UPDATE room_occupancy SET status = 'CANCELLED', last_updated = ? "
+            + "WHERE id = ?";
+    private static final String INSERT_OCCUPANCY = "INSERT INTO room_occupancy (room_id, booking_id, check_in_date, "
+            + "check_out_date, status, created_on, last_updated, is_deleted) VALUES (?, ?, ?, ?, 'ACTIVE', ?, ?, false)";
+    private static final String UPDATE_ROOM_STATUS = "UPDATE rooms SET status = ?, last_updated = ? WHERE id = ?";
+    private static final int BATCH_SIZE = 100;
+
+    private record RoomStatusChange(Room room, String status) {
+    }
+
     private final RoomRepository roomRepository;
     private final RoomOccupancyRepository roomOccupancyRepository;
+    private final RoomHoldRepository roomHoldRepository;
+    private final RoomStatusBoardService roomStatusBoardService;
+    private final RateCalendarService rateCalendarService;
+    private final JdbcTemplate jdbcTemplate;
+    private final RoomAssigner roomAssigner;
+    private final OverbookingService overbookingService;
+    private final com.hotel.repository.BookingRepository bookingRepository;
+    private final jakarta.persistence.EntityManager entityManager;
 
     @Override
     public void createRoomOccupancy(Booking booking) {
-        List<Room> availableRooms = getAvailableRooms(
-                booking.getHotel().getId(),
-                booking.getRoomType().getId(),
-                booking.getCheckInDate(),
-                booking.getCheckOutDate());
-
-        if (availableRooms.size() < booking.getRooms()) {
-            throw new IllegalStateException("Not enough available rooms for the booking period");
-        }
+        RoomNightCalendar calendar = loadCalendar(booking.getHotel().getId(), booking.getRoomType().getId(),
+                booking.getCheckInDate(), booking.getCheckOutDate(), null);
+        int from = calendar.night(booking.getCheckInDate());
+        int to = calendar.night(booking.getCheckOutDate());
+        List<Integer> free = calendar.freeRooms(from, to);
+        List<Integer> chosen = roomAssigner.choose(calendar, from, to, free,
+                Math.min(free.size(), booking.getRooms()));
+        // Sold on the overbooking allowance (availability was checked against it); assigned when a room frees up
+        booking.setUnassignedRooms(booking.getRooms() - chosen.size());
 
         // Create occupancy records for required number of rooms
-        for (int i = 0; i < booking.getRooms() && i < availableRooms.size(); i++) {
-            Room room = availableRooms.get(i);
+        for (int index : chosen) {
+            Room room = calendar.room(index);
 
             RoomOccupancy occupancy = new RoomOccupancy();
             occupancy.setRoom(room);
@@ -53,10 +81,15 @@ public class RoomOccupancyServiceImpl implements RoomOccupancyService {
             // Update room status to OCCUPIED
             room.setStatus("OCCUPIED");
             roomRepository.save(room);
+            publishRoom(room);
             
             log.info("Room {} occupied from {} to {} for booking {}",
                     room.getRoomNumber(), booking.getCheckInDate(), booking.getCheckOutDate(), booking.getId());
         }
+        roomStatusBoardService.occupancyChanged(booking.getHotel().getId(), booking.getCheckInDate(),
+                booking.getCheckOutDate());
+        rateCalendarService.occupancyChanged(booking.getHotel().getId(), booking.getRoomType().getId(),
+                booking.getCheckInDate(), booking.getCheckOutDate());
     }
 
     @Override
@@ -71,31 +104,214 @@ public class RoomOccupancyServiceImpl implements RoomOccupancyService {
             Room room = occupancy.getRoom();
             room.setStatus("AVAILABLE");
             roomRepository.save(room);
+            publishRoom(room);
+            roomStatusBoardService.occupancyChanged(room.getHotel().getId(), occupancy.getCheckInDate(),
+                    occupancy.getCheckOutDate());
             
             log.info("Room occupancy cancelled for room {} and booking {}",
                     occupancy.getRoom().getRoomNumber(), bookingId);
         }
+        if (!occupancies.isEmpty()) {
+            RoomOccupancy first = occupancies.get(0);
+            Long hotelId = first.getRoom().getHotel().getId();
+            Long roomTypeId = first.getRoom().getRoomType().getId();
+            assignWaitingBookings(hotelId, roomTypeId, first.getCheckInDate(), first.getCheckOutDate(), bookingId);
+            rateCalendarService.occupancyChanged(hotelId, roomTypeId, first.getCheckInDate(),
+                    first.getCheckOutDate());
+        }
+    }
+
+    /*
+     * Each occupancy row is one room for the whole stay, so the delta is:
+     * - rooms the guest already has that are still free for the new dates are
+     *   kept and their dates moved (only the changed nights are released or taken);
+     * - rooms no longer needed, or taken by someone else on a new night, are released;
+     * - the shortfall is filled with other free rooms of the type.
+     * Writes go out as JDBC batches; nothing is written when nothing changed.
+     * The rewritten rows are then detached, so later reads in the caller's
+     * transaction (the booking response) load them again instead of seeing
+     * the stale managed copies. The caller holds the room-type lock, as for a
+     * new booking.
+     */
+    @Override
+    public void modifyRoomOccupancy(Booking booking, LocalDate checkIn, LocalDate checkOut, int rooms) {
+        Long hotelId = booking.getHotel().getId();
+        Long roomTypeId = booking.getRoomType().getId();
+        LocalDate oldCheckIn = booking.getCheckInDate();
+        LocalDate oldCheckOut = booking.getCheckOutDate();
+        boolean datesChanged = !checkIn.equals(oldCheckIn) || !checkOut.equals(oldCheckOut);
+
+        if (!datesChanged && rooms == booking.getRooms()) {
+            return;
+        }
+        List<RoomOccupancy> current = roomOccupancyRepository.findActiveByBookingIdWithRoom(booking.getId());
+
+        // Rooms of the type that are free for the new stay, ignoring this booking's own rows
+        RoomNightCalendar calendar = loadCalendar(hotelId, roomTypeId, checkIn, checkOut, booking.getId());
+        int from = calendar.night(checkIn);
+        int to = calendar.night(checkOut);
+        List<Integer> free = calendar.freeRooms(from, to);
+        long heldRooms = roomHoldRepository.countHeldRooms(roomTypeId, checkIn, checkOut,
+                java.time.LocalDateTime.now(), null);
+        long overbooked = bookingRepository.sumUnassignedRooms(roomTypeId, booking.getId(), checkIn, checkOut);
+        int allowance = overbookingService.allowance(roomTypeId, checkIn, checkOut, calendar.size());
+        if (free.size() + allowance - overbooked - heldRooms < rooms) {
+            throw new IllegalStateException("Not enough available rooms for the new dates");
+        }
+
+        Set<Long> freeIds = free.stream().map(i -> calendar.room(i).getId()).collect(Collectors.toSet());
+        Set<Long> currentIds = new HashSet<>();
+        List<RoomOccupancy> keep = new ArrayList<>();
+        List<RoomOccupancy> release = new ArrayList<>();
+        for (RoomOccupancy occupancy : current) {
+            currentIds.add(occupancy.getRoom().getId());
+            if (keep.size() < rooms && freeIds.contains(occupancy.getRoom().getId())) {
+                keep.add(occupancy);
+            } else {
+                release.add(occupancy);
+            }
+        }
+        List<Integer> others = free.stream()
+                .filter(i -> !currentIds.contains(calendar.room(i).getId()))
+                .toList();
+        List<Room> add = roomAssigner.choose(calendar, from, to, others,
+                Math.min(others.size(), rooms - keep.size())).stream()
+                .map(calendar::room)
+                .toList();
+        booking.setUnassignedRooms(rooms - keep.size() - add.size());
+
+        Timestamp now = Timestamp.valueOf(java.time.LocalDateTime.now());
+        if (datesChanged && !keep.isEmpty()) {
+            jdbcTemplate.batchUpdate(MOVE_OCCUPANCY, keep, BATCH_SIZE, (ps, occupancy) -> {
+                ps.setDate(1, java.sql.Date.valueOf(checkIn));
+                ps.setDate(2, java.sql.Date.valueOf(checkOut));
+                ps.setTimestamp(3, now);
+                ps.setLong(4, occupancy.getId());
+            });
+        }
+        if (!release.isEmpty()) {
+            jdbcTemplate.batchUpdate(RELEASE_OCCUPANCY, release, BATCH_SIZE, (ps, occupancy) -> {
+                ps.setTimestamp(1, now);
+                ps.setLong(2, occupancy.getId());
+            });
+        }
+        if (!add.isEmpty()) {
+            java.sql.Date today = java.sql.Date.valueOf(LocalDate.now());
+            jdbcTemplate.batchUpdate(INSERT_OCCUPANCY, add, BATCH_SIZE, (ps, room) -> {
+                ps.setLong(1, room.getId());
+                ps.setLong(2, booking.getId());
+                ps.setDate(3, java.sql.Date.valueOf(checkIn));
+                ps.setDate(4, java.sql.Date.valueOf(checkOut));
+                ps.setDate(5, today);
+                ps.setTimestamp(6, now);
+            });
+        }
+
+        // Room status follows occupancy as in create/cancel
+        List<RoomStatusChange> statusChanges = new ArrayList<>();
+        release.forEach(o -> statusChanges.add(new RoomStatusChange(o.getRoom(), "AVAILABLE")));
+        add.forEach(room -> statusChanges.add(new RoomStatusChange(room, "OCCUPIED")));
+        if (!statusChanges.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_ROOM_STATUS, statusChanges, BATCH_SIZE, (ps, change) -> {
+                ps.setString(1, change.status());
+                ps.setTimestamp(2, now);
+                ps.setLong(3, change.room().getId());
+            });
+            for (RoomStatusChange change : statusChanges) {
+                Room room = change.room();
+                roomStatusBoardService.roomChanged(hotelId, room.getId(), room.getRoomNumber(), roomTypeId,
+                        change.status(), room.getIsActive());
+                entityManager.detach(room);
+            }
+        }
+        if (datesChanged) {
+            keep.forEach(entityManager::detach);
+        }
+        release.forEach(entityManager::detach);
+
+        LocalDate changedFrom = checkIn.isBefore(oldCheckIn) ? checkIn : oldCheckIn;
+        LocalDate changedTo = checkOut.isAfter(oldCheckOut) ? checkOut : oldCheckOut;
+        if (!release.isEmpty() || datesChanged) {
+            assignWaitingBookings(hotelId, roomTypeId, changedFrom, changedTo, booking.getId());
+        }
+        roomStatusBoardService.occupancyChanged(hotelId, changedFrom, changedTo);
+        rateCalendarService.occupancyChanged(hotelId, roomTypeId, changedFrom, changedTo);
+
+        log.info("Booking {} occupancy modified: {} rooms kept, {} released, {} added",
+                booking.getId(), keep.size(), release.size(), add.size());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean isRoomTypeAvailable(Long hotelId, Long roomTypeId, LocalDate checkIn, LocalDate checkOut,
             Integer roomCount) {
+        return isRoomTypeAvailable(hotelId, roomTypeId, checkIn, checkOut, roomCount, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isRoomTypeAvailable(Long hotelId, Long roomTypeId, LocalDate checkIn, LocalDate checkOut,
+            Integer roomCount, Long excludeHoldId) {
+        return countSellableRooms(hotelId, roomTypeId, checkIn, checkOut, excludeHoldId) >= roomCount;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countSellableRooms(Long hotelId, Long roomTypeId, LocalDate checkIn, LocalDate checkOut,
+            Long excludeHoldId) {
         Long totalRooms = roomRepository.countAvailableRooms(hotelId, roomTypeId);
         Long occupiedRooms = roomOccupancyRepository.countOccupiedRoomsByType(hotelId, roomTypeId, checkIn, checkOut);
+        // Rooms other guests are checking out with count as taken
+        Long heldRooms = roomHoldRepository.countHeldRooms(roomTypeId, checkIn, checkOut,
+                java.time.LocalDateTime.now(), excludeHoldId);
+        // Already sold beyond the physical rooms, and how far beyond they may go (in memory)
+        Long overbookedRooms = bookingRepository.sumUnassignedRooms(roomTypeId, null, checkIn, checkOut);
+        int allowance = overbookingService.allowance(roomTypeId, checkIn, checkOut, totalRooms);
 
-        Long availableRooms = totalRooms - occupiedRooms;
-        return availableRooms >= roomCount;
+        return totalRooms + allowance - occupiedRooms - overbookedRooms - heldRooms;
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public long[] countSellableRoomsByNight(Long hotelId, Long roomTypeId, LocalDate from, LocalDate to) {
+        int nights = (int) Math.max(0, ChronoUnit.DAYS.between(from, to));
+        long totalRooms = roomRepository.countAvailableRooms(hotelId, roomTypeId);
+
+        List<StayRoomsDTO> stays = new ArrayList<>(
+                roomOccupancyRepository.countOccupiedRoomsByStay(hotelId, roomTypeId, from, to));
+        stays.addAll(roomHoldRepository.sumHeldRoomsByStay(roomTypeId, from, to, java.time.LocalDateTime.now()));
+        stays.addAll(bookingRepository.sumUnassignedRoomsByStay(roomTypeId, from, to));
+
+        // Each stay takes its rooms at check-in and gives them back at check-out
+        long[] change = new long[nights + 1];
+        for (StayRoomsDTO stay : stays) {
+            int in = (int) Math.max(0, ChronoUnit.DAYS.between(from, stay.getCheckInDate()));
+            int out = (int) Math.min(nights, ChronoUnit.DAYS.between(from, stay.getCheckOutDate()));
+            change[in] += stay.getRooms();
+            change[out] -= stay.getRooms();
+        }
+
+        long[] sellable = new long[nights];
+        long taken = 0;
+        for (int n = 0; n < nights; n++) {
+            taken += change[n];
+            LocalDate night = from.plusDays(n);
+            int allowance = overbookingService.allowance(roomTypeId, night, night.plusDays(1), totalRooms);
+            sellable[n] = totalRooms + allowance - taken;
+        }
+        return sellable;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<Room> getAvailableRooms(Long hotelId, Long roomTypeId, LocalDate checkIn, LocalDate checkOut) {
         List<Room> allRooms = roomRepository.findAvailableRooms(hotelId, roomTypeId);
         List<RoomOccupancy> overlappingOccupancies = roomOccupancyRepository.findOverlappingOccupancies(
                 hotelId, roomTypeId, checkIn, checkOut);
 
-        List<Long> occupiedRoomIds = overlappingOccupancies.stream()
+        Set<Long> occupiedRoomIds = overlappingOccupancies.stream()
                 .map(ro -> ro.getRoom().getId())
-                .collect(Collectors.toList());
+                .collect(Collectors.toSet());
 
         return allRooms.stream()
                 .filter(room -> !occupiedRoomIds.contains(room.getId()))
@@ -117,13 +333,84 @@ public class RoomOccupancyServiceImpl implements RoomOccupancyService {
             Room room = occupancy.getRoom();
             room.setStatus("AVAILABLE");
             roomRepository.save(room);
+            publishRoom(room);
+            roomStatusBoardService.occupancyChanged(room.getHotel().getId(), occupancy.getCheckInDate(),
+                    occupancy.getCheckOutDate());
             
             log.info("Room occupancy completed for room {} after checkout date",
                     occupancy.getRoom().getRoomNumber());
         }
+
+        // Bookings still CONFIRMED after their check-out were stays; the owner marks no-shows
+        int completed = bookingRepository.completeCheckedOut(today);
+        if (completed > 0) {
+            log.info("{} bookings completed after checkout date", completed);
+        }
+    }
+
+    /*
+     * Rooms freed during [from, to) go to overbooked bookings of the type that
+     * overlap it, earliest arrival first; each gets whatever free rooms cover
+     * its whole stay.
+     */
+    private void assignWaitingBookings(Long hotelId, Long roomTypeId, LocalDate from, LocalDate to,
+            Long excludeBookingId) {
+        for (Booking waiting : bookingRepository.findWaitingForRooms(roomTypeId, from, to, LocalDate.now())) {
+            if (waiting.getId().equals(excludeBookingId)) {
+                continue; // the booking being modified already had every free room offered
+            }
+            RoomNightCalendar calendar = loadCalendar(hotelId, roomTypeId, waiting.getCheckInDate(),
+                    waiting.getCheckOutDate(), null);
+            int stayFrom = calendar.night(waiting.getCheckInDate());
+            int stayTo = calendar.night(waiting.getCheckOutDate());
+            List<Integer> free = calendar.freeRooms(stayFrom, stayTo);
+            if (free.isEmpty()) {
+                continue;
+            }
+            List<Integer> chosen = roomAssigner.choose(calendar, stayFrom, stayTo, free,
+                    Math.min(free.size(), waiting.getUnassignedRooms()));
+            for (int index : chosen) {
+                Room room = calendar.room(index);
+                RoomOccupancy occupancy = new RoomOccupancy();
+                occupancy.setRoom(room);
+                occupancy.setBooking(waiting);
+                occupancy.setCheckInDate(waiting.getCheckInDate());
+                occupancy.setCheckOutDate(waiting.getCheckOutDate());
+                occupancy.setStatus("ACTIVE");
+                roomOccupancyRepository.save(occupancy);
+
+                room.setStatus("OCCUPIED");
+                roomRepository.save(room);
+                publishRoom(room);
+            }
+            waiting.setUnassignedRooms(waiting.getUnassignedRooms() - chosen.size());
+            roomOccupancyRepository.flush(); // the next waiting booking's calendar must see these rooms
+            log.info("Assigned {} room(s) to overbooked booking {}, {} still unassigned", chosen.size(),
+                    waiting.getId(), waiting.getUnassignedRooms());
+        }
+    }
+
+    // Active rooms of the type with their booked nights around the stay, from one occupancy query
+    private RoomNightCalendar loadCalendar(Long hotelId, Long roomTypeId, LocalDate checkIn, LocalDate checkOut,
+            Long excludeBookingId) {
+        LocalDate start = checkIn.minusDays(roomAssigner.lookaroundDays());
+        LocalDate end = checkOut.plusDays(roomAssigner.lookaroundDays());
+        RoomNightCalendar calendar = new RoomNightCalendar(start, end,
+                roomRepository.findAvailableRooms(hotelId, roomTypeId));
+        for (Object[] stay : roomOccupancyRepository.findRoomStays(roomTypeId, excludeBookingId, start, end)) {
+            calendar.book((Long) stay[0], (LocalDate) stay[1], (LocalDate) stay[2]);
+        }
+        return calendar;
+    }
+
+    // Push the room's new state to the live board (no-op when nobody watches the hotel)
+    private void publishRoom(Room room) {
+        roomStatusBoardService.roomChanged(room.getHotel().getId(), room.getId(), room.getRoomNumber(),
+                room.getRoomType().getId(), room.getStatus(), room.getIsActive());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Long getOccupiedRoomCount(Long hotelId) {
         LocalDate today = LocalDate.now();
         return roomOccupancyRepository.countOccupiedRoomsByHotel(hotelId, today, today.plusDays(1));
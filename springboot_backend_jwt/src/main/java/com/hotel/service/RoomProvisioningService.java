@@ -0,0 +1,25 @@
+package com.hotel.service;
+
+import java.util.List;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import com.hotel.dtos.BulkRoomDTO;
+import com.hotel.dtos.BulkRoomResultDTO;
+import com.hotel.dtos.RoomDTO;
+
+public interface RoomProvisioningService {
+
+    /**
+     * Creates or updates (matched by room number) a batch of rooms in one
+     * transaction. Either every row is applied or none is.
+     */
+    BulkRoomResultDTO upsertRooms(Long hotelId, List<RoomDTO> rooms, String ownerEmail);
+
+    BulkRoomResultDTO createFromPattern(Long hotelId, BulkRoomDTO request, String ownerEmail);
+
+    /**
+     * CSV columns: roomNumber,roomTypeId[,isActive][,status] - a header row is optional.
+     */
+    BulkRoomResultDTO importCsv(Long hotelId, MultipartFile file, String ownerEmail);
+}
@@ -0,0 +1,229 @@
+package com.hotel.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.hotel.custom_exceptions.InvalidInputException;
+import com.hotel.dtos.BulkRoomDTO;
+import com.hotel.dtos.BulkRoomResultDTO;
+import com.hotel.dtos.RoomDTO;
+import com.hotel.entities.Hotel;
+import com.hotel.entities.RoomType;
+import com.hotel.repository.RoomTypeRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Bulk room onboarding. Ownership, room types and existing rooms are loaded
+ * once per request; the writes go out as JDBC batches because Room uses
+ * IDENTITY ids, which rules out Hibernate's own insert batching. The hotel's
+ * room types stay locked from the totalRooms check to commit, so concurrent
+ * provisioning (or addRoom) for the same types runs one at a time.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class RoomProvisioningServiceImpl implements RoomProvisioningService {
+
+    private static final Set<String> ROOM_STATUSES = Set.of("AVAILABLE", "OCCUPIED", "MAINTENANCE", "RESERVED");
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_ROOM = "INSERT INTO rooms (room_number, hotel_id, room_type_id, is_active, status, "
+            + "created_on, last_updated, is_deleted) VALUES (?, ?, ?, ?, ?, ?, ?, false)";
+    private static final String UPDATE_ROOM = "UPDATE rooms SET room_type_id = ?, is_active = ?, status = ?, "
+            + "last_updated = ? WHERE id = ?";
+    // Locking read: the latest committed rooms, not this transaction's snapshot
+    private static final String EXISTING_ROOMS = "SELECT id, room_number, room_type_id FROM rooms "
+            + "WHERE hotel_id = ? FOR SHARE";
+
+    private record ExistingRoom(Long id, String roomNumber, Long roomTypeId) {
+    }
+
+    private record RoomUpdate(Long roomId, RoomDTO room) {
+    }
+
+    private final HotelOwnerService hotelOwnerService;
+    private final RoomTypeRepository roomTypeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final RoomStatusBoardService roomStatusBoardService;
+    private final RateCalendarService rateCalendarService;
+
+    @Override
+    public BulkRoomResultDTO createFromPattern(Long hotelId, BulkRoomDTO request, String ownerEmail) {
+        if (request.getRoomTypeId() == null || request.getCount() == null) {
+            throw new InvalidInputException("roomTypeId and count are required");
+        }
+        List<RoomDTO> rooms = new ArrayList<>();
+        for (String number : RoomNumberPattern.expand(request.getPattern(),
+                request.getStart() != null ? request.getStart() : 1, request.getCount())) {
+            RoomDTO room = new RoomDTO();
+            room.setRoomNumber(number);
+            room.setRoomTypeId(request.getRoomTypeId());
+            room.setIsActive(request.getIsActive());
+            room.setStatus(request.getStatus());
+            rooms.add(room);
+        }
+        return upsertRooms(hotelId, rooms, ownerEmail);
+    }
+
+    @Override
+    public BulkRoomResultDTO importCsv(Long hotelId, MultipartFile file, String ownerEmail) {
+        if (file == null || file.isEmpty()) {
+            throw new InvalidInputException("CSV file is required");
+        }
+        List<RoomDTO> rooms = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNo = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (line.isBlank() || (lineNo == 1 && line.toLowerCase().startsWith("roomnumber"))) {
+                    continue;
+                }
+                String[] cols = line.split(",", -1);
+                if (cols.length < 2) {
+                    throw new InvalidInputException("Line " + lineNo + ": expected roomNumber,roomTypeId[,isActive][,status]");
+                }
+                RoomDTO room = new RoomDTO();
+                room.setRoomNumber(cols[0].trim());
+                try {
+                    room.setRoomTypeId(Long.valueOf(cols[1].trim()));
+                } catch (NumberFormatException e) {
+                    throw new InvalidInputException("Line " + lineNo + ": invalid roomTypeId '" + cols[1].trim() + "'");
+                }
+                if (cols.length > 2 && !cols[2].isBlank()) {
+                    room.setIsActive(Boolean.parseBoolean(cols[2].trim()));
+                }
+                if (cols.length > 3 && !cols[3].isBlank()) {
+                    room.setStatus(cols[3].trim());
+                }
+                rooms.add(room);
+            }
+        } catch (IOException e) {
+            throw new InvalidInputException("Could not read CSV file: " + e.getMessage());
+        }
+        return upsertRooms(hotelId, rooms, ownerEmail);
+    }
+
+    @Override
+    public BulkRoomResultDTO upsertRooms(Long hotelId, List<RoomDTO> rooms, String ownerEmail) {
+        // 1. Ownership + approval, once for the whole batch
+        Hotel hotel = hotelOwnerService.getOwnerHotelDetails(hotelId, ownerEmail);
+        if (!"APPROVED".equals(hotel.getStatus())) {
+            throw new IllegalStateException("Cannot add rooms until hotel is approved by admin");
+        }
+        if (rooms == null || rooms.isEmpty()) {
+            throw new InvalidInputException("No rooms to provision");
+        }
+        if (rooms.size() > RoomNumberPattern.MAX_ROOMS) {
+            throw new InvalidInputException("At most " + RoomNumberPattern.MAX_ROOMS + " rooms per request");
+        }
+
+        // 2. Room types (locked until commit) and existing rooms of the hotel, one query each
+        Map<Long, RoomType> roomTypes = new HashMap<>();
+        roomTypeRepository.findByHotelIdForUpdate(hotelId).forEach(rt -> roomTypes.put(rt.getId(), rt));
+
+        Map<String, ExistingRoom> existing = new HashMap<>();
+        Map<Long, Long> countsByType = new HashMap<>();
+        jdbcTemplate.query(EXISTING_ROOMS,
+                (rs, i) -> new ExistingRoom(rs.getLong(1), rs.getString(2), rs.getLong(3)), hotelId)
+                .forEach(room -> {
+                    existing.put(room.roomNumber(), room);
+                    countsByType.merge(room.roomTypeId(), 1L, Long::sum);
+                });
+
+        // 3. Validate rows and work out the per-type counts after the batch
+        List<RoomDTO> inserts = new ArrayList<>();
+        List<RoomUpdate> updates = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (RoomDTO room : rooms) {
+            String number = room.getRoomNumber() != null ? room.getRoomNumber().trim() : "";
+            if (number.isEmpty()) {
+                throw new InvalidInputException("Room number is required");
+            }
+            if (!seen.add(number)) {
+                throw new InvalidInputException("Duplicate room number in request: " + number);
+            }
+            room.setRoomNumber(number);
+            if (room.getRoomTypeId() == null || !roomTypes.containsKey(room.getRoomTypeId())) {
+                throw new IllegalArgumentException("Room type " + room.getRoomTypeId() + " does not belong to this hotel");
+            }
+            String status = room.getStatus() != null ? room.getStatus().toUpperCase() : "AVAILABLE";
+            if (!ROOM_STATUSES.contains(status)) {
+                throw new InvalidInputException("Invalid room status for " + number + ": " + room.getStatus());
+            }
+            room.setStatus(status);
+            if (room.getIsActive() == null) {
+                room.setIsActive(true);
+            }
+
+            ExistingRoom current = existing.get(number);
+            if (current == null) {
+                inserts.add(room);
+                countsByType.merge(room.getRoomTypeId(), 1L, Long::sum);
+            } else {
+                updates.add(new RoomUpdate(current.id(), room));
+                Long oldTypeId = current.roomTypeId();
+                if (!oldTypeId.equals(room.getRoomTypeId())) {
+                    countsByType.merge(oldTypeId, -1L, Long::sum);
+                    countsByType.merge(room.getRoomTypeId(), 1L, Long::sum);
+                }
+            }
+        }
+
+        // 4. totalRooms limit, checked once per room type
+        for (Map.Entry<Long, Long> entry : countsByType.entrySet()) {
+            RoomType type = roomTypes.get(entry.getKey());
+            if (type != null && entry.getValue() > type.getTotalRooms()) {
+                throw new IllegalStateException("Cannot provision rooms. Room type '" + type.getName()
+                        + "' allows maximum " + type.getTotalRooms() + " rooms, this request would make "
+                        + entry.getValue() + ".");
+            }
+        }
+
+        // 5. Batched writes
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        java.sql.Date today = java.sql.Date.valueOf(LocalDate.now());
+        jdbcTemplate.batchUpdate(INSERT_ROOM, inserts, BATCH_SIZE, (ps, room) -> {
+            ps.setString(1, room.getRoomNumber());
+            ps.setLong(2, hotelId);
+            ps.setLong(3, room.getRoomTypeId());
+            ps.setBoolean(4, room.getIsActive());
+            ps.setString(5, room.getStatus());
+            ps.setDate(6, today);
+            ps.setTimestamp(7, now);
+        });
+        jdbcTemplate.batchUpdate(UPDATE_ROOM, updates, BATCH_SIZE, (ps, update) -> {
+            RoomDTO room = update.room();
+            ps.setLong(1, room.getRoomTypeId());
+            ps.setBoolean(2, room.getIsActive());
+            ps.setString(3, room.getStatus());
+            ps.setTimestamp(4, now);
+            ps.setLong(5, update.roomId());
+        });
+
+        roomStatusBoardService.hotelRoomsReloaded(hotelId);
+        rateCalendarService.roomInventoryChanged(hotelId);
+        log.info("Provisioned rooms for hotel {}: {} created, {} updated", hotelId, inserts.size(), updates.size());
+        return new BulkRoomResultDTO(inserts.size(), updates.size());
+    }
+}
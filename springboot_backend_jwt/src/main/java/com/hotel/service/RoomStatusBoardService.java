@@ -0,0 +1,327 @@
+package com.hotel.service;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.hotel.dtos.RoomBoardDTO;
+import com.hotel.dtos.RoomStateDTO;
+import com.hotel.dtos.RoomStatsDTO;
+import com.hotel.repository.RoomOccupancyRepository;
+import com.hotel.repository.RoomRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Live room-status board for owner dashboards, pushed over server-sent events.
+ *
+ * A snapshot of each watched hotel's rooms is kept in memory while it has
+ * subscribers. Room and occupancy writes report their changes here after
+ * commit, and subscribers get "room" and "stats" deltas instead of polling
+ * getRoomStats. All board state is touched only from a single dispatcher
+ * thread, so a slow client never blocks the transaction that made the change.
+ *
+ * The dispatcher never writes to a connection itself: each subscriber has a
+ * bounded outbox drained by its own virtual thread. A client whose outbox
+ * fills up, or whose current write has been stuck for SEND_TIMEOUT_MS, is
+ * dropped (the dashboard reconnects and gets a fresh snapshot), so one slow
+ * or half-open connection never delays the other boards.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RoomStatusBoardService {
+
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L; // clients reconnect after 30 min
+    private static final int OUTBOX_SIZE = 256;
+    private static final long SEND_TIMEOUT_MS = 10_000;
+
+    private static class Board {
+        final Map<Long, RoomStateDTO> rooms = new LinkedHashMap<>();
+        final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        long occupiedToday;
+        LocalDate day;
+    }
+
+    // One open stream. Only its own sender thread calls emitter.send.
+    private final class Subscriber implements Runnable {
+        final Long hotelId;
+        final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> outbox = new ArrayBlockingQueue<>(OUTBOX_SIZE);
+        private volatile boolean closed;
+        private volatile long sendingSince; // 0 while not writing
+
+        Subscriber(Long hotelId, SseEmitter emitter) {
+            this.hotelId = hotelId;
+            this.emitter = emitter;
+        }
+
+        // Dispatcher: false when the client is not keeping up (or already gone)
+        boolean offer(SseEmitter.SseEventBuilder event) {
+            return !closed && outbox.offer(event);
+        }
+
+        boolean isStuck(long now) {
+            long since = sendingSince;
+            return since != 0 && now - since > SEND_TIMEOUT_MS;
+        }
+
+        void close() {
+            closed = true;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!closed) {
+                    SseEmitter.SseEventBuilder event = outbox.poll(1, TimeUnit.SECONDS);
+                    if (event != null) {
+                        sendingSince = System.currentTimeMillis();
+                        emitter.send(event);
+                        sendingSince = 0;
+                    }
+                }
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                closed = true;
+                dispatcher.execute(() -> removeSubscriber(hotelId, this));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private final RoomRepository roomRepository;
+    private final RoomOccupancyRepository roomOccupancyRepository;
+
+    private final Map<Long, Board> boards = new java.util.HashMap<>(); // dispatcher thread only
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "room-board");
+        t.setDaemon(true);
+        return t;
+    });
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("room-board-send-", 0).factory());
+
+    /**
+     * Opens an SSE stream for a hotel. The first event ("snapshot") carries
+     * the full board; "room" and "stats" events follow as things change.
+     * Ownership must be checked by the caller.
+     */
+    public SseEmitter subscribe(Long hotelId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        Subscriber subscriber = new Subscriber(hotelId, emitter);
+        Runnable remove = () -> dispatcher.execute(() -> removeSubscriber(hotelId, subscriber));
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        dispatcher.execute(() -> {
+            Board board;
+            try {
+                board = boards.computeIfAbsent(hotelId, this::loadBoard);
+            } catch (RuntimeException e) {
+                log.error("Could not load room board for hotel {}: {}", hotelId, e.getMessage());
+                senders.execute(() -> emitter.completeWithError(e));
+                return;
+            }
+            board.subscribers.add(subscriber);
+            subscriber.offer(SseEmitter.event().name("snapshot")
+                    .data(new RoomBoardDTO(stats(board), new ArrayList<>(board.rooms.values()))));
+            senders.execute(subscriber);
+        });
+        return emitter;
+    }
+
+    /**
+     * A room was created or its status / type / active flag changed.
+     */
+    public void roomChanged(Long hotelId, Long roomId, String roomNumber, Long roomTypeId, String status,
+            Boolean isActive) {
+        afterCommit(() -> {
+            Board board = boards.get(hotelId);
+            if (board == null) {
+                return;
+            }
+            RoomStateDTO state = new RoomStateDTO(roomId, roomNumber, roomTypeId, status, isActive, false);
+            RoomStateDTO previous = board.rooms.put(roomId, state);
+            if (state.equals(previous)) {
+                return;
+            }
+            broadcast(hotelId, board, "room", state);
+            broadcast(hotelId, board, "stats", stats(board));
+        });
+    }
+
+    public void roomRemoved(Long hotelId, Long roomId) {
+        afterCommit(() -> {
+            Board board = boards.get(hotelId);
+            if (board == null) {
+                return;
+            }
+            RoomStateDTO previous = board.rooms.remove(roomId);
+            if (previous == null) {
+                return;
+            }
+            broadcast(hotelId, board, "room", new RoomStateDTO(roomId, previous.getRoomNumber(),
+                    previous.getRoomTypeId(), previous.getStatus(), previous.getIsActive(), true));
+            broadcast(hotelId, board, "stats", stats(board));
+        });
+    }
+
+    /**
+     * An occupancy was created, cancelled or completed. Today's occupied count
+     * is only re-read when the stay covers today.
+     */
+    public void occupancyChanged(Long hotelId, LocalDate checkIn, LocalDate checkOut) {
+        afterCommit(() -> {
+            Board board = boards.get(hotelId);
+            if (board == null) {
+                return;
+            }
+            LocalDate today = LocalDate.now();
+            if (checkIn != null && checkOut != null && (today.isBefore(checkIn) || !today.isBefore(checkOut))) {
+                return;
+            }
+            long before = board.occupiedToday;
+            refreshOccupancy(hotelId, board);
+            if (before != board.occupiedToday) {
+                broadcast(hotelId, board, "stats", stats(board));
+            }
+        });
+    }
+
+    /**
+     * Many rooms changed at once (bulk provisioning) - reload and resend the
+     * whole board.
+     */
+    public void hotelRoomsReloaded(Long hotelId) {
+        afterCommit(() -> {
+            Board board = boards.get(hotelId);
+            if (board == null) {
+                return;
+            }
+            Board fresh = loadBoard(hotelId);
+            fresh.subscribers.addAll(board.subscribers);
+            boards.put(hotelId, fresh);
+            broadcast(hotelId, fresh, "snapshot",
+                    new RoomBoardDTO(stats(fresh), new ArrayList<>(fresh.rooms.values())));
+        });
+    }
+
+    // Keeps idle connections open through proxies, drops connections stuck in a write
+    // and rolls the occupied count over at midnight
+    @Scheduled(fixedDelay = 25000)
+    public void heartbeat() {
+        dispatcher.execute(() -> {
+            LocalDate today = LocalDate.now();
+            long now = System.currentTimeMillis();
+            for (Map.Entry<Long, Board> entry : new ArrayList<>(boards.entrySet())) {
+                Long hotelId = entry.getKey();
+                Board board = entry.getValue();
+                for (Subscriber subscriber : board.subscribers) {
+                    if (subscriber.isStuck(now)) {
+                        log.debug("Dropping room board client for hotel {}: write stuck", hotelId);
+                        removeSubscriber(hotelId, subscriber);
+                    }
+                }
+                if (!today.equals(board.day)) {
+                    refreshOccupancy(hotelId, board);
+                    broadcast(hotelId, board, "stats", stats(board));
+                } else {
+                    for (Subscriber subscriber : board.subscribers) {
+                        if (!subscriber.offer(SseEmitter.event().comment("ping"))) {
+                            removeSubscriber(hotelId, subscriber);
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    private Board loadBoard(Long hotelId) {
+        Board board = new Board();
+        for (RoomStateDTO room : roomRepository.findBoardRowsByHotelId(hotelId)) {
+            board.rooms.put(room.getRoomId(), room);
+        }
+        refreshOccupancy(hotelId, board);
+        log.info("Room board loaded for hotel {}: {} rooms", hotelId, board.rooms.size());
+        return board;
+    }
+
+    private void refreshOccupancy(Long hotelId, Board board) {
+        LocalDate today = LocalDate.now();
+        board.occupiedToday = roomOccupancyRepository.countOccupiedRoomsByHotel(hotelId, today, today.plusDays(1));
+        board.day = today;
+    }
+
+    // Same rules as HotelOwnerServiceImpl.getRoomStats
+    private RoomStatsDTO stats(Board board) {
+        long total = board.rooms.values().stream().filter(r -> Boolean.TRUE.equals(r.getIsActive())).count();
+        long maintenance = board.rooms.values().stream().filter(r -> "MAINTENANCE".equals(r.getStatus())).count();
+        long available = Math.max(0, total - board.occupiedToday - maintenance);
+        return new RoomStatsDTO(total, available, board.occupiedToday, maintenance);
+    }
+
+    private void broadcast(Long hotelId, Board board, String name, Object data) {
+        for (Subscriber subscriber : board.subscribers) {
+            if (!subscriber.offer(SseEmitter.event().name(name).data(data))) {
+                log.debug("Dropping room board client for hotel {}: {} events behind", hotelId, OUTBOX_SIZE);
+                removeSubscriber(hotelId, subscriber);
+            }
+        }
+    }
+
+    // The sender completes the emitter once its current write returns; the
+    // dispatcher never waits on a connection
+    private void removeSubscriber(Long hotelId, Subscriber subscriber) {
+        subscriber.close();
+        Board board = boards.get(hotelId);
+        if (board == null) {
+            return;
+        }
+        board.subscribers.remove(subscriber);
+        // Nobody is watching - drop the snapshot instead of keeping it in step
+        if (board.subscribers.isEmpty()) {
+            boards.remove(hotelId);
+            log.debug("Room board for hotel {} released", hotelId);
+        }
+    }
+
+    // Runs the update on the dispatcher once the surrounding transaction commits
+    private void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatcher.execute(update);
+                }
+            });
+        } else {
+            dispatcher.execute(update);
+        }
+    }
+}
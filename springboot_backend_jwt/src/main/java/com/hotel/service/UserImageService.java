@@ -0,0 +1,20 @@
+package com.hotel.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import com.hotel.dtos.ApiResponse;
+import com.hotel.dtos.UserImageMetaDTO;
+
+public interface UserImageService {
+    ApiResponse saveImage(Long userId, MultipartFile file, String requesterEmail);
+
+    ApiResponse deleteImage(Long userId, String requesterEmail);
+
+    UserImageMetaDTO getImageMeta(Long userId);
+
+    // copies bytes [start, start + length) of the avatar described by meta to the stream, chunk by chunk
+    void streamImage(UserImageMetaDTO meta, long start, long length, OutputStream out) throws IOException;
+}
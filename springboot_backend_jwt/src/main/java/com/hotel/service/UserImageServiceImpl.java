@@ -0,0 +1,116 @@
+package com.hotel.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.hotel.custom_exceptions.InvalidInputException;
+import com.hotel.custom_exceptions.ResourceNotFoundException;
+import com.hotel.dtos.ApiResponse;
+import com.hotel.dtos.UserImageMetaDTO;
+import com.hotel.entities.User;
+import com.hotel.entities.UserImage;
+import com.hotel.repository.UserImageRepository;
+import com.hotel.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class UserImageServiceImpl implements UserImageService {
+
+    // 256 KB per round trip keeps memory flat no matter how large the avatar is
+    private static final int CHUNK_SIZE = 256 * 1024;
+
+    private final UserImageRepository userImageRepository;
+    private final UserRepository userRepository;
+
+    @Override
+    public ApiResponse saveImage(Long userId, MultipartFile file, String requesterEmail) {
+        User user = getOwnedUser(userId, requesterEmail);
+
+        if (file == null || file.isEmpty()) {
+            throw new InvalidInputException("Image file is required");
+        }
+        String contentType = file.getContentType();
+        if (contentType == null || !contentType.startsWith("image/")) {
+            throw new InvalidInputException("Only image uploads are allowed");
+        }
+
+        try {
+            // replace without ever loading the old blob
+            userImageRepository.deleteByUserId(userId);
+
+            UserImage image = new UserImage();
+            image.setUser(user);
+            image.setContentType(contentType);
+            image.setSizeBytes(file.getSize());
+            image.setData(file.getBytes());
+            userImageRepository.save(image);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read uploaded image", e);
+        }
+
+        log.info("Image stored for user {} ({} bytes)", userId, file.getSize());
+        return new ApiResponse("Success", "Profile image updated successfully");
+    }
+
+    @Override
+    public ApiResponse deleteImage(Long userId, String requesterEmail) {
+        getOwnedUser(userId, requesterEmail);
+        if (userImageRepository.deleteByUserId(userId) == 0) {
+            throw new ResourceNotFoundException("No image found for user ID: " + userId);
+        }
+        return new ApiResponse("Success", "Profile image removed successfully");
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserImageMetaDTO getImageMeta(Long userId) {
+        return userImageRepository.findMetaByUserId(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("No image found for user ID: " + userId));
+    }
+
+    /*
+     * Runs outside a transaction on purpose: every chunk is a short query, so a
+     * slow client never pins a DB connection for the whole download. Each chunk
+     * is read only from the image version the headers were built from (same
+     * last_updated and size); if the image was replaced or removed in between,
+     * the download is aborted rather than mixing bytes of two images.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void streamImage(UserImageMetaDTO meta, long start, long length, OutputStream out) throws IOException {
+        Long userId = meta.getUserId();
+        long position = start;
+        long end = start + length;
+        while (position < end) {
+            int chunk = (int) Math.min(CHUNK_SIZE, end - position);
+            byte[] bytes = userImageRepository.readChunk(userId, meta.getLastUpdated(), meta.getSizeBytes(),
+                    position + 1, chunk);
+            if (bytes == null || bytes.length == 0) {
+                throw new IOException("Image of user " + userId + " changed while being sent");
+            }
+            out.write(bytes);
+            position += bytes.length;
+        }
+        out.flush();
+    }
+
+    private User getOwnedUser(Long userId, String requesterEmail) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
+        if (!user.getEmail().equals(requesterEmail)) {
+            throw new AccessDeniedException("Not authorized to change this user's image");
+        }
+        return user;
+    }
+}
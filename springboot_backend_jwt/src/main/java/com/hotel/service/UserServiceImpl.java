@@ -6,7 +6,6 @@ import java.util.UUID;
 import java.util.HashMap;
 import java.util.Map;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -40,7 +39,7 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final PasswordResetTokenRepository passwordResetTokenRepository;
-    private final ModelMapper modelMapper;
+    private final com.hotel.mapping.UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtils jwtUtils;
     private final RestTemplate restTemplate;
@@ -52,11 +51,12 @@ public class UserServiceImpl implements UserService {
     private String frontendUrl;
 
     @Override
+    @Transactional(readOnly = true)
     public List<UserDTO> getAllUsers() {
         log.debug("Getting all users");
         return userRepository.findAll()
                 .stream()
-                .map(entity -> modelMapper.map(entity, UserDTO.class))
+                .map(userMapper::toDto)
                 .toList();
     }
 
@@ -69,7 +69,7 @@ public class UserServiceImpl implements UserService {
                 throw new InvalidInputException("User already exists with this email");
             }
 
-            User user = modelMapper.map(dto, User.class);
+            User user = userMapper.toEntity(dto);
             user.setUserRole(UserRole.ROLE_CUSTOMER);
             user.setAccountStatus(AccountStatus.ACTIVE); // Set default account status
 
@@ -77,7 +77,7 @@ public class UserServiceImpl implements UserService {
             user.setPassword(encodedPassword);
 
             User savedUser = userRepository.save(user);
-            return modelMapper.map(savedUser, UserDTO.class);
+            return userMapper.toDto(savedUser);
         } catch (Exception e) {
             log.error("Error registering user: {}", dto.getEmail(), e);
             throw e;
@@ -105,6 +105,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public User getUserDetails(Long userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
@@ -235,6 +236,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public boolean validateResetToken(String token) {
         log.info("Validating reset token");
 
@@ -0,0 +1,39 @@
+-- Avatars move out of users into their own table (UserImage), so loading a User
+-- (login, JWT filter, bookings, reviews) no longer drags the blob along. Databases
+-- that already ran /db/move_user_image_to_user_images.sql by hand have the table
+-- and no users.image column; every step below checks for that first.
+
+CREATE TABLE IF NOT EXISTS user_images (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    created_on DATE,
+    last_updated DATETIME(6),
+    is_deleted BIT,
+    deleted_at DATETIME(6),
+    user_id BIGINT NOT NULL,
+    content_type VARCHAR(100) NOT NULL,
+    size_bytes BIGINT NOT NULL,
+    data LONGBLOB NOT NULL,
+
+    CONSTRAINT uk_user_images_user UNIQUE (user_id),
+    CONSTRAINT fk_user_images_user FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+SET @has_image = (SELECT COUNT(*) FROM information_schema.columns WHERE table_schema = DATABASE()
+        AND table_name = 'users' AND column_name = 'image');
+
+-- Copy existing avatars (content type was never stored, assume JPEG)
+SET @ddl = IF(@has_image = 0,
+    'DO 0',
+    'INSERT INTO user_images (user_id, content_type, size_bytes, data, created_on, last_updated, is_deleted)
+     SELECT u.user_id, ''image/jpeg'', LENGTH(u.image), u.image, CURDATE(), NOW(6), 0
+     FROM users u
+     WHERE u.image IS NOT NULL
+       AND NOT EXISTS (SELECT 1 FROM user_images ui WHERE ui.user_id = u.user_id)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF(@has_image = 0, 'DO 0', 'ALTER TABLE users DROP COLUMN image');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,30 @@
+-- Running star total per hotel (HotelRatingService): a new or deleted review adjusts
+-- rating / rating_count / rating_sum with one UPDATE instead of re-running AVG + COUNT.
+-- The column may already be there from /db/add_hotel_rating_sum.sql.
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns WHERE table_schema = DATABASE()
+        AND table_name = 'hotels' AND column_name = 'rating_sum') > 0,
+    'DO 0',
+    'ALTER TABLE hotels ADD COLUMN rating_sum BIGINT DEFAULT 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Seed the running totals from the reviews that already exist (safe to re-run)
+UPDATE hotels h
+LEFT JOIN (
+    SELECT hotel_id, SUM(rating) AS total, COUNT(*) AS cnt
+    FROM reviews
+    GROUP BY hotel_id
+) r ON r.hotel_id = h.id
+SET h.rating_sum = COALESCE(r.total, 0),
+    h.rating_count = COALESCE(r.cnt, 0),
+    h.rating = CASE WHEN COALESCE(r.cnt, 0) > 0 THEN r.total / r.cnt ELSE 0 END,
+    h.rating_text = CASE
+        WHEN COALESCE(r.cnt, 0) = 0 THEN 'Not Rated'
+        WHEN r.total / r.cnt >= 4.5 THEN 'Excellent'
+        WHEN r.total / r.cnt >= 4.0 THEN 'Very Good'
+        WHEN r.total / r.cnt >= 3.5 THEN 'Good'
+        WHEN r.total / r.cnt >= 3.0 THEN 'Average'
+        ELSE 'Below Average'
+    END;
@@ -0,0 +1,22 @@
+-- Per-hotel review histogram, kept in step with reviews by HotelRatingService so the
+-- owner's review stats no longer load every review. The feed index is in V2.
+
+CREATE TABLE IF NOT EXISTS hotel_review_stats (
+    hotel_id BIGINT PRIMARY KEY,
+    star1 BIGINT NOT NULL DEFAULT 0,
+    star2 BIGINT NOT NULL DEFAULT 0,
+    star3 BIGINT NOT NULL DEFAULT 0,
+    star4 BIGINT NOT NULL DEFAULT 0,
+    star5 BIGINT NOT NULL DEFAULT 0,
+
+    CONSTRAINT fk_hotel_review_stats_hotel FOREIGN KEY (hotel_id) REFERENCES hotels(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Seed from existing reviews (safe to re-run)
+INSERT INTO hotel_review_stats (hotel_id, star1, star2, star3, star4, star5)
+SELECT hotel_id,
+       SUM(rating = 1), SUM(rating = 2), SUM(rating = 3), SUM(rating = 4), SUM(rating = 5)
+FROM reviews
+GROUP BY hotel_id
+ON DUPLICATE KEY UPDATE star1 = VALUES(star1), star2 = VALUES(star2), star3 = VALUES(star3),
+                        star4 = VALUES(star4), star5 = VALUES(star5);
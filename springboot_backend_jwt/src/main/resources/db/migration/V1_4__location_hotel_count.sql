@@ -0,0 +1,37 @@
+-- Location hotel counters (LocationHotelCountService): hotel_count is maintained on hotel
+-- create / move / delete; NULL means "not counted yet". createLocationIfNotExists
+-- relies on city being unique. Any of this may already be there from
+-- /db/add_location_hotel_count.sql.
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns WHERE table_schema = DATABASE()
+        AND table_name = 'locations' AND column_name = 'hotel_count') > 0,
+    'DO 0',
+    'ALTER TABLE locations ADD COLUMN hotel_count BIGINT NULL');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Drop duplicate cities before adding the unique key (keep the oldest row)
+DELETE l1 FROM locations l1
+JOIN locations l2 ON l1.city = l2.city AND l1.id > l2.id;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE()
+        AND table_name = 'locations' AND index_name = 'uk_locations_city') > 0,
+    'DO 0',
+    'ALTER TABLE locations ADD CONSTRAINT uk_locations_city UNIQUE (city)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Per-city hotel counts
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE()
+        AND table_name = 'hotels' AND index_name = 'idx_hotels_city_status') > 0,
+    'DO 0',
+    'CREATE INDEX idx_hotels_city_status ON hotels(city, status)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Seed the counters
+UPDATE locations l
+SET l.hotel_count = (SELECT COUNT(*) FROM hotels h WHERE h.city = l.city);
@@ -0,0 +1,212 @@
+-- Baseline schema: the tables as Hibernate generated them from the entities when
+-- ddl-auto=update still owned the database, before any of the versioned changes
+-- below. Databases created that way are baselined at version 1
+-- (spring.flyway.baseline-on-migrate) and skip this script; empty databases run it.
+-- Everything that changed after that point - including the changes that used to be
+-- hand-applied from /db - is in the V1_1 and later scripts, which both kinds of
+-- database run.
+
+CREATE TABLE users (
+    user_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    created_on DATE,
+    last_updated DATETIME(6),
+    is_deleted BIT,
+    deleted_at DATETIME(6),
+    first_name VARCHAR(30),
+    last_name VARCHAR(30),
+    email VARCHAR(50),
+    password VARCHAR(255) NOT NULL,
+    dob DATE NOT NULL,
+    reg_amount INT,
+    user_role ENUM('ROLE_ADMIN', 'ROLE_CUSTOMER', 'ROLE_HOTEL_MANAGER'),
+    phone VARCHAR(14),
+    address VARCHAR(255) NOT NULL,
+    image LONGBLOB,
+    account_status ENUM('ACTIVE', 'SUSPENDED'),
+
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE password_reset_tokens (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    token VARCHAR(255) NOT NULL,
+    user_id BIGINT NOT NULL,
+    expiry_date DATETIME(6) NOT NULL,
+    used BIT NOT NULL,
+
+    CONSTRAINT uk_password_reset_tokens_token UNIQUE (token),
+    CONSTRAINT fk_password_reset_tokens_user FOREIGN KEY (user_id) REFERENCES users(user_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE locations (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    city VARCHAR(255),
+    state VARCHAR(255),
+    country VARCHAR(255),
+    description VARCHAR(255),
+    added_date DATE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE hotels (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    created_on DATE,
+    last_updated DATETIME(6),
+    is_deleted BIT,
+    deleted_at DATETIME(6),
+    name VARCHAR(255) NOT NULL,
+    description TEXT,
+    city VARCHAR(255) NOT NULL,
+    state VARCHAR(255),
+    address VARCHAR(255) NOT NULL,
+    star_rating INT,
+    rating DOUBLE NOT NULL,
+    rating_count INT,
+    wifi BIT,
+    parking BIT,
+    gym BIT,
+    ac BIT,
+    restaurant BIT,
+    room_service BIT,
+    images JSON,
+    location VARCHAR(255),
+    distance_to_center VARCHAR(255),
+    rating_text VARCHAR(255),
+    status VARCHAR(255),
+    price_range VARCHAR(255),
+    owner_id BIGINT,
+
+    CONSTRAINT fk_hotels_owner FOREIGN KEY (owner_id) REFERENCES users(user_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE room_types (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    created_on DATE,
+    last_updated DATETIME(6),
+    is_deleted BIT,
+    deleted_at DATETIME(6),
+    name VARCHAR(255) NOT NULL,
+    description TEXT,
+    price_per_night DECIMAL(38,2) NOT NULL,
+    capacity INT NOT NULL,
+    total_rooms INT NOT NULL,
+    beds VARCHAR(255),
+    hotel_id BIGINT NOT NULL,
+    amenities JSON,
+    images JSON,
+
+    CONSTRAINT fk_room_types_hotel FOREIGN KEY (hotel_id) REFERENCES hotels(id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE rooms (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    created_on DATE,
+    last_updated DATETIME(6),
+    is_deleted BIT,
+    deleted_at DATETIME(6),
+    room_number VARCHAR(255) NOT NULL,
+    hotel_id BIGINT NOT NULL,
+    room_type_id BIGINT NOT NULL,
+    is_active BIT,
+    status VARCHAR(255),
+
+    CONSTRAINT fk_rooms_hotel FOREIGN KEY (hotel_id) REFERENCES hotels(id),
+    CONSTRAINT fk_rooms_room_type FOREIGN KEY (room_type_id) REFERENCES room_types(id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE bookings (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    created_on DATE,
+    last_updated DATETIME(6),
+    is_deleted BIT,
+    deleted_at DATETIME(6),
+    booking_reference VARCHAR(255),
+    user_id BIGINT NOT NULL,
+    hotel_id BIGINT NOT NULL,
+    room_type_id BIGINT NOT NULL,
+    check_in_date DATE NOT NULL,
+    check_out_date DATE NOT NULL,
+    total_price DECIMAL(38,2) NOT NULL,
+    price_per_night DECIMAL(38,2) NOT NULL,
+    nights INT,
+    base_amount DECIMAL(38,2),
+    status VARCHAR(255) NOT NULL,
+    adults INT,
+    children INT,
+    rooms INT,
+    booking_date DATE,
+    guest_first_name VARCHAR(255),
+    guest_last_name VARCHAR(255),
+    guest_email VARCHAR(255),
+    guest_phone VARCHAR(255),
+    payment_status VARCHAR(255),
+    payment_method VARCHAR(255),
+    transaction_id VARCHAR(255),
+
+    CONSTRAINT uk_bookings_reference UNIQUE (booking_reference),
+    CONSTRAINT fk_bookings_user FOREIGN KEY (user_id) REFERENCES users(user_id),
+    CONSTRAINT fk_bookings_hotel FOREIGN KEY (hotel_id) REFERENCES hotels(id),
+    CONSTRAINT fk_bookings_room_type FOREIGN KEY (room_type_id) REFERENCES room_types(id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE room_occupancy (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    created_on DATE,
+    last_updated DATETIME(6),
+    is_deleted BIT,
+    deleted_at DATETIME(6),
+    room_id BIGINT NOT NULL,
+    booking_id BIGINT NOT NULL,
+    check_in_date DATE NOT NULL,
+    check_out_date DATE NOT NULL,
+    status VARCHAR(255) NOT NULL,
+
+    CONSTRAINT fk_room_occupancy_room FOREIGN KEY (room_id) REFERENCES rooms(id),
+    CONSTRAINT fk_room_occupancy_booking FOREIGN KEY (booking_id) REFERENCES bookings(id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE reviews (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    hotel_id BIGINT NOT NULL,
+    rating INT NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    comment TEXT,
+    created_at DATETIME(6),
+
+    CONSTRAINT fk_reviews_user FOREIGN KEY (user_id) REFERENCES users(user_id),
+    CONSTRAINT fk_reviews_hotel FOREIGN KEY (hotel_id) REFERENCES hotels(id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE complaints (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    created_on DATE,
+    last_updated DATETIME(6),
+    is_deleted BIT,
+    deleted_at DATETIME(6),
+    user_id BIGINT NOT NULL,
+    hotel_id BIGINT NOT NULL,
+    booking_id BIGINT,
+    subject VARCHAR(255) NOT NULL,
+    description TEXT,
+    status ENUM('PENDING', 'IN_PROGRESS', 'RESOLVED') NOT NULL,
+    created_at DATETIME(6),
+    resolved_at DATETIME(6),
+    resolution TEXT,
+    admin_comment TEXT,
+    guest_name VARCHAR(255),
+    guest_email VARCHAR(255),
+
+    CONSTRAINT fk_complaints_user FOREIGN KEY (user_id) REFERENCES users(user_id),
+    CONSTRAINT fk_complaints_hotel FOREIGN KEY (hotel_id) REFERENCES hotels(id),
+    CONSTRAINT fk_complaints_booking FOREIGN KEY (booking_id) REFERENCES bookings(id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE recently_viewed (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    hotel_id BIGINT NOT NULL,
+    viewed_at DATETIME(6),
+
+    CONSTRAINT fk_recently_viewed_user FOREIGN KEY (user_id) REFERENCES users(user_id),
+    CONSTRAINT fk_recently_viewed_hotel FOREIGN KEY (hotel_id) REFERENCES hotels(id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,85 @@
+-- Indexes for the real query paths. Some of these were added by hand on existing
+-- databases (the /db/add_*_index.sql scripts), so each one is only created when an
+-- index of that name is not there yet.
+
+-- Availability / overlap checks: room + ACTIVE + date range
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE()
+        AND table_name = 'room_occupancy' AND index_name = 'idx_occupancy_room_status_dates') > 0,
+    'DO 0',
+    'CREATE INDEX idx_occupancy_room_status_dates ON room_occupancy(room_id, status, check_in_date, check_out_date)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Nightly check-out sweep (RoomOccupancySchedulerService): ACTIVE rows past check-out
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE()
+        AND table_name = 'room_occupancy' AND index_name = 'idx_occupancy_status_checkout') > 0,
+    'DO 0',
+    'CREATE INDEX idx_occupancy_status_checkout ON room_occupancy(status, check_out_date)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- "My bookings"
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE()
+        AND table_name = 'bookings' AND index_name = 'idx_bookings_user') > 0,
+    'DO 0',
+    'CREATE INDEX idx_bookings_user ON bookings(user_id)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Owner payment history / per-hotel export, ordered by booking date
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE()
+        AND table_name = 'bookings' AND index_name = 'idx_bookings_hotel_booking_date') > 0,
+    'DO 0',
+    'CREATE INDEX idx_bookings_hotel_booking_date ON bookings(hotel_id, booking_date, id)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Admin payment export across all hotels
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE()
+        AND table_name = 'bookings' AND index_name = 'idx_bookings_booking_date') > 0,
+    'DO 0',
+    'CREATE INDEX idx_bookings_booking_date ON bookings(booking_date, id)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Listings by approval status, optionally narrowed to a city
+-- (idx_hotels_city_status from V1_4 keeps serving the per-city counts)
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE()
+        AND table_name = 'hotels' AND index_name = 'idx_hotels_status_city') > 0,
+    'DO 0',
+    'CREATE INDEX idx_hotels_status_city ON hotels(status, city)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Keyset review feeds and last-7/30-day counts
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE()
+        AND table_name = 'reviews' AND index_name = 'idx_reviews_hotel_created') > 0,
+    'DO 0',
+    'CREATE INDEX idx_reviews_hotel_created ON reviews(hotel_id, created_at, id)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Owner room list filtered by status
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE()
+        AND table_name = 'rooms' AND index_name = 'idx_rooms_hotel_status') > 0,
+    'DO 0',
+    'CREATE INDEX idx_rooms_hotel_status ON rooms(hotel_id, status, room_number)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- Admin "recent customers / owners"
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE()
+        AND table_name = 'users' AND index_name = 'idx_users_role_id') > 0,
+    'DO 0',
+    'CREATE INDEX idx_users_role_id ON users(user_role, user_id)');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
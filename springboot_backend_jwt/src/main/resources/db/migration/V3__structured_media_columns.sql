@@ -0,0 +1,29 @@
+-- images / amenities are mapped as typed lists now (StringListJsonConverter).
+-- The two columns below are derived from them on every write so list views and
+-- amenity filters never have to parse JSON.
+
+-- First image of the hotel, read by the summary projections. MEDIUMTEXT because the
+-- owner UI uploads images as data: URLs, which are far longer than any VARCHAR
+ALTER TABLE hotels ADD COLUMN primary_image_url MEDIUMTEXT;
+
+UPDATE hotels
+SET primary_image_url = JSON_UNQUOTE(JSON_EXTRACT(images, '$[0]'))
+WHERE JSON_TYPE(images) = 'ARRAY' AND JSON_LENGTH(images) > 0;
+
+-- RoomAmenity bits (bit = enum ordinal); labels are matched the way
+-- RoomAmenity.key() does, case-insensitive and ignoring separators
+ALTER TABLE room_types ADD COLUMN amenity_mask BIGINT NOT NULL DEFAULT 0;
+
+UPDATE room_types
+SET amenity_mask =
+      (JSON_SEARCH(LOWER(amenities), 'one', 'wi%fi') IS NOT NULL)
+    | (JSON_SEARCH(LOWER(amenities), 'one', 'tv') IS NOT NULL) << 1
+    | (JSON_SEARCH(LOWER(amenities), 'one', 'room%service') IS NOT NULL) << 2
+    | (JSON_SEARCH(LOWER(amenities), 'one', 'ac') IS NOT NULL) << 3
+    | (JSON_SEARCH(LOWER(amenities), 'one', 'mini%bar') IS NOT NULL) << 4
+    | (JSON_SEARCH(LOWER(amenities), 'one', 'balcony') IS NOT NULL) << 5
+    | (JSON_SEARCH(LOWER(amenities), 'one', 'bath%tub') IS NOT NULL) << 6
+    | (JSON_SEARCH(LOWER(amenities), 'one', 'work%desk') IS NOT NULL) << 7
+    | (JSON_SEARCH(LOWER(amenities), 'one', 'safe') IS NOT NULL) << 8
+    | (JSON_SEARCH(LOWER(amenities), 'one', 'coffee%maker') IS NOT NULL) << 9
+WHERE JSON_TYPE(amenities) = 'ARRAY';
@@ -0,0 +1,15 @@
+-- Idempotency-Key store for POST /api/bookings (IdempotencyService). One row per
+-- (caller, key); the key itself is stored as a SHA-256 so any client key length fits.
+CREATE TABLE idempotency_keys (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    scope VARCHAR(255) NOT NULL,
+    key_hash VARCHAR(64) NOT NULL,
+    request_hash VARCHAR(64) NOT NULL,
+    status ENUM('IN_PROGRESS', 'COMPLETED') NOT NULL,
+    response_body JSON,
+    created_at DATETIME(6) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+
+    CONSTRAINT uk_idempotency_keys_scope_key UNIQUE (scope, key_hash),
+    INDEX idx_idempotency_keys_expires (expires_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
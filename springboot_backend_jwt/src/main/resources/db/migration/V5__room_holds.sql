@@ -0,0 +1,25 @@
+-- Short-lived checkout holds on room-type inventory (RoomHoldService). ACTIVE rows
+-- whose expires_at has not passed count against availability.
+CREATE TABLE room_holds (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    hold_reference VARCHAR(20) NOT NULL,
+    user_id BIGINT NOT NULL,
+    hotel_id BIGINT NOT NULL,
+    room_type_id BIGINT NOT NULL,
+    check_in_date DATE NOT NULL,
+    check_out_date DATE NOT NULL,
+    rooms INT NOT NULL,
+    status ENUM('ACTIVE', 'CONVERTED', 'RELEASED', 'EXPIRED') NOT NULL,
+    booking_id BIGINT,
+    created_at DATETIME(6) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+
+    CONSTRAINT uk_room_holds_reference UNIQUE (hold_reference),
+    CONSTRAINT fk_room_holds_user FOREIGN KEY (user_id) REFERENCES users(user_id),
+    CONSTRAINT fk_room_holds_hotel FOREIGN KEY (hotel_id) REFERENCES hotels(id),
+    CONSTRAINT fk_room_holds_room_type FOREIGN KEY (room_type_id) REFERENCES room_types(id),
+    CONSTRAINT fk_room_holds_booking FOREIGN KEY (booking_id) REFERENCES bookings(id),
+    -- Held-rooms sum in the availability check
+    INDEX idx_room_holds_type_status_dates (room_type_id, status, check_in_date, check_out_date),
+    INDEX idx_room_holds_user_status (user_id, status)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,23 @@
+-- Dynamic pricing (RateCalendarService). Owners define seasons per room type;
+-- the nightly prices they produce (with weekend uplift and occupancy surge) are
+-- precomputed into rate_calendar, one row per room type and night.
+CREATE TABLE rate_seasons (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    room_type_id BIGINT NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    multiplier DECIMAL(5,3) NOT NULL,
+
+    CONSTRAINT fk_rate_seasons_room_type FOREIGN KEY (room_type_id) REFERENCES room_types(id) ON DELETE CASCADE,
+    INDEX idx_rate_seasons_room_type (room_type_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE rate_calendar (
+    room_type_id BIGINT NOT NULL,
+    stay_date DATE NOT NULL,
+    price DECIMAL(10,2) NOT NULL,
+
+    PRIMARY KEY (room_type_id, stay_date),
+    CONSTRAINT fk_rate_calendar_room_type FOREIGN KEY (room_type_id) REFERENCES room_types(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
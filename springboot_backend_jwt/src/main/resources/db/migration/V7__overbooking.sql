@@ -0,0 +1,20 @@
+-- Overbooking (OverbookingService). Owners allow up to max_rooms bookings per
+-- night beyond the physical rooms of a room type for a date range. Rooms sold
+-- on that allowance have no physical room yet: they are counted in
+-- bookings.unassigned_rooms until a room frees up, and whatever is still
+-- unassigned on the night is a walk-out.
+CREATE TABLE overbooking_allowances (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    room_type_id BIGINT NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    max_rooms INT NOT NULL,
+
+    CONSTRAINT fk_overbooking_allowances_room_type FOREIGN KEY (room_type_id) REFERENCES room_types(id) ON DELETE CASCADE,
+    INDEX idx_overbooking_allowances_room_type (room_type_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+ALTER TABLE bookings ADD COLUMN unassigned_rooms INT NOT NULL DEFAULT 0;
+
+-- Waiting overbooked bookings of a room type, and the walk-out report
+CREATE INDEX idx_bookings_unassigned ON bookings (room_type_id, unassigned_rooms, check_in_date);
@@ -0,0 +1,13 @@
+-- Change counters behind the catalog ETags (CatalogVersionService), shared by every
+-- instance. One row per hotel, bumped in the same transaction as the change; row 0
+-- is the whole catalog (listings, destinations).
+CREATE TABLE catalog_versions (
+    hotel_id BIGINT PRIMARY KEY,
+    version BIGINT NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT INTO catalog_versions (hotel_id, version, updated_at)
+SELECT 0, 1, NOW(6)
+UNION ALL
+SELECT id, 1, NOW(6) FROM hotels;
@@ -0,0 +1,166 @@
+package com.hotel.mapping;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+
+import com.hotel.dtos.HotelDTO;
+import com.hotel.dtos.RoomTypeDTO;
+import com.hotel.dtos.UserDTO;
+import com.hotel.dtos.UserRegDTO;
+import com.hotel.entities.AccountStatus;
+import com.hotel.entities.Hotel;
+import com.hotel.entities.RoomType;
+import com.hotel.entities.User;
+import com.hotel.entities.UserRole;
+
+/**
+ * Hand-written mappers vs the ModelMapper setup they replaced (STRICT,
+ * skip nulls). Not a unit test - run the main method from the IDE or with
+ *
+ * mvn test-compile
+ * java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" com.hotel.mapping.MappingBenchmark
+ *
+ * Reports the first call on a fresh mapper (ModelMapper builds its TypeMap
+ * there, which is what a registration request used to pay after a restart)
+ * and the steady-state time and allocation per mapping.
+ */
+public class MappingBenchmark {
+
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+
+    // Keeps results reachable so the JIT cannot drop the mapping calls
+    private static int sink;
+
+    public static void main(String[] args) {
+        HotelDTO hotelDTO = hotelDTO();
+        RoomTypeDTO roomTypeDTO = roomTypeDTO();
+        UserRegDTO userRegDTO = userRegDTO();
+        User user = user();
+
+        HotelMapper hotelMapper = new HotelMapper();
+        RoomTypeMapper roomTypeMapper = new RoomTypeMapper();
+        UserMapper userMapper = new UserMapper();
+
+        System.out.println("First call on a fresh mapper (us)");
+        ModelMapper fresh = modelMapper();
+        firstCall("HotelDTO -> Hotel", () -> fresh.map(hotelDTO, Hotel.class), () -> hotelMapper.toEntity(hotelDTO));
+        firstCall("RoomTypeDTO -> RoomType", () -> fresh.map(roomTypeDTO, RoomType.class),
+                () -> roomTypeMapper.toEntity(roomTypeDTO));
+        firstCall("UserRegDTO -> User", () -> fresh.map(userRegDTO, User.class),
+                () -> userMapper.toEntity(userRegDTO));
+        firstCall("User -> UserDTO", () -> fresh.map(user, UserDTO.class), () -> userMapper.toDto(user));
+
+        System.out.println();
+        System.out.println("Steady state (ns/op, bytes/op)");
+        ModelMapper modelMapper = modelMapper();
+        steady("HotelDTO -> Hotel", () -> modelMapper.map(hotelDTO, Hotel.class), () -> hotelMapper.toEntity(hotelDTO));
+        steady("RoomTypeDTO -> RoomType", () -> modelMapper.map(roomTypeDTO, RoomType.class),
+                () -> roomTypeMapper.toEntity(roomTypeDTO));
+        steady("UserRegDTO -> User", () -> modelMapper.map(userRegDTO, User.class),
+                () -> userMapper.toEntity(userRegDTO));
+        steady("User -> UserDTO", () -> modelMapper.map(user, UserDTO.class), () -> userMapper.toDto(user));
+
+        System.out.println("(sink " + sink + ")");
+    }
+
+    // Same configuration the application bean used
+    private static ModelMapper modelMapper() {
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.getConfiguration()
+                .setMatchingStrategy(MatchingStrategies.STRICT)
+                .setSkipNullEnabled(true);
+        return modelMapper;
+    }
+
+    private static void firstCall(String name, Supplier<Object> reflective, Supplier<Object> handWritten) {
+        long start = System.nanoTime();
+        sink += System.identityHashCode(reflective.get());
+        long reflectiveNs = System.nanoTime() - start;
+        start = System.nanoTime();
+        sink += System.identityHashCode(handWritten.get());
+        long handWrittenNs = System.nanoTime() - start;
+        System.out.printf("  %-24s ModelMapper %,10.1f   hand-written %,8.1f%n", name, reflectiveNs / 1e3,
+                handWrittenNs / 1e3);
+    }
+
+    private static void steady(String name, Supplier<Object> reflective, Supplier<Object> handWritten) {
+        long[] mm = measure(reflective);
+        long[] hw = measure(handWritten);
+        System.out.printf("  %-24s ModelMapper %,8d ns %,7d B   hand-written %,6d ns %,5d B%n", name, mm[0], mm[1],
+                hw[0], hw[1]);
+    }
+
+    private static long[] measure(Supplier<Object> mapping) {
+        for (int i = 0; i < WARMUP; i++) {
+            sink += System.identityHashCode(mapping.get());
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long allocStart = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += System.identityHashCode(mapping.get());
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocStart;
+        return new long[] { elapsed / ITERATIONS, allocated / ITERATIONS };
+    }
+
+    private static HotelDTO hotelDTO() {
+        HotelDTO dto = new HotelDTO();
+        dto.setName("Sea View Residency");
+        dto.setCity("Goa");
+        dto.setState("Goa");
+        dto.setAddress("12 Beach Road, Calangute");
+        dto.setDescription("Beachfront hotel");
+        dto.setStarRating(4);
+        dto.setWifi(true);
+        dto.setAc(true);
+        dto.setImages(List.of("https://example.com/a.jpg"));
+        dto.setLocation("Calangute, Goa");
+        dto.setDistance("1.2 km");
+        dto.setPriceRange("Rs 3000 - 6000");
+        return dto;
+    }
+
+    private static RoomTypeDTO roomTypeDTO() {
+        RoomTypeDTO dto = new RoomTypeDTO();
+        dto.setName("Deluxe");
+        dto.setDescription("Sea-facing room");
+        dto.setPricePerNight(new BigDecimal("4500.00"));
+        dto.setCapacity(2);
+        dto.setTotalRooms(10);
+        dto.setBeds("1 King");
+        dto.setAmenities(List.of("TV", "Mini bar"));
+        return dto;
+    }
+
+    private static UserRegDTO userRegDTO() {
+        UserRegDTO dto = new UserRegDTO();
+        dto.setFirstName("Asha");
+        dto.setLastName("Rao");
+        dto.setEmail("asha.rao@example.com");
+        dto.setPassword("secret123");
+        dto.setPhone("9876543210");
+        dto.setDob(LocalDate.of(1990, 5, 17));
+        dto.setAddress("221 MG Road, Bengaluru");
+        return dto;
+    }
+
+    private static User user() {
+        User user = new User("Asha", "Rao", "asha.rao@example.com", "hash", LocalDate.of(1990, 5, 17), 500,
+                "9876543210", "221 MG Road, Bengaluru");
+        user.setId(42L);
+        user.setUserRole(UserRole.ROLE_CUSTOMER);
+        user.setAccountStatus(AccountStatus.ACTIVE);
+        return user;
+    }
+}
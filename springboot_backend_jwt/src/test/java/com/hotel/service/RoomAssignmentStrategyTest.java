@@ -0,0 +1,98 @@
+package com.hotel.service;
+
+import static com.hotel.service.RoomNightCalendarTest.START;
+import static com.hotel.service.RoomNightCalendarTest.room;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class RoomAssignmentStrategyTest {
+
+    // Rooms 101..105; the stay is nights 4..6 (from 4, to 6)
+    private static final int FROM = 4;
+    private static final int TO = 6;
+
+    private static RoomNightCalendar calendar() {
+        RoomNightCalendar calendar = new RoomNightCalendar(START, START.plusDays(14),
+                List.of(room(1, "101"), room(2, "102"), room(3, "103"), room(4, "104"), room(5, "105")));
+        // 101: free around the stay on both sides
+        // 102: booked right up to check-in and from check-out - an exact fit
+        calendar.book(2L, START.plusDays(2), START.plusDays(4));
+        calendar.book(2L, START.plusDays(6), START.plusDays(8));
+        // 103: booked up to check-in only
+        calendar.book(3L, START.plusDays(1), START.plusDays(4));
+        // 104, 105: free
+        return calendar;
+    }
+
+    @Test
+    void firstFitTakesTheLowestRooms() {
+        RoomNightCalendar calendar = calendar();
+        List<Integer> free = calendar.freeRooms(FROM, TO);
+
+        assertEquals(List.of(0, 1), new FirstFitAssignment().choose(calendar, FROM, TO, free, 2));
+    }
+
+    @Test
+    void bestFitPrefersClosedGapsThenOneOpenSide() {
+        RoomNightCalendar calendar = calendar();
+        List<Integer> free = calendar.freeRooms(FROM, TO);
+
+        assertEquals(List.of(1), new BestFitAssignment().choose(calendar, FROM, TO, free, 1));
+        assertEquals(List.of(1, 2), new BestFitAssignment().choose(calendar, FROM, TO, free, 2));
+    }
+
+    @Test
+    void bestFitBreaksTiesByRoomNumber() {
+        RoomNightCalendar calendar = new RoomNightCalendar(START, START.plusDays(14),
+                List.of(room(1, "101"), room(2, "102")));
+
+        assertEquals(List.of(0), new BestFitAssignment().choose(calendar, FROM, TO, List.of(1, 0), 1));
+    }
+
+    @Test
+    void keepTogetherPicksTheTightestRun() {
+        RoomNightCalendar calendar = calendar();
+        // 101, 103, 104, 105 free: 103-105 is the only run without a hole
+        List<Integer> candidates = List.of(0, 2, 3, 4);
+
+        assertEquals(List.of(2, 3, 4), new KeepTogetherAssignment().choose(calendar, FROM, TO, candidates, 3));
+    }
+
+    @Test
+    void keepTogetherUsesBestFitCostBetweenEquallyTightRuns() {
+        RoomNightCalendar calendar = calendar();
+        List<Integer> free = calendar.freeRooms(FROM, TO);
+
+        // 101-102, 102-103, 103-104 and 104-105 are all adjacent; 102-103 fragments least
+        assertEquals(List.of(1, 2), new KeepTogetherAssignment().choose(calendar, FROM, TO, free, 2));
+    }
+
+    @Test
+    void zeroRoomsChoosesNothing() {
+        RoomNightCalendar calendar = calendar();
+        List<Integer> free = calendar.freeRooms(FROM, TO);
+
+        assertEquals(List.of(), new KeepTogetherAssignment().choose(calendar, FROM, TO, free, 0));
+        assertEquals(List.of(), assigner().choose(calendar, FROM, TO, free, 0));
+        assertEquals(List.of(), assigner().choose(calendar, FROM, TO, free, -1));
+    }
+
+    @Test
+    void assignerRejectsMoreRoomsThanCandidates() {
+        RoomNightCalendar calendar = calendar();
+
+        assertThrows(IllegalStateException.class,
+                () -> assigner().choose(calendar, FROM, TO, List.of(0, 1), 3));
+    }
+
+    private static RoomAssigner assigner() {
+        return new RoomAssigner(Map.of(BestFitAssignment.NAME, new BestFitAssignment(),
+                KeepTogetherAssignment.NAME, new KeepTogetherAssignment()),
+                BestFitAssignment.NAME, KeepTogetherAssignment.NAME, 30);
+    }
+}
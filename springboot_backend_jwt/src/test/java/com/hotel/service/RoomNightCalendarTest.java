@@ -0,0 +1,73 @@
+package com.hotel.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.hotel.entities.Room;
+
+class RoomNightCalendarTest {
+
+    static final LocalDate START = LocalDate.of(2026, 1, 1);
+
+    static Room room(long id, String number) {
+        Room room = new Room();
+        room.setId(id);
+        room.setRoomNumber(number);
+        return room;
+    }
+
+    @Test
+    void ordersRoomsByNumericRoomNumber() {
+        RoomNightCalendar calendar = new RoomNightCalendar(START, START.plusDays(10),
+                List.of(room(1, "1001"), room(2, "B1"), room(3, "102"), room(4, "101")));
+
+        assertEquals("101", calendar.room(0).getRoomNumber());
+        assertEquals("102", calendar.room(1).getRoomNumber());
+        assertEquals("1001", calendar.room(2).getRoomNumber());
+        assertEquals("B1", calendar.room(3).getRoomNumber());
+    }
+
+    @Test
+    void bookingIsClippedToTheWindowAndUnknownRoomsAreIgnored() {
+        RoomNightCalendar calendar = new RoomNightCalendar(START, START.plusDays(5), List.of(room(1, "101")));
+
+        calendar.book(1L, START.minusDays(2), START.plusDays(1));
+        calendar.book(1L, START.plusDays(4), START.plusDays(9));
+        calendar.book(99L, START, START.plusDays(5));
+
+        assertFalse(calendar.isFree(0, 0, 1));
+        assertTrue(calendar.isFree(0, 1, 4));
+        assertFalse(calendar.isFree(0, 4, 5));
+    }
+
+    @Test
+    void checkOutNightIsFree() {
+        RoomNightCalendar calendar = new RoomNightCalendar(START, START.plusDays(10),
+                List.of(room(1, "101"), room(2, "102")));
+        calendar.book(1L, START.plusDays(2), START.plusDays(4));
+
+        assertEquals(List.of(0, 1), calendar.freeRooms(4, 6));
+        assertEquals(List.of(0, 1), calendar.freeRooms(0, 2));
+        assertEquals(List.of(1), calendar.freeRooms(3, 5));
+    }
+
+    @Test
+    void gapsStopAtBookingsOrTheWindowEdges() {
+        RoomNightCalendar calendar = new RoomNightCalendar(START, START.plusDays(10), List.of(room(1, "101")));
+        calendar.book(1L, START.plusDays(1), START.plusDays(2));
+        calendar.book(1L, START.plusDays(7), START.plusDays(8));
+
+        assertEquals(2, calendar.gapBefore(0, 4));
+        assertEquals(3, calendar.gapAfter(0, 4));
+        assertEquals(0, calendar.gapBefore(0, 2));
+        assertEquals(0, calendar.gapAfter(0, 7));
+        assertEquals(2, calendar.gapAfter(0, 8));
+        assertEquals(1, calendar.gapBefore(0, 1));
+    }
+}